@@ -23,8 +23,10 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BackgroundSavingStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -56,8 +58,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = userPrefs.isAddressBookFileSharded()
+                ? new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isAddressBookFileCompact(), userPrefs.getAddressBookFileDurability())
+                : new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                        userPrefs.isAddressBookFileCompact(), userPrefs.getAddressBookFileDurability());
+        storage = new BackgroundSavingStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         initLogging(config);
 
@@ -174,6 +180,8 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        storage.flush();
+        storage.takeSaveError().ifPresent(e -> logger.severe("Failed to save data " + StringUtil.getDetails(e)));
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,22 @@
+package seedu.address.commons.core;
+
+import java.time.Duration;
+
+/**
+ * How often the data files are forced to the disk when they are saved, which trades the changes that can be lost when
+ * the computer stops, such as on a power cut, for the time a save takes.
+ * Whatever the policy, a data file is replaced in one move, so a save that is cut off never leaves it half written.
+ */
+public enum DurabilityPolicy {
+    /** Every save is forced to the disk before it is done. */
+    ALWAYS,
+    /**
+     * A save is forced to the disk if the last save that was is older than {@link #PERIODIC_SYNC_INTERVAL}, and is
+     * otherwise forced once that interval has passed.
+     */
+    PERIODIC,
+    /** Saves are left for the operating system to write to the disk when it sees fit. */
+    NEVER;
+
+    public static final Duration PERIODIC_SYNC_INTERVAL = Duration.ofSeconds(5);
+}
@@ -1,87 +1,98 @@
 package seedu.address.commons.core.index;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Generates a unique ID and increments the current ID.
+ * Generates unique ids in the order a, b, ..., z, aa, ab, ..., zz, aaa, ...
+ *
+ * Each id is the string form of a counter value, so generating an id takes constant time and is safe to do from
+ * several threads. Ids that are already in use, for example ids read from the data file, are reserved by moving
+ * the counter past them, so that they are never generated again.
  */
 public class UniqueIdGenerator {
 
     private static final char START = 'a';
-    private static final char BASE = 26;
-    private static final Set<UniqueId> storedIdOrder = new HashSet<>();
-    private static final Set<UniqueId> storedIdPet = new HashSet<>();
-    private final List<Character> currentId = new ArrayList<>();
+    private static final int BASE = 26;
 
-    /**
-     * Constructs a unique id generator starting from the base id.
-     */
-    public UniqueIdGenerator() {
-        currentId.add(START);
-    }
+    private final AtomicLong nextValue = new AtomicLong();
 
     /**
-     * Returns the current id and increments.
+     * Returns the next unused id.
      *
      * @return A unique ID.
      */
     public UniqueId next() {
-        StringBuilder sb = new StringBuilder();
-        currentId.forEach(x -> sb.insert(0, x));
-        String id = sb.toString();
-        increment();
-        return new UniqueId(id);
+        return new UniqueId(toIdString(nextValue.getAndIncrement()));
     }
 
     /**
-     * Adds a unique id to the storedIdPet
+     * Makes sure that {@code id} is never returned by {@link #next()}.
      */
-    public static boolean addToStoredIdPet(UniqueId id) {
-        return storedIdPet.add(id);
+    public void reserve(UniqueId id) {
+        requireNonNull(id);
+        long value = toValue(id.getIdToString());
+        if (value >= 0) {
+            nextValue.accumulateAndGet(value + 1, Math::max);
+        }
     }
 
     /**
-     * Checks if the storedIdPet set contains a given id.
+     * Returns the id string of the counter value {@code value}, where 0 is "a", 25 is "z" and 26 is "aa".
      */
-    public static boolean storedIdPetContains(UniqueId id) {
-        return storedIdPet.contains(id);
-    }
+    public static String toIdString(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Counter value must not be negative: " + value);
+        }
+        // Skips over all shorter ids to find the length of the id and its value among ids of that length.
+        int length = 1;
+        long idsOfLength = BASE;
+        while (value >= idsOfLength) {
+            value -= idsOfLength;
+            length++;
+            if (idsOfLength > Long.MAX_VALUE / BASE) {
+                break; // every remaining value has this length
+            }
+            idsOfLength *= BASE;
+        }
 
-    /**
-     * Adds a unique id to the storedIdOrder.
-     */
-    public static boolean addToStoredIdOrder(UniqueId id) {
-        return storedIdOrder.add(id);
+        char[] digits = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = (char) (START + value % BASE);
+            value /= BASE;
+        }
+        return new String(digits);
     }
 
     /**
-     * Checks if the storedIdOrder set contains a given id.
+     * Returns the counter value of the id string {@code id}, the inverse of {@link #toIdString(long)}.
+     * Returns -1 if {@code id} cannot be generated, that is, if it is empty, contains characters other than
+     * a to z, or is too long for the counter to ever reach.
      */
-    public static boolean storedIdOrderContains(UniqueId id) {
-        return storedIdOrder.contains(id);
-    }
-
+    public static long toValue(String id) {
+        requireNonNull(id);
+        if (id.isEmpty()) {
+            return -1;
+        }
 
-    private void increment() {
-        int idx = 0;
-        boolean carry = false;
-        do {
-            char cur = currentId.get(idx);
-            cur += 1;
-            if (cur == START + BASE) {
-                carry = true;
-                cur = START;
+        long value = 0;
+        long shorterIds = 0;
+        long idsOfLength = BASE;
+        for (int i = 0; i < id.length(); i++) {
+            char digit = id.charAt(i);
+            if (digit < START || digit >= START + BASE) {
+                return -1;
             }
-            currentId.set(idx, cur);
-            if (carry) {
-                idx++;
+            if (i > 0) {
+                if (idsOfLength > (Long.MAX_VALUE - shorterIds - idsOfLength) / BASE) {
+                    return -1;
+                }
+                shorterIds += idsOfLength;
+                idsOfLength *= BASE;
             }
-        } while (carry && idx < currentId.size());
-        if (carry && idx == currentId.size()) {
-            currentId.add(START);
+            value = value * BASE + (digit - START);
         }
+        return shorterIds + value;
     }
 }
@@ -2,9 +2,14 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +37,21 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the elements of {@code items} whose key, as given by {@code keyMapper}, is already taken by an earlier
+     * element, in encounter order. Every key is hashed once, so the check runs in linear time.
+     */
+    public static <T, K> List<T> findDuplicates(Collection<? extends T> items,
+                                                Function<? super T, ? extends K> keyMapper) {
+        requireAllNonNull(items, keyMapper);
+        Set<K> seenKeys = new HashSet<>();
+        List<T> duplicates = new ArrayList<>();
+        for (T item : items) {
+            if (!seenKeys.add(keyMapper.apply(item))) {
+                duplicates.add(item);
+            }
+        }
+        return duplicates;
+    }
 }
@@ -1,17 +1,35 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String COMPRESSED_FILE_SUFFIX = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+    /** The quickest level, as the data compresses well enough at it, while higher levels take twice the time. */
+    private static final int COMPRESSION_LEVEL = Deflater.BEST_SPEED;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -77,7 +95,134 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, output -> output.write(content.getBytes(CHARSET)), false);
+    }
+
+    /**
+     * Replaces {@code file} with what {@code writer} writes, in one move, so that the file is either as it was or
+     * holds all of the new content, even if the application or the computer stops in the middle.
+     * The content is written to a temporary file next to {@code file} first, which is then moved over it.
+     *
+     * @param isSyncing whether the content, and then the move, are forced to the disk before this returns, so that
+     *     they are kept even if the computer stops right after.
+     * @throws IOException if the content cannot be written or moved, in which case {@code file} is left as it was.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer, boolean isSyncing) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileOutputStream output = new FileOutputStream(tempFile.toFile())) {
+                // The writer may close the stream it is given, which must stay open until it is forced to the disk
+                writer.write(new FilterOutputStream(output) {
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        out.write(bytes, offset, length);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                });
+                if (isSyncing) {
+                    output.getChannel().force(true);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (isSyncing) {
+            syncDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Forces the content of {@code file}, and then its entry in its directory, to the disk, as
+     * {@link #writeAtomically(Path, ContentWriter, boolean)} does when it is syncing.
+     * Does nothing if there is no file there anymore, such as when it was deleted since it was written.
+     */
+    public static void forceToDisk(Path file) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+        syncDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Forces the entries of {@code directory}, such as a file that was moved into it, to the disk.
+     * This is skipped on the systems that cannot open a directory, such as Windows, which keep the entries of a
+     * directory along with the files.
+     */
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Returns whether the files written to {@code file} are compressed, which they are if its name ends with
+     * {@link #COMPRESSED_FILE_SUFFIX}.
+     */
+    public static boolean isCompressedFile(Path file) {
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns a writer that writes what {@code writer} writes compressed in the GZIP format, as it is written.
+     */
+    public static ContentWriter compressing(ContentWriter writer) {
+        return output -> {
+            try (GZIPOutputStream compressedOutput = new QuickGzipOutputStream(output)) {
+                writer.write(compressedOutput);
+            }
+        };
+    }
+
+    /**
+     * Returns a stream of the content of {@code input}, decompressed as it is read if it is in the GZIP format, which
+     * is told from its first bytes rather than from the name of its file.
+     */
+    public static InputStream decompressIfCompressed(InputStream input) throws IOException {
+        BufferedInputStream bufferedInput = new BufferedInputStream(input, COMPRESSION_BUFFER_SIZE);
+        bufferedInput.mark(2);
+        int magic = bufferedInput.read() | bufferedInput.read() << 8;
+        bufferedInput.reset();
+        if (magic == GZIPInputStream.GZIP_MAGIC) {
+            return new GZIPInputStream(bufferedInput, COMPRESSION_BUFFER_SIZE);
+        }
+        return bufferedInput;
+    }
+
+    /**
+     * A {@code GZIPOutputStream} that compresses at {@link #COMPRESSION_LEVEL}.
+     */
+    private static class QuickGzipOutputStream extends GZIPOutputStream {
+        QuickGzipOutputStream(OutputStream output) throws IOException {
+            super(output, COMPRESSION_BUFFER_SIZE);
+            def.setLevel(COMPRESSION_LEVEL);
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream output) throws IOException;
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +12,12 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -40,12 +43,39 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
     }
 
+    /**
+     * Writes {@code objectToSerialize} to {@code jsonFile} as it is turned into JSON, through the buffer of a
+     * {@code JsonGenerator}, so the whole JSON string is never held in memory.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, isCompact, false);
+    }
+
+    /**
+     * Similar to {@link #serializeObjectToJsonFile(Path, Object, boolean)}.
+     * The file is replaced in one move by {@link FileUtil#writeAtomically}, and is compressed as it is written if
+     * its name ends with {@link FileUtil#COMPRESSED_FILE_SUFFIX}.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact, boolean isSyncing)
+            throws IOException {
+        ObjectWriter writer = isCompact ? objectMapper.writer() : objectMapper.writerWithDefaultPrettyPrinter();
+        FileUtil.ContentWriter contentWriter = outputStream -> writer.writeValue(outputStream, objectToSerialize);
+        FileUtil.writeAtomically(jsonFile,
+                FileUtil.isCompressedFile(jsonFile) ? FileUtil.compressing(contentWriter) : contentWriter, isSyncing);
+    }
+
+    /**
+     * Reads {@code jsonFile} as it is turned into an object, decompressing it first if it is compressed.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = FileUtil.decompressIfCompressed(Files.newInputStream(jsonFile))) {
+            return objectMapper.readValue(inputStream, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -84,10 +114,29 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isCompact whether the Json is written on a single line, without indentation, which makes the file
+     *     smaller and quicker to write.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
+        saveJsonFile(jsonFile, filePath, isCompact, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, boolean)}.
+     * The file is replaced in one move, so it is never left half written.
+     * @param isSyncing whether the file is forced to the disk before this returns.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact, boolean isSyncing)
+            throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact, isSyncing);
     }
 
 
@@ -100,6 +149,16 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser that reads the JSON data in {@code inputStream} token by token, so that large data need not be
+     * read into memory at once. Values read with the parser's {@code readValueAs} are converted the same way as in
+     * {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -110,6 +169,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
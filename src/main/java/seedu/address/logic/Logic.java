@@ -86,4 +86,15 @@ public interface Logic {
      * Switches to supplier list.
      */
     void switchToSupplier();
+
+    /**
+     * Returns the number of commands after which the address book was saved.
+     */
+    long getSaveCount();
+
+    /**
+     * Returns the number of commands after which saving was skipped, as the address book had not changed since it
+     * was last saved.
+     */
+    long getSkippedSaveCount();
 }
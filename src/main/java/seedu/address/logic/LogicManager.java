@@ -2,7 +2,10 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,7 @@ import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Deliverer;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.StandingOrderMatch;
 import seedu.address.storage.Storage;
 
 /**
@@ -30,19 +34,29 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_STANDING_ORDER_MATCHES = "New pets for watched orders:";
+    public static final String MESSAGE_STANDING_ORDER_MATCH = "%1$s scores %2$.1f for %3$s";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** The address book saved last, or null if it has to be saved after the next command. */
+    private ReadOnlyAddressBook savedAddressBook;
+    private long savedModificationCount;
+    private long saveCount;
+    private long skippedSaveCount;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book of {@code model} is taken to hold the data read last from {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.trackAddressBook(model.getAddressBook());
     }
 
     @Override
@@ -51,26 +65,78 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
+        commandResult = executeWithStandingOrderMatches(command);
+        saveAddressBookIfChanged();
 
-        return commandResult;
+        return withSaveError(commandResult);
     }
 
     @Override
     public CommandResult executeGivenCommand(Command command) throws CommandException {
-        CommandResult commandResult = command.execute(model);
+        CommandResult commandResult = executeWithStandingOrderMatches(command);
+        saveAddressBookIfChanged();
+        return withSaveError(commandResult);
+    }
+
+    /**
+     * Saves the address book, unless it is the address book saved last and has not changed since.
+     */
+    private void saveAddressBookIfChanged() throws CommandException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long modificationCount = addressBook.getModificationCount();
+        if (addressBook == savedAddressBook && modificationCount == savedModificationCount) {
+            skippedSaveCount++;
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(addressBook);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-        return commandResult;
+        savedAddressBook = addressBook;
+        savedModificationCount = modificationCount;
+        saveCount++;
+    }
+
+    /**
+     * Executes {@code command}, and adds the pets flagged for watched orders while it was executed to its feedback.
+     */
+    private CommandResult executeWithStandingOrderMatches(Command command) throws CommandException {
+        CommandResult commandResult;
+        List<StandingOrderMatch> matches;
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            // The matches found by a command that fails are dropped with it, not shown by the next command.
+            matches = model.takeStandingOrderMatches();
+        }
+        if (matches.isEmpty()) {
+            return commandResult;
+        }
+        StringBuilder feedback = new StringBuilder(commandResult.getFeedbackToUser())
+                .append("\n").append(MESSAGE_STANDING_ORDER_MATCHES);
+        for (StandingOrderMatch match : matches) {
+            feedback.append("\n").append(String.format(MESSAGE_STANDING_ORDER_MATCH, match.getPet().getName(),
+                    match.getScore(), match.getOrder().getDescription()));
+        }
+        return commandResult.withFeedbackToUser(feedback.toString());
+    }
+
+    /**
+     * Adds the error of an earlier save that failed after the command that made it returned, such as a save written
+     * in the background, to the feedback of {@code commandResult}. The address book is then saved again after the
+     * next command, even if it does not change.
+     */
+    private CommandResult withSaveError(CommandResult commandResult) {
+        Optional<IOException> saveError = storage.takeSaveError();
+        if (saveError.isEmpty()) {
+            return commandResult;
+        }
+        savedAddressBook = null;
+        return commandResult.withFeedbackToUser(commandResult.getFeedbackToUser() + "\n"
+                + FILE_OPS_ERROR_MESSAGE + saveError.get());
     }
 
     @Override
@@ -100,11 +166,10 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Order> getOrderAsObservableListFromBuyer(Buyer buyer) {
-        List<UniqueId> ids = buyer.getOrderIds();
+        Set<UniqueId> ids = new HashSet<>(buyer.getOrderIds());
         List<Order> filteredOrders = model.getFilteredOrderList();
         List<Order> ordersFromBuyer = filteredOrders.stream()
-                .filter(order -> ids.stream()
-                        .anyMatch(order::hasId))
+                .filter(order -> ids.contains(order.getId()))
                 .collect(Collectors.toList());
 
         return FXCollections.observableList(ordersFromBuyer);
@@ -112,11 +177,10 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Order> getOrderAsObservableListFromDeliverer(Deliverer deliverer) {
-        List<UniqueId> ids = deliverer.getOrders();
+        Set<UniqueId> ids = new HashSet<>(deliverer.getOrders());
         List<Order> filteredOrders = model.getFilteredOrderList();
         List<Order> ordersFromDeliverer = filteredOrders.stream()
-                .filter(order -> ids.stream()
-                        .anyMatch(order::hasId))
+                .filter(order -> ids.contains(order.getId()))
                 .collect(Collectors.toList());
 
         return FXCollections.observableList(ordersFromDeliverer);
@@ -124,11 +188,10 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Pet> getPetAsObservableListFromSupplier(Supplier supplier) {
-        List<UniqueId> ids = supplier.getPetIds();
+        Set<UniqueId> ids = new HashSet<>(supplier.getPetIds());
         List<Pet> filteredPets = model.getFilteredPetList();
         List<Pet> petsFromSupplier = filteredPets.stream()
-                .filter(pet -> ids.stream()
-                        .anyMatch(pet::hasId))
+                .filter(pet -> ids.contains(pet.getId()))
                 .collect(Collectors.toList());
         return FXCollections.observableList(petsFromSupplier);
     }
@@ -142,4 +205,14 @@ public class LogicManager implements Logic {
     public void switchToSupplier() {
         model.switchToSupplierList();
     }
+
+    @Override
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    @Override
+    public long getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
 }
@@ -106,6 +106,17 @@ public class CommandResult {
                 addType);
     }
 
+    /**
+     * Returns a copy of this {@code CommandResult} with {@code feedbackToUser} in place of its feedback.
+     */
+    public CommandResult withFeedbackToUser(String feedbackToUser) {
+        return new CommandResult(feedbackToUser,
+                isHelpShown,
+                isExit,
+                isAddedByPopup,
+                addType);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderStatus;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetAssigner;
+
+/**
+ * Assigns the best fitting pet to every pending or negotiating order, giving each pet to at most one order.
+ *
+ * Matching many orders against many pets takes a while, so it is done in the background. The first use of the
+ * command starts the matching, and a later use shows the pets assigned to the orders once it is done.
+ */
+public class MatchAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "match-all";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Assigns the best fitting pet to every pending or negotiating order, "
+            + "giving each pet to at most one order. The matching is done in the background. "
+            + "Enter the command again to see the result.\n"
+            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_STARTED = "Matching %1$d orders to %2$d pets in the background. "
+            + "Enter " + COMMAND_WORD + " again to see the result.";
+    public static final String MESSAGE_IN_PROGRESS = "Still matching orders to pets in the background. "
+            + "Enter " + COMMAND_WORD + " again later to see the result.";
+    public static final String MESSAGE_SUCCESS = "Matched %1$d orders to pets.";
+    public static final String MESSAGE_FAILURE = "Matching orders to pets failed: %1$s";
+
+    /** The number of assignments that are listed in the result message. The rest are only shown in the list. */
+    private static final int LISTED_ASSIGNMENTS = 20;
+    private static final Logger LOGGER = LogsCenter.getLogger(MatchAllCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<CompletableFuture<Map<Order, Pet>>> petAssignment = model.getPetAssignment();
+        if (petAssignment.isEmpty()) {
+            return startMatching(model);
+        }
+        if (!petAssignment.get().isDone()) {
+            return new CommandResult(MESSAGE_IN_PROGRESS);
+        }
+
+        model.setPetAssignment(null);
+        Map<Order, Pet> assignment;
+        try {
+            assignment = petAssignment.get().join();
+        } catch (CompletionException e) {
+            LOGGER.warning("Matching orders to pets failed: " + e.getCause());
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getCause().getMessage()));
+        }
+        return showAssignment(model, assignment);
+    }
+
+    /**
+     * Starts matching a copy of the pending and negotiating orders to a copy of all pets, in the background.
+     */
+    private CommandResult startMatching(Model model) {
+        List<Order> orders = model.getAddressBook().getOrderList().stream()
+                .filter(order -> order.getOrderStatus() == OrderStatus.PENDING
+                        || order.getOrderStatus() == OrderStatus.NEGOTIATING)
+                .collect(Collectors.toList());
+        List<Pet> pets = new ArrayList<>(model.getAddressBook().getPetList());
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        model.setPetAssignment(CompletableFuture.supplyAsync(() -> new PetAssigner(pool).assign(orders, pets), pool));
+        LOGGER.info("Started matching " + orders.size() + " orders to " + pets.size() + " pets");
+        return new CommandResult(String.format(MESSAGE_STARTED, orders.size(), pets.size()));
+    }
+
+    /**
+     * Shows the assigned pets, skipping the orders and pets that were deleted while the matching was done.
+     */
+    private CommandResult showAssignment(Model model, Map<Order, Pet> assignment) {
+        Map<Order, Pet> currentAssignment = new LinkedHashMap<>();
+        assignment.forEach((order, pet) -> {
+            if (model.hasOrder(order) && model.hasPet(pet)) {
+                currentAssignment.put(order, pet);
+            }
+        });
+
+        model.switchToMatchedPetList(new ArrayList<>(currentAssignment.values()));
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, currentAssignment.size()));
+        currentAssignment.entrySet().stream().limit(LISTED_ASSIGNMENTS).forEach(entry -> feedback.append("\n")
+                .append(entry.getKey().getDescription()).append(": ").append(entry.getValue().getName()));
+        if (currentAssignment.size() > LISTED_ASSIGNMENTS) {
+            feedback.append("\n... and ").append(currentAssignment.size() - LISTED_ASSIGNMENTS).append(" more");
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof MatchAllCommand; // instanceof handles nulls
+    }
+}
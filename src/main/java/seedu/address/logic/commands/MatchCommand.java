@@ -1,12 +1,8 @@
 package seedu.address.logic.commands;
 
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.logging.Logger;
+import java.util.List;
 
 import javafx.collections.ObservableList;
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -22,22 +18,36 @@ public class MatchCommand extends Command {
 
     public static final String COMMAND_WORD = "match";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Matches pets given an order, based on how pets fit the request."
+            + ": Matches pets given an order, based on how pets fit the request. "
+            + "If COUNT is given, only the COUNT best fitting pets are shown, and the pet list is not reordered.\n"
             + "Parameters: "
-            + "match " + " INDEX\n"
+            + "match " + " INDEX [COUNT]\n"
             + "Example: "
-            + "match " + " 1\n";
+            + "match " + " 1 10\n";
     public static final String MESSAGE_SUCCESS = "Matched pets given the order. ";
+    public static final String MESSAGE_BEST_MATCHES_SUCCESS = "Showing the %1$d best matched pets given the order.";
 
-    private static final Logger LOGGER = LogsCenter.getLogger(MatchCommand.class);
+    private static final int ALL_PETS = 0;
     private final Index index;
+    private final int count;
 
     /**
-     * Constructs a MatchCommand object.
+     * Constructs a MatchCommand object that sorts the whole pet list.
      * @param index The index of the Order that needs to be matched to Pets.
      */
     public MatchCommand(Index index) {
         this.index = index;
+        this.count = ALL_PETS;
+    }
+
+    /**
+     * Constructs a MatchCommand object that shows only the best fitting pets, without reordering the pet list.
+     * @param index The index of the Order that needs to be matched to Pets.
+     * @param count The number of pets to show.
+     */
+    public MatchCommand(Index index, int count) {
+        this.index = index;
+        this.count = count;
     }
 
     /**
@@ -50,7 +60,6 @@ public class MatchCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         ObservableList<Object> currList = model.getFilteredCurrList();
-        ObservableList<Pet> petList = model.getFilteredPetList();
 
         if (index.getZeroBased() >= currList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
@@ -65,20 +74,13 @@ public class MatchCommand extends Command {
 
         PetGrader grader = new PetGrader(order);
 
-        Map<Pet, Double> petScoreMap = new HashMap<>();
-        petList.forEach(x -> petScoreMap.put(x, grader.evaluate(x)));
-        Comparator<Pet> comparator = (x, y) -> {
-            if (!petScoreMap.containsKey(y)) {
-                LOGGER.warning(y.getName() + "'s score is not in the map.");
-            }
-            if (!petScoreMap.containsKey(x)) {
-                LOGGER.warning(x.getName() + "'s score is not in the map.");
-            }
-            return Double.compare(petScoreMap.getOrDefault(y, 0.0),
-                    petScoreMap.getOrDefault(x, 0.0));
-        };
-
-        model.sortPet(comparator);
+        if (count != ALL_PETS) {
+            List<Pet> bestMatches = model.findBestMatchingPets(grader, count);
+            model.switchToMatchedPetList(bestMatches);
+            return new CommandResult(String.format(MESSAGE_BEST_MATCHES_SUCCESS, bestMatches.size()));
+        }
+
+        model.sortPetsByMatch(grader);
         model.switchToPetList();
 
         return new CommandResult(MESSAGE_SUCCESS);
@@ -88,6 +90,7 @@ public class MatchCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof MatchCommand // instanceof handles nulls
-                && index.equals(((MatchCommand) other).index)); // state check
+                && index.equals(((MatchCommand) other).index) // state check
+                && count == ((MatchCommand) other).count);
     }
 }
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+
+/**
+ * Stops watching the pet list for an order.
+ */
+public class UnwatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "unwatch";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Stops watching the pet list for an order.\n"
+            + "Parameters: "
+            + COMMAND_WORD + " INDEX\n"
+            + "Example: "
+            + COMMAND_WORD + " 1\n";
+    public static final String MESSAGE_SUCCESS = "Stopped watching the pet list for the order.";
+    public static final String MESSAGE_NOT_WATCHED = "The pet list is not being watched for the order.";
+
+    private final Index index;
+
+    /**
+     * Constructs an UnwatchCommand object.
+     * @param index The index of the Order to stop watching the pet list for.
+     */
+    public UnwatchCommand(Index index) {
+        this.index = index;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Order order = WatchCommand.getOrder(model, index);
+        if (!model.unwatchOrder(order)) {
+            throw new CommandException(MESSAGE_NOT_WATCHED);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UnwatchCommand // instanceof handles nulls
+                && index.equals(((UnwatchCommand) other).index)); // state check
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+import seedu.address.model.pet.StandingOrderMatcher;
+
+/**
+ * Watches the pet list for an order, so that pets that are added or changed later and fit the order well are
+ * shown right away.
+ */
+public class WatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "watch";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Watches the pet list for a pending or negotiating order. "
+            + "Whenever a pet that is added or changed scores at least MIN_SCORE for the order, it is shown "
+            + "after the command that added or changed it.\n"
+            + "Parameters: "
+            + COMMAND_WORD + " INDEX MIN_SCORE\n"
+            + "Example: "
+            + COMMAND_WORD + " 1 600\n";
+    public static final String MESSAGE_SUCCESS = "Watching the pet list for pets that score at least %1$.1f "
+            + "for the order.";
+
+    private final Index index;
+    private final double minScore;
+
+    /**
+     * Constructs a WatchCommand object.
+     * @param index The index of the Order to watch the pet list for.
+     * @param minScore The lowest score of the pets to show.
+     */
+    public WatchCommand(Index index, double minScore) {
+        this.index = index;
+        this.minScore = minScore;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Order order = getOrder(model, index);
+        if (!StandingOrderMatcher.isOpen(order)) {
+            throw new CommandException(StandingOrderMatcher.MESSAGE_CONSTRAINTS);
+        }
+
+        model.watchOrder(order, minScore);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, minScore));
+    }
+
+    /**
+     * Returns the order at {@code index} of the displayed list.
+     */
+    static Order getOrder(Model model, Index index) throws CommandException {
+        ObservableList<Object> currList = model.getFilteredCurrList();
+        if (index.getZeroBased() >= currList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Object o = currList.get(index.getZeroBased());
+        if (!(o instanceof Order)) {
+            throw new CommandException(String.format(Messages.INVALID_ORDER, index.getOneBased()));
+        }
+        return (Order) o;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WatchCommand // instanceof handles nulls
+                && index.equals(((WatchCommand) other).index) // state check
+                && Double.compare(minScore, ((WatchCommand) other).minScore) == 0);
+    }
+}
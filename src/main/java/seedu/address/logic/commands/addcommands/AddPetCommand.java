@@ -14,6 +14,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PET_VACCINATION_STATUS
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PET_WEIGHT;
 
 import java.util.Collections;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.Messages;
@@ -22,11 +23,12 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.order.Order;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.pet.Pet;
 
 /**
- * Adds a pet to the address book.
+ * Adds a pet to the address book, and shows the pending and negotiating orders that the pet fits best.
  */
 public class AddPetCommand extends Command {
     public static final String COMMAND_WORD = "add-p";
@@ -78,6 +80,11 @@ public class AddPetCommand extends Command {
 
     public static final String MESSAGE_FAILURE = "Unable to execute AddPetCommand.";
 
+    public static final String MESSAGE_MATCHING_ORDERS = "This pet fits these orders best:";
+
+    /** The number of best fitting orders that are listed after the pet is added. */
+    private static final int LISTED_ORDERS = 3;
+
     private final Index index;
     private final Pet toAdd;
 
@@ -123,7 +130,14 @@ public class AddPetCommand extends Command {
         toAdd.setSupplier(associatedSupplier);
         model.addPet(toAdd);
         model.switchToSupplierList();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, toAdd));
+        List<Order> bestOrders = model.findBestMatchingOrders(toAdd, LISTED_ORDERS);
+        if (!bestOrders.isEmpty()) {
+            feedback.append("\n").append(MESSAGE_MATCHING_ORDERS);
+            bestOrders.forEach(order -> feedback.append("\n").append(order.getDescription()));
+        }
+        return new CommandResult(feedback.toString());
     }
 
     @Override
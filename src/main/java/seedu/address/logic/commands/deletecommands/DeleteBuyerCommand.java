@@ -54,12 +54,19 @@ public class DeleteBuyerCommand extends DeleteCommand {
 
         Buyer personToDelete = (Buyer) o;
 
-        model.deleteBuyer(personToDelete);
-
-        List<Order> ordersFromBuyer = model.getOrdersFromBuyer(personToDelete);
-
-        for (Order order: ordersFromBuyer) {
-            model.deleteOrder(order);
+        model.beginBatch();
+        try {
+            model.deleteBuyer(personToDelete);
+
+            List<Order> ordersFromBuyer = model.getOrdersFromBuyer(personToDelete);
+
+            for (Order order : ordersFromBuyer) {
+                model.deleteOrder(order);
+            }
+            model.commitBatch();
+        } catch (RuntimeException e) {
+            model.rollbackBatch();
+            throw e;
         }
         model.switchToBuyerList();
         return new CommandResult(String.format(MESSAGE_DELETE_BUYER_SUCCESS, personToDelete));
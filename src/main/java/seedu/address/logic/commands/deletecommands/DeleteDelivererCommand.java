@@ -55,12 +55,19 @@ public class DeleteDelivererCommand extends DeleteCommand {
 
         Deliverer personToDelete = (Deliverer) o;
 
-        model.deleteDeliverer(personToDelete);
-
-        List<Order> ordersFromDeliverer = model.getOrdersFromDeliverer(personToDelete);
-
-        for (Order order: ordersFromDeliverer) {
-            model.deleteOrder(order);
+        model.beginBatch();
+        try {
+            model.deleteDeliverer(personToDelete);
+
+            List<Order> ordersFromDeliverer = model.getOrdersFromDeliverer(personToDelete);
+
+            for (Order order : ordersFromDeliverer) {
+                model.deleteOrder(order);
+            }
+            model.commitBatch();
+        } catch (RuntimeException e) {
+            model.rollbackBatch();
+            throw e;
         }
         model.switchToDelivererList();
         return new CommandResult(String.format(MESSAGE_DELETE_DELIVERER_SUCCESS, personToDelete));
@@ -54,12 +54,19 @@ public class DeleteSupplierCommand extends DeleteCommand {
 
         Supplier personToDelete = (Supplier) o;
 
-        model.deleteSupplier(personToDelete);
-
-        List<Pet> petsFromSupplier = model.getPetsFromSupplier(personToDelete);
-
-        for (Pet pet : petsFromSupplier) {
-            model.deletePet(pet);
+        model.beginBatch();
+        try {
+            model.deleteSupplier(personToDelete);
+
+            List<Pet> petsFromSupplier = model.getPetsFromSupplier(personToDelete);
+
+            for (Pet pet : petsFromSupplier) {
+                model.deletePet(pet);
+            }
+            model.commitBatch();
+        } catch (RuntimeException e) {
+            model.rollbackBatch();
+            throw e;
         }
         model.switchToSupplierList();
         return new CommandResult(String.format(MESSAGE_DELETE_SUPPLIER_SUCCESS, personToDelete));
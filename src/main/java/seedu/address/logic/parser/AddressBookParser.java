@@ -10,7 +10,10 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.MatchAllCommand;
 import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.commands.WatchCommand;
 import seedu.address.logic.commands.addcommands.AddBuyerCommand;
 import seedu.address.logic.commands.addcommands.AddCommandWithPopup;
 import seedu.address.logic.commands.addcommands.AddDelivererCommand;
@@ -173,6 +176,15 @@ public class AddressBookParser {
         case MatchCommand.COMMAND_WORD:
             return new MatchCommandParser().parse(arguments);
 
+        case MatchAllCommand.COMMAND_WORD:
+            return new MatchAllCommand();
+
+        case WatchCommand.COMMAND_WORD:
+            return new WatchCommandParser().parse(arguments);
+
+        case UnwatchCommand.COMMAND_WORD:
+            return new UnwatchCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
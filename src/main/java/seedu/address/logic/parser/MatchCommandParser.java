@@ -4,6 +4,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_MISSING_INDEX;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.MatchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -35,9 +36,15 @@ public class MatchCommandParser implements Parser<MatchCommand> {
                     MESSAGE_MISSING_INDEX + MatchCommand.MESSAGE_USAGE));
         }
 
-        String indexStr = preamble.split(" ")[0];
-        Index index = ParserUtil.parseIndex(indexStr);
+        String[] args = preamble.trim().split("\\s+");
+        Index index = ParserUtil.parseIndex(args[0]);
+        if (args.length == 1) {
+            return new MatchCommand(index);
+        }
 
-        return new MatchCommand(index);
+        if (args.length > 2 || !StringUtil.isNonZeroUnsignedInteger(args[1])) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE));
+        }
+        return new MatchCommand(index, Integer.parseInt(args[1]));
     }
 }
@@ -467,7 +467,7 @@ public class ParserUtil {
         Price lower = parsePrice(splitPrices[0]);
         Price upper = parsePrice(splitPrices[1]);
 
-        if ((!upper.isNotApplicablePrice()) && upper.compareTo(lower) < 0) {
+        if (!PriceRange.isValidPriceRange(lower, upper)) {
             throw new ParseException(PriceRange.MESSAGE_USAGE);
         }
 
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_MISSING_INDEX;
+
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses user input to create an {@code UnwatchCommand}.
+ */
+public class UnwatchCommandParser implements Parser<UnwatchCommand> {
+
+    /**
+     * Parses {@code userInput} into a command and returns it.
+     *
+     * @param userInput The string input by the user
+     * @throws ParseException if {@code userInput} does not conform the expected format.
+     */
+    @Override
+    public UnwatchCommand parse(String userInput) throws ParseException {
+        if (userInput.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MESSAGE_MISSING_INDEX + UnwatchCommand.MESSAGE_USAGE));
+        }
+        return new UnwatchCommand(ParserUtil.parseIndex(userInput.trim()));
+    }
+}
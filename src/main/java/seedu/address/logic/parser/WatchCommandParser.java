@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_MISSING_INDEX;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.WatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses user input to create a {@code WatchCommand}.
+ */
+public class WatchCommandParser implements Parser<WatchCommand> {
+
+    /**
+     * Parses {@code userInput} into a command and returns it.
+     *
+     * @param userInput The string input by the user
+     * @throws ParseException if {@code userInput} does not conform the expected format.
+     */
+    @Override
+    public WatchCommand parse(String userInput) throws ParseException {
+        String preamble = ArgumentTokenizer.tokenize(userInput).getPreamble();
+        if (preamble.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MESSAGE_MISSING_INDEX + WatchCommand.MESSAGE_USAGE));
+        }
+
+        String[] args = preamble.trim().split("\\s+");
+        Index index = ParserUtil.parseIndex(args[0]);
+        if (args.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WatchCommand.MESSAGE_USAGE));
+        }
+
+        double minScore;
+        try {
+            minScore = Double.parseDouble(args[1]);
+        } catch (NumberFormatException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WatchCommand.MESSAGE_USAGE), e);
+        }
+        if (!Double.isFinite(minScore)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, WatchCommand.MESSAGE_USAGE));
+        }
+        return new WatchCommand(index, minScore);
+    }
+}
@@ -2,8 +2,15 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.UniqueId;
@@ -16,6 +23,8 @@ import seedu.address.model.person.UniqueBuyerList;
 import seedu.address.model.person.UniqueDelivererList;
 import seedu.address.model.person.UniqueSupplierList;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
+import seedu.address.model.pet.PetMatcher;
 import seedu.address.model.pet.UniquePetList;
 
 /**
@@ -29,6 +38,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueDelivererList deliverers;
     private final UniquePetList pets;
     private final UniqueOrderList orders;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -63,22 +73,27 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setBuyers(List<Buyer> persons) {
         this.buyers.setPersons(persons);
+        modificationCount++;
     }
 
     public void setSuppliers(List<Supplier> persons) {
         this.suppliers.setPersons(persons);
+        modificationCount++;
     }
 
     public void setDeliverers(List<Deliverer> persons) {
         this.deliverers.setPersons(persons);
+        modificationCount++;
     }
 
     public void setPets(List<Pet> pets) {
         this.pets.setPets(pets);
+        modificationCount++;
     }
 
     public void setOrders(List<Order> orders) {
         this.orders.setOrders(orders);
+        modificationCount++;
     }
 
     /**
@@ -129,6 +144,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return pets.contains(pet);
     }
 
+    /**
+     * Returns the pet in the address book with the same identity as {@code pet}, if there is one.
+     */
+    public Optional<Pet> getSamePet(Pet pet) {
+        requireNonNull(pet);
+        return pets.getSamePet(pet);
+    }
+
     /**
      * Returns true if a person with the same identity as {@code Order} exists in the address book.
      */
@@ -143,22 +166,56 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addBuyer(Buyer p) {
         buyers.add(p);
+        modificationCount++;
     }
 
     public void addSupplier(Supplier p) {
         suppliers.add(p);
+        modificationCount++;
     }
 
     public void addDeliverer(Deliverer p) {
         deliverers.add(p);
+        modificationCount++;
     }
 
     public void addOrder(Order p) {
         orders.add(p);
+        modificationCount++;
     }
 
     public void addPet(Pet p) {
         pets.add(p);
+        modificationCount++;
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index} of its list, e.g. to put back a person that was
+     * removed from that position. The person must not already exist in the address book.
+     */
+    public void addBuyer(int index, Buyer p) {
+        buyers.add(index, p);
+        modificationCount++;
+    }
+
+    public void addSupplier(int index, Supplier p) {
+        suppliers.add(index, p);
+        modificationCount++;
+    }
+
+    public void addDeliverer(int index, Deliverer p) {
+        deliverers.add(index, p);
+        modificationCount++;
+    }
+
+    public void addOrder(int index, Order p) {
+        orders.add(index, p);
+        modificationCount++;
+    }
+
+    public void addPet(int index, Pet p) {
+        pets.add(index, p);
+        modificationCount++;
     }
 
     /**
@@ -170,30 +227,35 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedBuyer);
 
         buyers.setPerson(target, editedBuyer);
+        modificationCount++;
     }
 
     public void setSupplier(Supplier target, Supplier editedSupplier) {
         requireNonNull(editedSupplier);
 
         suppliers.setPerson(target, editedSupplier);
+        modificationCount++;
     }
 
     public void setDeliverer(Deliverer target, Deliverer editedDeliverer) {
         requireNonNull(editedDeliverer);
 
         deliverers.setPerson(target, editedDeliverer);
+        modificationCount++;
     }
 
     public void setPet(Pet target, Pet editedPet) {
         requireNonNull(editedPet);
 
         pets.setPet(target, editedPet);
+        modificationCount++;
     }
 
     public void setOrder(Order target, Order editedOrder) {
         requireNonNull(editedOrder);
 
         orders.setOrder(target, editedOrder);
+        modificationCount++;
     }
 
     /**
@@ -202,22 +264,41 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeBuyer(Buyer key) {
         buyers.remove(key);
+        modificationCount++;
     }
 
     public void removeSupplier(Supplier key) {
         suppliers.remove(key);
+        modificationCount++;
     }
 
     public void removeDeliverer(Deliverer key) {
         deliverers.remove(key);
+        modificationCount++;
     }
 
     public void removePet(Pet key) {
         pets.remove(key);
+        modificationCount++;
     }
 
     public void removeOrder(Order key) {
         orders.remove(key);
+        modificationCount++;
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} at once.
+     * Every one of {@code keys} must exist in the address book.
+     */
+    public void removePets(Collection<Pet> keys) {
+        pets.removeAll(keys);
+        modificationCount++;
+    }
+
+    public void removeOrders(Collection<Order> keys) {
+        orders.removeAll(keys);
+        modificationCount++;
     }
 
     public List<Order> getOrderFromId(List<UniqueId> ids) {
@@ -228,6 +309,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         return pets.getPetsFromId(ids);
     }
 
+    /**
+     * Returns the {@code limit} pets that pass {@code filter} and fit best according to {@code grader},
+     * with the best fit first. Only the pets that may be among the best are scored.
+     */
+    public List<Pet> findBestMatchingPets(PetGrader grader, int limit, Predicate<? super Pet> filter) {
+        requireNonNull(grader);
+        return new PetMatcher(grader).findBestMatches(pets, filter, limit);
+    }
+
+    /**
+     * Returns the {@code limit} pending and negotiating orders that {@code pet} fits best, with the best fit first.
+     * Only the orders whose price range accepts the price of the pet, and which request its species or its color,
+     * are looked up and scored. Orders with equal scores keep their order in the list.
+     */
+    public List<Order> findBestMatchingOrders(Pet pet, int limit) {
+        requireNonNull(pet);
+        LocalDate today = LocalDate.now();
+        List<Order> candidates = orders.getOpenOrdersFor(pet);
+        Map<Order, Double> scores = new HashMap<>();
+        candidates.forEach(order -> scores.put(order, new PetGrader(order).compile(today).evaluate(pet)));
+        return candidates.stream()
+                .sorted(Comparator.<Order>comparingDouble(scores::get).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -250,6 +357,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortBuyer(Comparator<Buyer> comparator) {
         buyers.sort(comparator);
+        modificationCount++;
     }
 
     /**
@@ -258,6 +366,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortSupplier(Comparator<Supplier> comparator) {
         suppliers.sort(comparator);
+        modificationCount++;
     }
 
     /**
@@ -266,6 +375,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortDeliverer(Comparator<Deliverer> comparator) {
         deliverers.sort(comparator);
+        modificationCount++;
     }
 
     /**
@@ -274,6 +384,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortOrder(Comparator<Order> comparator) {
         orders.sort(comparator);
+        modificationCount++;
     }
 
     /**
@@ -282,6 +393,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortPet(Comparator<Pet> comparator) {
         pets.sort(comparator);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the number of changes made to this address book, which grows with every change to one of its lists,
+     * including sorting one. Changes made in place to the entities in the lists are not counted.
+     */
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
     }
 
     @Override
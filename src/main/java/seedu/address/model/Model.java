@@ -3,6 +3,9 @@ package seedu.address.model;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -12,6 +15,8 @@ import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Deliverer;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
+import seedu.address.model.pet.StandingOrderMatch;
 
 /**
  * The API of the Model component.
@@ -133,6 +138,28 @@ public interface Model {
      */
     void sortPet(Comparator<Pet> comparator);
 
+    /**
+     * Starts a batch of changes to the address book.
+     * Pets and orders deleted within the batch are removed together when the batch is committed, so that the
+     * displayed lists are updated once instead of once per deletion. Until then, they are already left out of the
+     * answers of {@code hasPet}, {@code hasOrder} and the lookups of the pets and orders of a person.
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    void beginBatch();
+
+    /**
+     * Applies the changes buffered in the current batch and ends it.
+     * If applying the changes fails, the batch stays open so that it can be rolled back.
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    void commitBatch();
+
+    /**
+     * Discards the current batch and restores the address book to its state when the batch was started.
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    void rollbackBatch();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Buyer> getFilteredBuyerList();
     ObservableList<Supplier> getFilteredSupplierList();
@@ -208,6 +235,58 @@ public interface Model {
      */
     void switchToMainList();
 
+    /**
+     * Switches the current displayed list to a read-only list of {@code matchedPets}, in the given order.
+     * The stored pet list is left as it is.
+     */
+    void switchToMatchedPetList(List<Pet> matchedPets);
+
+    /**
+     * Returns the {@code limit} pets in the filtered pet list that fit best according to {@code grader},
+     * with the best fit first. Pets with equal scores keep their order in the list.
+     */
+    List<Pet> findBestMatchingPets(PetGrader grader, int limit);
+
+    /**
+     * Sorts the pet list from the best fit to the worst fit according to {@code grader}.
+     * Pets with equal scores keep their order in the list.
+     */
+    void sortPetsByMatch(PetGrader grader);
+
+    /**
+     * Returns the {@code limit} pending and negotiating orders that {@code pet} fits best, with the best fit first.
+     * Only the orders whose price range accepts the price of the pet, and which request its species or its color,
+     * are considered.
+     */
+    List<Order> findBestMatchingOrders(Pet pet, int limit);
+
+    /**
+     * Watches the pet list for pets that are added or changed and score at least {@code minScore} for
+     * {@code order}, which must be pending or negotiating.
+     */
+    void watchOrder(Order order, double minScore);
+
+    /**
+     * Stops watching the pet list for {@code order}. Returns true if the pet list was watched for it.
+     */
+    boolean unwatchOrder(Order order);
+
+    /**
+     * Returns the pets flagged for watched orders since this method was last called, and forgets them.
+     */
+    List<StandingOrderMatch> takeStandingOrderMatches();
+
+    /**
+     * Keeps track of the assignment of pets to orders that is being worked out in the background,
+     * or forgets the previous one if {@code petAssignment} is null.
+     */
+    void setPetAssignment(CompletableFuture<Map<Order, Pet>> petAssignment);
+
+    /**
+     * Returns the assignment of pets to orders that is being worked out in the background, if there is one.
+     */
+    Optional<CompletableFuture<Map<Order, Pet>>> getPetAssignment();
+
     /**
      * Sets the current list to the list of orders of a buyer.
      */
@@ -5,22 +5,41 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.UniqueId;
 import seedu.address.model.order.Order;
 import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Deliverer;
 import seedu.address.model.person.MasterList;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
+import seedu.address.model.pet.PetMatcher;
+import seedu.address.model.pet.PetRanking;
+import seedu.address.model.pet.PetRankingCache;
+import seedu.address.model.pet.StandingOrderMatch;
+import seedu.address.model.pet.StandingOrderMatcher;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -56,6 +75,21 @@ public class ModelManager implements Model {
     private final MasterList filteredAll;
     private FilteredList<?> filteredCurrList;
 
+    // State of the current batch of changes, if any. The undo log holds an action that undoes each change made
+    // in the batch, the latest change first, and is null when no batch is in progress.
+    private Deque<Runnable> batchUndoLog;
+    // The pets and orders deleted in the batch by their ids, in the order they were deleted.
+    private final Map<UniqueId, Pet> pendingPetDeletions = new LinkedHashMap<>();
+    private final Map<UniqueId, Order> pendingOrderDeletions = new LinkedHashMap<>();
+
+    private CompletableFuture<Map<Order, Pet>> petAssignment;
+
+    // Rankings of the pet list for recently matched orders, kept up to date as pets and orders change.
+    private final PetRankingCache petRankings = new PetRankingCache(PetRankingCache.DEFAULT_BUDGET);
+
+    // Orders that the pet list is watched for, with the pets flagged for them.
+    private final StandingOrderMatcher standingOrders;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -71,8 +105,8 @@ public class ModelManager implements Model {
         filteredDeliverers = new FilteredList<>(this.addressBook.getDelivererList());
         filteredPets = new FilteredList<>(this.addressBook.getPetList());
         filteredOrders = new FilteredList<>(this.addressBook.getOrderList());
-        filteredAll = new MasterList();
-        collect();
+        filteredAll = new MasterList(filteredBuyers, filteredSuppliers, filteredDeliverers);
+        standingOrders = new StandingOrderMatcher(this.addressBook.getPetList(), this.addressBook.getOrderList());
         switchToMainList();
     }
 
@@ -119,7 +153,12 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        pendingPetDeletions.clear();
+        pendingOrderDeletions.clear();
+        AddressBook previousData = isInBatch() ? new AddressBook(this.addressBook) : null;
+        standingOrders.runWithoutMatching(() -> this.addressBook.resetData(addressBook));
+        petRankings.clear();
+        recordUndo(() -> this.addressBook.resetData(previousData));
     }
 
     @Override
@@ -148,72 +187,105 @@ public class ModelManager implements Model {
     @Override
     public boolean hasPet(Pet pet) {
         requireNonNull(pet);
-        return addressBook.hasPet(pet);
+        return addressBook.getSamePet(pet)
+                .map(samePet -> !pendingPetDeletions.containsKey(samePet.getId()))
+                .orElse(false);
     }
 
     @Override
     public boolean hasOrder(Order order) {
         requireNonNull(order);
-        return addressBook.hasOrder(order);
+        return addressBook.hasOrder(order) && !pendingOrderDeletions.containsKey(order.getId());
     }
 
     @Override
     public void deleteBuyer(Buyer target) {
+        if (isInBatch()) {
+            int index = addressBook.getBuyerList().indexOf(target);
+            addressBook.removeBuyer(target);
+            batchUndoLog.push(() -> addressBook.addBuyer(index, target));
+            return;
+        }
         addressBook.removeBuyer(target);
-        collect();
     }
 
     @Override
     public void deleteSupplier(Supplier target) {
+        if (isInBatch()) {
+            int index = addressBook.getSupplierList().indexOf(target);
+            addressBook.removeSupplier(target);
+            batchUndoLog.push(() -> addressBook.addSupplier(index, target));
+            return;
+        }
         addressBook.removeSupplier(target);
-        collect();
     }
 
     @Override
     public void deleteDeliverer(Deliverer target) {
+        if (isInBatch()) {
+            int index = addressBook.getDelivererList().indexOf(target);
+            addressBook.removeDeliverer(target);
+            batchUndoLog.push(() -> addressBook.addDeliverer(index, target));
+            return;
+        }
         addressBook.removeDeliverer(target);
-        collect();
     }
 
     @Override
     public void deletePet(Pet target) {
+        if (isInBatch()) {
+            pendingPetDeletions.put(requireNonNull(target).getId(), target);
+            return;
+        }
         addressBook.removePet(target);
-        collect();
+        petRankings.removePet(target);
     }
 
     @Override
     public void deleteOrder(Order target) {
+        if (isInBatch()) {
+            pendingOrderDeletions.put(requireNonNull(target).getId(), target);
+            return;
+        }
         addressBook.removeOrder(target);
-        collect();
+        petRankings.removeOrder(target);
     }
 
     @Override
     public void addBuyer(Buyer buyer) {
         addressBook.addBuyer(buyer);
+        recordUndo(() -> addressBook.removeBuyer(buyer));
         updateFilteredBuyerList(PREDICATE_SHOW_ALL_BUYERS);
     }
 
     @Override
     public void addSupplier(Supplier supplier) {
         addressBook.addSupplier(supplier);
+        recordUndo(() -> addressBook.removeSupplier(supplier));
         updateFilteredSupplierList(PREDICATE_SHOW_ALL_SUPPLIERS);
     }
 
     @Override
     public void addDeliverer(Deliverer deliverer) {
         addressBook.addDeliverer(deliverer);
+        recordUndo(() -> addressBook.removeDeliverer(deliverer));
         updateFilteredDelivererList(PREDICATE_SHOW_ALL_DELIVERERS);
     }
 
     @Override
     public void addPet(Pet pet) {
+        applyPendingDeletions();
         addressBook.addPet(pet);
+        recordUndo(() -> addressBook.removePet(pet));
+        petRankings.addPet(pet);
         updateFilteredPetList(PREDICATE_SHOW_ALL_PETS);
     }
 
     @Override
     public void addOrder(Order order) {
+        applyPendingDeletions();
         addressBook.addOrder(order);
+        recordUndo(() -> addressBook.removeOrder(order));
         updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
     }
 
@@ -226,7 +298,10 @@ public class ModelManager implements Model {
         for (Order order: orderFromId) {
             order.setBuyer(editedBuyer);
         }
-        collect();
+        recordUndo(() -> {
+            addressBook.setBuyer(editedBuyer, target);
+            orderFromId.forEach(order -> order.setBuyer(target));
+        });
     }
 
     @Override
@@ -238,7 +313,10 @@ public class ModelManager implements Model {
         for (Pet pet: petFromId) {
             pet.setSupplier(editedSupplier);
         }
-        collect();
+        recordUndo(() -> {
+            addressBook.setSupplier(editedSupplier, target);
+            petFromId.forEach(pet -> pet.setSupplier(target));
+        });
     }
 
     @Override
@@ -246,59 +324,164 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedDeliverer);
 
         addressBook.setDeliverer(target, editedDeliverer);
-
-        collect();
+        recordUndo(() -> addressBook.setDeliverer(editedDeliverer, target));
     }
 
     @Override
     public void setPet(Pet target, Pet editedPet) {
         requireAllNonNull(target, editedPet);
+        applyPendingDeletions();
 
         addressBook.setPet(target, editedPet);
-        collect();
+        recordUndo(() -> addressBook.setPet(editedPet, target));
+        petRankings.setPet(target, editedPet);
     }
 
     @Override
     public void setOrder(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
+        applyPendingDeletions();
 
         addressBook.setOrder(target, editedOrder);
-        collect();
+        recordUndo(() -> addressBook.setOrder(editedOrder, target));
+        petRankings.setOrder(target, editedOrder);
     }
 
     @Override
     public void sortBuyer(Comparator<Buyer> comparator) {
         requireNonNull(comparator);
+        List<Buyer> previousOrder = isInBatch() ? new ArrayList<>(addressBook.getBuyerList()) : null;
         addressBook.sortBuyer(comparator);
-        collect();
+        recordUndo(() -> addressBook.setBuyers(previousOrder));
     }
 
     @Override
     public void sortSupplier(Comparator<Supplier> comparator) {
         requireNonNull(comparator);
+        List<Supplier> previousOrder = isInBatch() ? new ArrayList<>(addressBook.getSupplierList()) : null;
         addressBook.sortSupplier(comparator);
-        collect();
+        recordUndo(() -> addressBook.setSuppliers(previousOrder));
     }
 
     @Override
     public void sortDeliverer(Comparator<Deliverer> comparator) {
         requireNonNull(comparator);
+        List<Deliverer> previousOrder = isInBatch() ? new ArrayList<>(addressBook.getDelivererList()) : null;
         addressBook.sortDeliverer(comparator);
-        collect();
+        recordUndo(() -> addressBook.setDeliverers(previousOrder));
     }
 
     @Override
     public void sortOrder(Comparator<Order> comparator) {
         requireNonNull(comparator);
+        applyPendingDeletions();
+        List<Order> previousOrder = isInBatch() ? new ArrayList<>(addressBook.getOrderList()) : null;
         addressBook.sortOrder(comparator);
-        collect();
+        recordUndo(() -> addressBook.setOrders(previousOrder));
     }
 
     @Override
     public void sortPet(Comparator<Pet> comparator) {
         requireNonNull(comparator);
+        applyPendingDeletions();
+        List<Pet> previousOrder = isInBatch() ? new ArrayList<>(addressBook.getPetList()) : null;
         addressBook.sortPet(comparator);
-        collect();
+        recordUndo(() -> addressBook.setPets(previousOrder));
+        petRankings.reorderPets(addressBook.getPetList());
+    }
+
+    //=========== Batch of changes ===========================================================================
+
+    @Override
+    public void beginBatch() {
+        if (isInBatch()) {
+            throw new IllegalStateException("A batch of changes is already in progress.");
+        }
+        batchUndoLog = new ArrayDeque<>();
+    }
+
+    @Override
+    public void commitBatch() {
+        if (!isInBatch()) {
+            throw new IllegalStateException("No batch of changes is in progress.");
+        }
+        applyPendingDeletions();
+        batchUndoLog = null;
+    }
+
+    @Override
+    public void rollbackBatch() {
+        if (!isInBatch()) {
+            throw new IllegalStateException("No batch of changes is in progress.");
+        }
+        pendingPetDeletions.clear();
+        pendingOrderDeletions.clear();
+        standingOrders.runWithoutMatching(() -> {
+            while (!batchUndoLog.isEmpty()) {
+                batchUndoLog.pop().run();
+            }
+        });
+        standingOrders.clearNewMatches();
+        petRankings.clear();
+        batchUndoLog = null;
+        logger.info("Rolled back a batch of changes to the address book.");
+    }
+
+    private boolean isInBatch() {
+        return batchUndoLog != null;
+    }
+
+    /**
+     * Records {@code undo} as the action that undoes the change just made, if a batch is in progress.
+     */
+    private void recordUndo(Runnable undo) {
+        if (isInBatch()) {
+            batchUndoLog.push(undo);
+        }
+    }
+
+    /**
+     * Removes the pets and orders deleted so far in the current batch, with a single change to each list.
+     * The deletions stay buffered if they cannot be applied.
+     */
+    private void applyPendingDeletions() {
+        if (!pendingPetDeletions.isEmpty()) {
+            Runnable undo = undoRemoval(addressBook.getPetList(), pendingPetDeletions, Pet::getId,
+                    addressBook::addPet);
+            addressBook.removePets(pendingPetDeletions.values());
+            batchUndoLog.push(undo);
+            pendingPetDeletions.values().forEach(petRankings::removePet);
+            pendingPetDeletions.clear();
+        }
+        if (!pendingOrderDeletions.isEmpty()) {
+            Runnable undo = undoRemoval(addressBook.getOrderList(), pendingOrderDeletions, Order::getId,
+                    addressBook::addOrder);
+            addressBook.removeOrders(pendingOrderDeletions.values());
+            batchUndoLog.push(undo);
+            pendingOrderDeletions.values().forEach(petRankings::removeOrder);
+            pendingOrderDeletions.clear();
+        }
+    }
+
+    /**
+     * Returns an action that puts the elements of {@code toRemove}, by their ids, back into {@code list} with
+     * {@code insert}, at the positions they are at now, once they have been removed.
+     */
+    private static <T> Runnable undoRemoval(List<T> list, Map<UniqueId, T> toRemove, Function<T, UniqueId> idOf,
+            BiConsumer<Integer, T> insert) {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (toRemove.containsKey(idOf.apply(list.get(i)))) {
+                positions.add(i);
+            }
+        }
+        List<T> removed = positions.stream().map(list::get).collect(Collectors.toList());
+        return () -> {
+            // Putting the elements back from the lowest position up leaves each of them where it was.
+            for (int i = 0; i < positions.size(); i++) {
+                insert.accept(positions.get(i), removed.get(i));
+            }
+        };
     }
 
     //=========== Filtered Objects List Accessors =============================================================
@@ -341,7 +524,6 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Object> getFilteredMainList() {
-        collect();
         return filteredAll.getMasterList();
     }
 
@@ -358,59 +540,65 @@ public class ModelManager implements Model {
     public void updateFilteredBuyerList(Predicate<Buyer> predicate) {
         requireNonNull(predicate);
         filteredBuyers.setPredicate(predicate);
-        collect();
     }
 
     @Override
     public void updateFilteredSupplierList(Predicate<Supplier> predicate) {
         requireNonNull(predicate);
         filteredSuppliers.setPredicate(predicate);
-        collect();
     }
 
     @Override
     public void updateFilteredDelivererList(Predicate<Deliverer> predicate) {
         requireNonNull(predicate);
         filteredDeliverers.setPredicate(predicate);
-        collect();
     }
 
     @Override
     public void updateFilteredPetList(Predicate<Pet> predicate) {
         requireNonNull(predicate);
         filteredPets.setPredicate(predicate);
-        collect();
     }
 
     @Override
     public void updateFilteredOrderList(Predicate<Order> predicate) {
         requireNonNull(predicate);
         filteredOrders.setPredicate(predicate);
-        collect();
     }
 
     @Override
     public List<Order> getOrdersFromBuyer(Buyer buyer) {
         requireNonNull(buyer);
-        return addressBook.getOrderFromId(buyer.getOrderIds());
+        return withoutPendingDeletions(addressBook.getOrderFromId(buyer.getOrderIds()), pendingOrderDeletions,
+                Order::getId);
     }
 
     @Override
     public List<Order> getOrdersFromDeliverer(Deliverer deliverer) {
         requireNonNull(deliverer);
-        return addressBook.getOrderFromId(deliverer.getOrders());
+        return withoutPendingDeletions(addressBook.getOrderFromId(deliverer.getOrders()), pendingOrderDeletions,
+                Order::getId);
     }
 
     @Override
     public List<Pet> getPetsFromSupplier(Supplier supplier) {
         requireNonNull(supplier);
-        return addressBook.getPetFromId(supplier.getPetIds());
+        return withoutPendingDeletions(addressBook.getPetFromId(supplier.getPetIds()), pendingPetDeletions,
+                Pet::getId);
+    }
+
+    private static <T> List<T> withoutPendingDeletions(List<T> elements, Map<UniqueId, T> pendingDeletions,
+            Function<T, UniqueId> idOf) {
+        if (!pendingDeletions.isEmpty()) {
+            elements.removeIf(element -> pendingDeletions.containsKey(idOf.apply(element)));
+        }
+        return elements;
     }
 
     @Override
     public void clearCurrList() {
-        filteredAll.clear();
-        filteredCurrList.clear();
+        // The main list is a live view of the filtered lists, so it empties itself once the data is cleared.
+        switchToMainList();
     }
 
     @Override
@@ -443,6 +631,79 @@ public class ModelManager implements Model {
         filteredCurrList = new FilteredList<>(filteredAll.getMasterList());
     }
 
+    @Override
+    public void switchToMatchedPetList(List<Pet> matchedPets) {
+        requireNonNull(matchedPets);
+        filteredCurrList = new FilteredList<>(FXCollections.observableArrayList(matchedPets));
+    }
+
+    @Override
+    public List<Pet> findBestMatchingPets(PetGrader grader, int limit) {
+        requireNonNull(grader);
+        Predicate<? super Pet> predicate = filteredPets.getPredicate();
+        Predicate<? super Pet> filter = predicate == null ? PREDICATE_SHOW_ALL_PETS : predicate;
+        Optional<PetRanking> ranking = petRankings.getRanking(grader, addressBook.getPetList());
+        if (ranking.isPresent()) {
+            return ranking.get().getBestMatches(limit, filter);
+        }
+        return addressBook.findBestMatchingPets(grader, limit, filter);
+    }
+
+    @Override
+    public void sortPetsByMatch(PetGrader grader) {
+        requireNonNull(grader);
+        Optional<PetRanking> ranking = petRankings.getRanking(grader, addressBook.getPetList());
+        if (ranking.isPresent()) {
+            sortPet(Comparator.comparingDouble(ranking.get()::getScore).reversed());
+            return;
+        }
+        // The pet list is too long to keep rankings of, so it is ranked afresh, in parallel if it is long enough.
+        List<Pet> pets = addressBook.getPetList();
+        if (pets.isEmpty()) {
+            return;
+        }
+        List<Pet> rankedPets = new PetMatcher(grader).findBestMatches(pets, pets.size(), ForkJoinPool.commonPool(),
+                PetMatcher.DEFAULT_CHUNK_SIZE);
+        Map<Pet, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < rankedPets.size(); i++) {
+            ranks.put(rankedPets.get(i), i);
+        }
+        sortPet(Comparator.comparingInt(ranks::get));
+    }
+
+    @Override
+    public List<Order> findBestMatchingOrders(Pet pet, int limit) {
+        requireNonNull(pet);
+        return addressBook.findBestMatchingOrders(pet, limit);
+    }
+
+    @Override
+    public void watchOrder(Order order, double minScore) {
+        requireNonNull(order);
+        standingOrders.watch(order, minScore);
+    }
+
+    @Override
+    public boolean unwatchOrder(Order order) {
+        requireNonNull(order);
+        return standingOrders.unwatch(order);
+    }
+
+    @Override
+    public List<StandingOrderMatch> takeStandingOrderMatches() {
+        return standingOrders.takeNewMatches();
+    }
+
+    @Override
+    public void setPetAssignment(CompletableFuture<Map<Order, Pet>> petAssignment) {
+        this.petAssignment = petAssignment;
+    }
+
+    @Override
+    public Optional<CompletableFuture<Map<Order, Pet>>> getPetAssignment() {
+        return Optional.ofNullable(petAssignment);
+    }
+
     @Override
     public void checkBuyerOrder(Buyer buyer) {
         ObservableList<Order> orders = FXCollections.observableArrayList(getOrdersFromBuyer(buyer));
@@ -473,13 +734,6 @@ public class ModelManager implements Model {
         filteredCurrList = new FilteredList<>(suppliers);
     }
 
-    private void collect() {
-        filteredAll.clear();
-        filteredAll.addAll(filteredBuyers);
-        filteredAll.addAll(filteredSuppliers);
-        filteredAll.addAll(filteredDeliverers);
-    }
-
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -26,5 +26,10 @@ public interface ReadOnlyAddressBook {
 
     ObservableList<Order> getOrderList();
 
+    /**
+     * Returns a number that changes whenever the address book changes, so that an address book that was saved
+     * need not be saved again while the number stays the same.
+     */
+    long getModificationCount();
 
 }
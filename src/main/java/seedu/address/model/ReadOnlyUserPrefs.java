@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,19 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns whether the address book is saved as JSON without indentation.
+     */
+    boolean isAddressBookFileCompact();
+
+    /**
+     * Returns whether the address book is saved in shards listed by a manifest at the address book file path.
+     */
+    boolean isAddressBookFileSharded();
+
+    /**
+     * Returns how often the saves of the address book are forced to the disk.
+     */
+    DurabilityPolicy getAddressBookFileDurability();
+
 }
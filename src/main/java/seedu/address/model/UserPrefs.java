@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean isAddressBookFileCompact = false;
+    private boolean isAddressBookFileSharded = false;
+    private DurabilityPolicy addressBookFileDurability = DurabilityPolicy.ALWAYS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileCompact(newUserPrefs.isAddressBookFileCompact());
+        setAddressBookFileSharded(newUserPrefs.isAddressBookFileSharded());
+        setAddressBookFileDurability(newUserPrefs.getAddressBookFileDurability());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +63,31 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isAddressBookFileCompact() {
+        return isAddressBookFileCompact;
+    }
+
+    public void setAddressBookFileCompact(boolean isAddressBookFileCompact) {
+        this.isAddressBookFileCompact = isAddressBookFileCompact;
+    }
+
+    public boolean isAddressBookFileSharded() {
+        return isAddressBookFileSharded;
+    }
+
+    public void setAddressBookFileSharded(boolean isAddressBookFileSharded) {
+        this.isAddressBookFileSharded = isAddressBookFileSharded;
+    }
+
+    public DurabilityPolicy getAddressBookFileDurability() {
+        return addressBookFileDurability;
+    }
+
+    public void setAddressBookFileDurability(DurabilityPolicy addressBookFileDurability) {
+        requireNonNull(addressBookFileDurability);
+        this.addressBookFileDurability = addressBookFileDurability;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +100,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && isAddressBookFileCompact == o.isAddressBookFileCompact
+                && isAddressBookFileSharded == o.isAddressBookFileSharded
+                && addressBookFileDurability == o.addressBookFileDurability;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isAddressBookFileCompact, isAddressBookFileSharded,
+                addressBookFileDurability);
     }
 
     @Override
@@ -81,6 +117,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact data file : " + isAddressBookFileCompact);
+        sb.append("\nSharded data file : " + isAddressBookFileSharded);
+        sb.append("\nData file durability : " + addressBookFileDurability);
         return sb.toString();
     }
 
@@ -44,11 +44,7 @@ public class Order {
                  Price settledPrice,
                  OrderStatus status) {
         requireAllNonNull(status);
-        UniqueId currId = ORDER_ID_GENERATOR.next();
-        while (UniqueIdGenerator.storedIdOrderContains(currId)) {
-            currId = ORDER_ID_GENERATOR.next();
-        }
-        this.id = currId;
+        this.id = ORDER_ID_GENERATOR.next();
         this.buyer = buyer;
         this.requestedPriceRange = requestedPriceRange;
         this.request = request;
@@ -105,7 +101,7 @@ public class Order {
                  OrderStatus status,
                  UniqueId uniqueId) {
         requireAllNonNull(status);
-        UniqueIdGenerator.addToStoredIdOrder(uniqueId);
+        ORDER_ID_GENERATOR.reserve(uniqueId);
         this.id = uniqueId;
         this.buyer = buyer;
         this.requestedPriceRange = requestedPriceRange;
@@ -188,6 +184,16 @@ public class Order {
         return id;
     }
 
+    /**
+     * Gets a short description of the order to show in the results of commands, which names its buyer, or gives
+     * its ID if it has no buyer.
+     */
+    public String getDescription() {
+        return buyer == null
+                ? "Order " + id.getIdToString()
+                : buyer.getName() + "'s order";
+    }
+
     public void setBuyer(Buyer buyer) {
         this.buyer = buyer;
     }
@@ -35,6 +35,14 @@ public class PriceRange implements Comparable<PriceRange> {
         this.lowerBound = lowerBound;
     }
 
+    /**
+     * Returns true if {@code lowerBound} is not above {@code upperBound}, where a not applicable upper bound is
+     * above every lower bound.
+     */
+    public static boolean isValidPriceRange(Price lowerBound, Price upperBound) {
+        return upperBound.isNotApplicablePrice() || upperBound.compareTo(lowerBound) >= 0;
+    }
+
     public Price getUpperBound() {
         return upperBound;
     }
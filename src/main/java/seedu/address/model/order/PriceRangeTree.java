@@ -0,0 +1,300 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * An interval tree over the requested price ranges of some orders, which finds the orders whose price range
+ * accepts a price.
+ *
+ * Each node holds the ranges that contain its center, sorted once by lower bound and once by upper bound. Ranges
+ * entirely below the center are in the left subtree and ranges entirely above it are in the right subtree. When
+ * the tree is built, the center of each node is the median of the bounds, so the tree has a depth of about
+ * log2(n), and finding the k orders that accept a price takes O(log n + k) time. A
+ * {@link Price#NOT_APPLICABLE_PRICE} bound is taken as no bound at all, and a price that is not applicable is
+ * accepted by every range, as in {@link PriceRange#comparePrice(Price)}.
+ *
+ * Ranges are added and removed in place. Since that can unbalance the tree, it is rebuilt once it has changed
+ * about as many times as the number of ranges it was last built with, which keeps the cost of a change
+ * amortized O(log n) apart from the ranges that share its node.
+ */
+class PriceRangeTree {
+
+    private static final int MIN_CHANGES_BEFORE_REBUILD = 16;
+
+    private final Set<Entry> entries = new HashSet<>();
+    private Node root;
+    private int changesBeforeRebuild;
+
+    /**
+     * Builds an empty tree.
+     */
+    PriceRangeTree() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Builds a tree over {@code entries}.
+     */
+    PriceRangeTree(Collection<Entry> entries) {
+        requireNonNull(entries);
+        this.entries.addAll(entries);
+        rebuild();
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Adds {@code entry} to the tree, if it is not already in the tree.
+     */
+    void add(Entry entry) {
+        requireNonNull(entry);
+        if (!entries.add(entry)) {
+            return;
+        }
+        if (--changesBeforeRebuild < 0) {
+            rebuild();
+            return;
+        }
+
+        Node parent = null;
+        Node node = root;
+        while (node != null && !node.holds(entry)) {
+            parent = node;
+            node = node.isAbove(entry) ? node.left : node.right;
+        }
+        if (node == null) {
+            node = new Node(centerOf(entry), Collections.emptyList());
+            if (parent == null) {
+                root = node;
+            } else if (parent.isAbove(entry)) {
+                parent.left = node;
+            } else {
+                parent.right = node;
+            }
+        }
+        node.add(entry);
+    }
+
+    /**
+     * Removes {@code entry} from the tree, if it is in the tree.
+     */
+    void remove(Entry entry) {
+        requireNonNull(entry);
+        if (!entries.remove(entry)) {
+            return;
+        }
+        if (--changesBeforeRebuild < 0) {
+            rebuild();
+            return;
+        }
+
+        Node node = root;
+        while (!node.holds(entry)) {
+            node = node.isAbove(entry) ? node.left : node.right;
+        }
+        node.remove(entry);
+    }
+
+    /**
+     * Passes every entry whose price range accepts {@code price} to {@code action}.
+     * The entries are not passed in any particular order.
+     */
+    void forEachAccepting(Price price, Consumer<Entry> action) {
+        requireNonNull(price);
+        requireNonNull(action);
+        if (price.isNotApplicablePrice()) {
+            entries.forEach(action);
+            return;
+        }
+
+        double value = price.getPrice();
+        Node node = root;
+        while (node != null) {
+            if (value < node.center) {
+                for (int i = 0; i < node.byLowerBound.size() && node.byLowerBound.get(i).lowerBound <= value; i++) {
+                    action.accept(node.byLowerBound.get(i));
+                }
+                node = node.left;
+            } else if (value > node.center) {
+                for (int i = 0; i < node.byUpperBound.size() && node.byUpperBound.get(i).upperBound >= value; i++) {
+                    action.accept(node.byUpperBound.get(i));
+                }
+                node = node.right;
+            } else {
+                node.byLowerBound.forEach(action);
+                return;
+            }
+        }
+    }
+
+    private void rebuild() {
+        root = build(new ArrayList<>(entries));
+        changesBeforeRebuild = Math.max(entries.size(), MIN_CHANGES_BEFORE_REBUILD);
+    }
+
+    /**
+     * Builds the subtree over {@code entries}.
+     * The center is a bound of one of the entries, which is then neither below nor above it, so every node holds
+     * at least one entry even if a range is inverted.
+     */
+    private static Node build(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        double[] bounds = new double[entries.size() * 2];
+        for (int i = 0; i < entries.size(); i++) {
+            bounds[2 * i] = entries.get(i).lowerBound;
+            bounds[2 * i + 1] = entries.get(i).upperBound;
+        }
+        Arrays.sort(bounds);
+        double center = bounds[entries.size()];
+
+        List<Entry> below = new ArrayList<>();
+        List<Entry> above = new ArrayList<>();
+        List<Entry> held = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.lowerBound < center && entry.upperBound < center) {
+                below.add(entry);
+            } else if (entry.lowerBound > center && entry.upperBound > center) {
+                above.add(entry);
+            } else {
+                held.add(entry);
+            }
+        }
+        Node node = new Node(center, held);
+        node.left = build(below);
+        node.right = build(above);
+        return node;
+    }
+
+    /**
+     * Returns a center for a new node that holds {@code entry}.
+     */
+    private static double centerOf(Entry entry) {
+        boolean hasLowerBound = entry.lowerBound != Double.NEGATIVE_INFINITY;
+        boolean hasUpperBound = entry.upperBound != Double.POSITIVE_INFINITY;
+        if (hasLowerBound && hasUpperBound) {
+            return entry.lowerBound / 2 + entry.upperBound / 2;
+        }
+        if (hasLowerBound) {
+            return entry.lowerBound;
+        }
+        return hasUpperBound ? entry.upperBound : 0;
+    }
+
+    private static double toBound(Price bound, double noBound) {
+        return bound.isNotApplicablePrice() ? noBound : bound.getPrice();
+    }
+
+    /**
+     * An order in a tree, with the rank that orders the results of a search, and the bounds of its requested price
+     * range when it was added.
+     */
+    static final class Entry {
+        private final Order order;
+        private final long rank;
+        private final double lowerBound;
+        private final double upperBound;
+
+        Entry(Order order, long rank) {
+            requireNonNull(order);
+            this.order = order;
+            this.rank = rank;
+            PriceRange priceRange = order.getRequestedPriceRange();
+            this.lowerBound = toBound(priceRange.getLowerBound(), Double.NEGATIVE_INFINITY);
+            this.upperBound = toBound(priceRange.getUpperBound(), Double.POSITIVE_INFINITY);
+        }
+
+        Order getOrder() {
+            return order;
+        }
+
+        long getRank() {
+            return rank;
+        }
+    }
+
+    /**
+     * The ranges that contain a center, sorted by lower bound from the lowest and by upper bound from the highest.
+     */
+    private static class Node {
+        private static final Comparator<Entry> BY_LOWER_BOUND = Comparator.comparingDouble(entry -> entry.lowerBound);
+        private static final Comparator<Entry> BY_UPPER_BOUND =
+                Comparator.comparingDouble((Entry entry) -> entry.upperBound).reversed();
+
+        private final double center;
+        private final List<Entry> byLowerBound;
+        private final List<Entry> byUpperBound;
+        private Node left;
+        private Node right;
+
+        Node(double center, List<Entry> entries) {
+            this.center = center;
+            this.byLowerBound = new ArrayList<>(entries);
+            this.byLowerBound.sort(BY_LOWER_BOUND);
+            this.byUpperBound = new ArrayList<>(entries);
+            this.byUpperBound.sort(BY_UPPER_BOUND);
+        }
+
+        /**
+         * Returns true if {@code entry} is neither entirely below nor entirely above the center.
+         */
+        boolean holds(Entry entry) {
+            return !isAbove(entry) && !(entry.lowerBound > center && entry.upperBound > center);
+        }
+
+        /**
+         * Returns true if the center is above all of {@code entry}.
+         */
+        boolean isAbove(Entry entry) {
+            return entry.lowerBound < center && entry.upperBound < center;
+        }
+
+        void add(Entry entry) {
+            byLowerBound.add(insertionPoint(byLowerBound, entry, BY_LOWER_BOUND), entry);
+            byUpperBound.add(insertionPoint(byUpperBound, entry, BY_UPPER_BOUND), entry);
+        }
+
+        void remove(Entry entry) {
+            byLowerBound.remove(indexOf(byLowerBound, entry, BY_LOWER_BOUND));
+            byUpperBound.remove(indexOf(byUpperBound, entry, BY_UPPER_BOUND));
+        }
+
+        private static int insertionPoint(List<Entry> entries, Entry entry, Comparator<Entry> comparator) {
+            int index = Collections.binarySearch(entries, entry, comparator);
+            return index < 0 ? -index - 1 : index;
+        }
+
+        /**
+         * Returns the index of {@code entry} in {@code entries}, searching only among the entries with the same
+         * bound.
+         */
+        private static int indexOf(List<Entry> entries, Entry entry, Comparator<Entry> comparator) {
+            int index = insertionPoint(entries, entry, comparator);
+            for (int i = index; i < entries.size() && comparator.compare(entries.get(i), entry) == 0; i++) {
+                if (entries.get(i) == entry) {
+                    return i;
+                }
+            }
+            for (int i = index - 1; i >= 0 && comparator.compare(entries.get(i), entry) == 0; i--) {
+                if (entries.get(i) == entry) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Entry is not in this node");
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package seedu.address.model.order;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.UniqueId;
 import seedu.address.model.order.exceptions.DuplicateOrderException;
 import seedu.address.model.order.exceptions.OrderNotFoundException;
+import seedu.address.model.pet.Pet;
 
 /**
  * A list of orders that enforces uniqueness between its elements and does not allow nulls.
@@ -23,19 +34,34 @@ import seedu.address.model.order.exceptions.OrderNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Since orders are identified by their {@code UniqueId}, an index from id to order is kept alongside the list,
+ * so that duplicate checks take constant time instead of scanning the whole list. The pending and negotiating
+ * orders are also indexed by requested species and color, with a {@code PriceRangeTree} over the price ranges of
+ * the orders of each species and each color, so that the orders that a pet suits can be looked up without
+ * checking every order. That index is updated in place as orders are added, replaced and removed, and is only
+ * rebuilt, when it is next needed, after orders are inserted in the middle of the list or the list is reordered.
  */
 public class UniqueOrderList implements Iterable<Order> {
 
+    private static final Logger logger = LogsCenter.getLogger(UniqueOrderList.class);
+
     private final ObservableList<Order> internalList = FXCollections.observableArrayList();
     private final ObservableList<Order> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<UniqueId, Order> idIndex = new HashMap<>();
+    private final Map<String, PriceRangeTree> speciesIndex = new HashMap<>();
+    private final Map<String, PriceRangeTree> colorIndex = new HashMap<>();
+    /** The entry of each order in the request indexes, whose ranks follow the order of the list. */
+    private final Map<UniqueId, PriceRangeTree.Entry> requestEntries = new HashMap<>();
+    private long nextRank;
+    private boolean areRequestIndexesStale;
 
     /**
      * Returns true if the list contains an equivalent Order as the given argument.
      */
     public boolean contains(Order toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return idIndex.containsKey(toCheck.getId());
     }
 
     /**
@@ -48,6 +74,22 @@ public class UniqueOrderList implements Iterable<Order> {
             throw new DuplicateOrderException();
         }
         internalList.add(toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
+        indexRequest(toAdd, nextRank++);
+    }
+
+    /**
+     * Inserts an Order into the list at {@code index}, shifting the Orders from that position onwards.
+     * The Order must not already exist in the list.
+     */
+    public void add(int index, Order toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateOrderException();
+        }
+        internalList.add(index, toAdd);
+        markRequestIndexesStale();
+        idIndex.put(toAdd.getId(), toAdd);
     }
 
     /**
@@ -67,7 +109,13 @@ public class UniqueOrderList implements Iterable<Order> {
             throw new DuplicateOrderException();
         }
 
-        internalList.set(index, editedOrder);
+        Order replaced = internalList.set(index, editedOrder);
+        idIndex.remove(replaced.getId());
+        idIndex.put(editedOrder.getId(), editedOrder);
+        PriceRangeTree.Entry replacedEntry = unindexRequest(replaced);
+        if (replacedEntry != null) {
+            indexRequest(editedOrder, replacedEntry.getRank());
+        }
     }
 
     /**
@@ -79,24 +127,55 @@ public class UniqueOrderList implements Iterable<Order> {
         if (!internalList.remove(toRemove)) {
             throw new OrderNotFoundException();
         }
+        idIndex.remove(toRemove.getId());
+        unindexRequest(toRemove);
+    }
+
+    /**
+     * Removes all of the equivalent Orders in {@code toRemove} from the list, as a single change to the list.
+     * Every Order must exist in the list, otherwise the list is left unchanged.
+     */
+    public void removeAll(Collection<Order> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Order> targets = new HashSet<>(toRemove);
+        for (Order target : targets) {
+            if (!target.equals(idIndex.get(target.getId()))) {
+                throw new OrderNotFoundException();
+            }
+        }
+
+        internalList.removeAll(targets);
+        for (Order removed : targets) {
+            idIndex.remove(removed.getId());
+            unindexRequest(removed);
+        }
     }
 
     public void setOrders(UniqueOrderList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        markRequestIndexesStale();
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code Orders}.
-     * {@code Orders} must not contain duplicate Orders.
+     * {@code Orders} must not contain duplicate Orders, otherwise all of the duplicates are reported at once.
      */
     public void setOrders(List<Order> orders) {
         requireAllNonNull(orders);
-        if (!ordersAreUnique(orders)) {
-            throw new DuplicateOrderException();
+        List<Order> duplicates = findDuplicates(orders, Order::getId);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateOrderException(duplicates);
         }
 
         internalList.setAll(orders);
+        markRequestIndexesStale();
+        idIndex.clear();
+        for (Order order : orders) {
+            idIndex.put(order.getId(), order);
+        }
     }
 
     /**
@@ -107,13 +186,27 @@ public class UniqueOrderList implements Iterable<Order> {
     }
 
     /**
-     * Gets the list of orders from list of ids.
+     * Gets the list of orders from list of ids, in the order of the ids.
+     * Ids that do not belong to any order in this list are skipped and logged.
      */
     public List<Order> getOrdersFromId(List<UniqueId> ids) {
-        return internalList.stream()
-                .filter(order -> ids.stream()
-                        .anyMatch(order::hasId))
-                .collect(Collectors.toList());
+        requireNonNull(ids);
+        List<Order> orders = new ArrayList<>();
+        List<UniqueId> missingIds = new ArrayList<>();
+        for (UniqueId id : new LinkedHashSet<>(ids)) {
+            Order order = idIndex.get(id);
+            if (order == null) {
+                missingIds.add(id);
+            } else {
+                orders.add(order);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            logger.warning("No orders found for ids: " + missingIds.stream()
+                    .map(UniqueId::getIdToString)
+                    .collect(Collectors.joining(", ")));
+        }
+        return orders;
     }
 
     /**
@@ -122,6 +215,115 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void sort(Comparator<Order> comparator) {
         internalList.sort(comparator);
+        markRequestIndexesStale();
+    }
+
+    /**
+     * Returns the pending and negotiating orders whose price range accepts the price of {@code pet}, and which
+     * request its species or its color, in the order of this list.
+     */
+    public List<Order> getOpenOrdersFor(Pet pet) {
+        requireNonNull(pet);
+        rebuildStaleRequestIndexes();
+        String species = pet.getSpecies().getValue();
+        String color = pet.getColor().getValue();
+        List<PriceRangeTree.Entry> entries = new ArrayList<>();
+        PriceRangeTree speciesTree = speciesIndex.get(species);
+        if (speciesTree != null) {
+            speciesTree.forEachAccepting(pet.getPrice(), entries::add);
+        }
+        PriceRangeTree colorTree = colorIndex.get(color);
+        if (colorTree != null) {
+            colorTree.forEachAccepting(pet.getPrice(), entry -> {
+                // The orders that also request the species of the pet were found above.
+                if (!requestedSpecies(entry.getOrder()).equals(species)) {
+                    entries.add(entry);
+                }
+            });
+        }
+        entries.sort(Comparator.comparingLong(PriceRangeTree.Entry::getRank));
+        return entries.stream().map(PriceRangeTree.Entry::getOrder).collect(Collectors.toList());
+    }
+
+    private static String requestedSpecies(Order order) {
+        return order.getRequest().getRequestedSpecies().getValue();
+    }
+
+    private static String requestedColor(Order order) {
+        return order.getRequest().getRequestedColor().getValue();
+    }
+
+    private static boolean isOpen(Order order) {
+        return order.getOrderStatus() == OrderStatus.PENDING || order.getOrderStatus() == OrderStatus.NEGOTIATING;
+    }
+
+    /**
+     * Adds {@code order} to the request indexes with {@code rank}, unless they are stale.
+     */
+    private void indexRequest(Order order, long rank) {
+        if (areRequestIndexesStale) {
+            return;
+        }
+        PriceRangeTree.Entry entry = new PriceRangeTree.Entry(order, rank);
+        requestEntries.put(order.getId(), entry);
+        if (isOpen(order)) {
+            speciesIndex.computeIfAbsent(requestedSpecies(order), unused -> new PriceRangeTree()).add(entry);
+            colorIndex.computeIfAbsent(requestedColor(order), unused -> new PriceRangeTree()).add(entry);
+        }
+    }
+
+    /**
+     * Removes {@code order} from the request indexes, and returns its entry, or null if the indexes are stale.
+     */
+    private PriceRangeTree.Entry unindexRequest(Order order) {
+        PriceRangeTree.Entry entry = requestEntries.remove(order.getId());
+        if (entry == null) {
+            return null;
+        }
+        Order indexedOrder = entry.getOrder();
+        if (isOpen(indexedOrder)) {
+            removeFromTree(speciesIndex, requestedSpecies(indexedOrder), entry);
+            removeFromTree(colorIndex, requestedColor(indexedOrder), entry);
+        }
+        return entry;
+    }
+
+    private static void removeFromTree(Map<String, PriceRangeTree> index, String value, PriceRangeTree.Entry entry) {
+        PriceRangeTree tree = index.get(value);
+        tree.remove(entry);
+        if (tree.isEmpty()) {
+            index.remove(value);
+        }
+    }
+
+    private void markRequestIndexesStale() {
+        areRequestIndexesStale = true;
+        speciesIndex.clear();
+        colorIndex.clear();
+        requestEntries.clear();
+    }
+
+    /**
+     * Rebuilds the request indexes over the pending and negotiating orders in this list, if they are stale.
+     */
+    private void rebuildStaleRequestIndexes() {
+        if (!areRequestIndexesStale) {
+            return;
+        }
+        Map<String, List<PriceRangeTree.Entry>> speciesEntries = new HashMap<>();
+        Map<String, List<PriceRangeTree.Entry>> colorEntries = new HashMap<>();
+        nextRank = 0;
+        for (Order order : internalList) {
+            PriceRangeTree.Entry entry = new PriceRangeTree.Entry(order, nextRank++);
+            requestEntries.put(order.getId(), entry);
+            if (isOpen(order)) {
+                speciesEntries.computeIfAbsent(requestedSpecies(order), unused -> new ArrayList<>()).add(entry);
+                colorEntries.computeIfAbsent(requestedColor(order), unused -> new ArrayList<>()).add(entry);
+            }
+        }
+        speciesEntries.forEach((value, entries) -> speciesIndex.put(value, new PriceRangeTree(entries)));
+        colorEntries.forEach((value, entries) -> colorIndex.put(value, new PriceRangeTree(entries)));
+        areRequestIndexesStale = false;
     }
 
     @Override
@@ -141,18 +343,4 @@ public class UniqueOrderList implements Iterable<Order> {
         return internalList.hashCode();
     }
 
-    /**
-     * Returns true iff {@code orders} contains only unique Orders.
-     */
-    private boolean ordersAreUnique(List<Order> orders) {
-        for (int i = 0; i < orders.size() - 1; i++) {
-            for (int j = i + 1; j < orders.size(); j++) {
-                if (orders.get(i).equals(orders.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
-
 }
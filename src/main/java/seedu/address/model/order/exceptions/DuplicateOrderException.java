@@ -1,11 +1,38 @@
 package seedu.address.model.order.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.order.Order;
+
 /**
  * Signals that the operation will result in duplicate Orders (Orders are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateOrderException extends RuntimeException {
+    private final List<Order> duplicates;
+
     public DuplicateOrderException() {
         super("Operation would result in duplicate orders");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateOrderException} that reports every order clashing with an earlier one.
+     */
+    public DuplicateOrderException(List<Order> duplicates) {
+        super("Operation would result in duplicate orders: " + duplicates.stream()
+                .map(order -> order.getId().getIdToString())
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(new ArrayList<>(duplicates));
+    }
+
+    /**
+     * Returns the orders that clash with an earlier order, or an empty list if they were not recorded.
+     */
+    public List<Order> getDuplicates() {
+        return duplicates;
     }
 }
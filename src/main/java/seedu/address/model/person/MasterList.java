@@ -1,24 +1,114 @@
 package seedu.address.model.person;
 
-import javafx.collections.FXCollections;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.ObservableListBase;
 
 /**
  * Stores all unique/distinct Buyers, Deliverers, and Suppliers.
+ *
+ * The master list is a live, unmodifiable concatenation of its source lists. Instead of being rebuilt whenever a
+ * source changes, it passes on each fine-grained change of a source, with the indices shifted by the sizes of the
+ * sources in front of it.
  */
 public class MasterList {
-    private final ObservableList<Object> internalList = FXCollections.observableArrayList();
+    private final ConcatenatedList internalList;
+
+    /**
+     * Constructs a master list that shows the elements of {@code sources} one after another, in the given order.
+     */
+    public MasterList(ObservableList<?>... sources) {
+        requireNonNull(sources);
+        internalList = new ConcatenatedList(Arrays.asList(sources));
+    }
 
     public ObservableList<Object> getMasterList() {
         return internalList;
     }
 
-    public void addAll(FilteredList<? extends Object> c) {
-        internalList.addAll(c);
-    }
+    /**
+     * An {@code ObservableList} that concatenates several source lists and forwards their changes.
+     */
+    private static class ConcatenatedList extends ObservableListBase<Object> {
+        private final List<ObservableList<?>> sources;
+
+        ConcatenatedList(List<ObservableList<?>> sources) {
+            this.sources = Collections.unmodifiableList(sources);
+            for (ObservableList<?> source : sources) {
+                requireNonNull(source);
+                source.addListener((ListChangeListener<Object>) change -> sourceChanged(source, change));
+            }
+        }
+
+        @Override
+        public Object get(int index) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            int remaining = index;
+            for (ObservableList<?> source : sources) {
+                if (remaining < source.size()) {
+                    return source.get(remaining);
+                }
+                remaining -= source.size();
+            }
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (ObservableList<?> source : sources) {
+                size += source.size();
+            }
+            return size;
+        }
+
+        /**
+         * Returns the index in this list of the first element of {@code source}.
+         */
+        private int offsetOf(ObservableList<?> source) {
+            int offset = 0;
+            for (ObservableList<?> other : sources) {
+                if (other == source) {
+                    break;
+                }
+                offset += other.size();
+            }
+            return offset;
+        }
 
-    public void clear() {
-        internalList.clear();
+        private void sourceChanged(ObservableList<?> source, ListChangeListener.Change<?> change) {
+            int offset = offsetOf(source);
+            beginChange();
+            while (change.next()) {
+                int from = change.getFrom() + offset;
+                int to = change.getTo() + offset;
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[change.getTo() - change.getFrom()];
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        permutation[i - change.getFrom()] = change.getPermutation(i) + offset;
+                    }
+                    nextPermutation(from, to, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i);
+                    }
+                } else if (change.wasAdded() && change.wasRemoved()) {
+                    nextReplace(from, to, change.getRemoved());
+                } else if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                } else if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+            endChange();
+        }
     }
 }
@@ -1,11 +1,15 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +25,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An index keyed on the identity fields of each person is kept alongside the list, so that duplicate checks
+ * take constant time instead of scanning the whole list.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList<T extends Person> implements Iterable<T> {
@@ -28,13 +35,14 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, T> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -47,6 +55,20 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, shifting the persons from that position onwards.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, T toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
     }
 
     /**
@@ -66,7 +88,9 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        T replaced = internalList.set(index, editedPerson);
+        identityIndex.remove(new IdentityKey(replaced));
+        identityIndex.put(new IdentityKey(editedPerson), editedPerson);
     }
 
     /**
@@ -75,27 +99,37 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        T removed = internalList.remove(index);
+        identityIndex.remove(new IdentityKey(removed));
     }
 
     public void setPersons(UniquePersonList<T> replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, otherwise all of the duplicates are reported at once.
      */
     public void setPersons(List<T> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<T> duplicates = findDuplicates(persons, IdentityKey::new);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(persons);
+        identityIndex.clear();
+        for (T person : persons) {
+            identityIndex.put(new IdentityKey(person), person);
+        }
     }
 
     /**
@@ -131,17 +165,27 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     }
 
     /**
-     * Returns true iff {@code persons} contains only unique persons.
+     * Wraps a person so that it is hashed and compared by the identity fields used in
+     * {@code Person#isSamePerson(Person)}, namely the name and the email.
      */
-    private boolean personsAreUnique(List<T> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private static class IdentityKey {
+        private final Person person;
+
+        IdentityKey(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof IdentityKey
+                    && person.isSamePerson(((IdentityKey) other).person));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(person.getName(), person.getEmail());
         }
-        return true;
     }
 
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports every person clashing with an earlier one.
+     */
+    public DuplicatePersonException(List<? extends Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates.stream()
+                .map(person -> person.getName().toString())
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(new ArrayList<>(duplicates));
+    }
+
+    /**
+     * Returns the persons that clash with an earlier person, or an empty list if they were not recorded.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
@@ -15,7 +15,8 @@ public class Color implements Comparable<Color> {
      * @param value The string representation of a color.
      */
     public Color(String value) {
-        this.value = (value == null) || !value.matches("^[a-zA-Z0-9 ]*$*") ? "" : value;
+        // Interned so that a CompiledPetGrader can compare colors by reference.
+        this.value = (value == null) || !value.matches("^[a-zA-Z0-9 ]*$*") ? "" : value.intern();
     }
 
     @Override
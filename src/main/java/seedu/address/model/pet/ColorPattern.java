@@ -18,7 +18,8 @@ public class ColorPattern implements Comparable<ColorPattern> {
         if (value == null || !value.matches("^[a-zA-Z0-9\\s]+$")) {
             this.value = "";
         } else {
-            this.value = value;
+            // Interned so that a CompiledPetGrader can compare color patterns by reference.
+            this.value = value.intern();
         }
     }
 
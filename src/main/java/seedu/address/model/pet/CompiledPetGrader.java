@@ -0,0 +1,130 @@
+package seedu.address.model.pet;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Price;
+import seedu.address.model.order.PriceRange;
+
+/**
+ * Grades how fit a pet is given an order, giving the same scores as {@link PetGrader#evaluate(Pet)}.
+ *
+ * Everything that does not depend on the pet is worked out once, when the grader is compiled: the requested values
+ * of the order are kept as primitives, and the current year is taken from a date fixed at that time instead of
+ * being looked up for every pet. Colors, color patterns and species are interned, so they are compared by
+ * reference.
+ */
+public final class CompiledPetGrader {
+
+    private static final Logger LOGGER = LogsCenter.getLogger(CompiledPetGrader.class);
+
+    private final double ageScoreWeight;
+    private final double colorScoreWeight;
+    private final double colorPatternScoreWeight;
+    private final double speciesScoreWeight;
+    private final double priceScoreWeight;
+
+    private final int requestedAge;
+    private final String requestedColor;
+    private final String requestedColorPattern;
+    private final String requestedSpecies;
+    private final boolean hasLowerBound;
+    private final double lowerBound;
+    private final boolean hasUpperBound;
+    private final double upperBound;
+    private final int currentYear;
+    private final boolean isLoggingScores;
+
+    /**
+     * Compiles {@code grader} for pets graded on {@code today}.
+     */
+    CompiledPetGrader(PetGrader grader, Order order, LocalDate today) {
+        requireNonNull(grader);
+        requireNonNull(order);
+        requireNonNull(today);
+        ageScoreWeight = grader.getAgeScoreWeight();
+        colorScoreWeight = grader.getColorScoreWeight();
+        colorPatternScoreWeight = grader.getColorPatternScoreWeight();
+        speciesScoreWeight = grader.getSpeciesScoreWeight();
+        priceScoreWeight = grader.getPriceScoreWeight();
+
+        requestedAge = order.getRequest().getRequestedAge().getValue();
+        requestedColor = order.getRequest().getRequestedColor().getValue();
+        requestedColorPattern = order.getRequest().getRequestedColorPattern().getValue();
+        requestedSpecies = order.getRequest().getRequestedSpecies().getValue();
+
+        PriceRange priceRange = order.getRequestedPriceRange();
+        hasLowerBound = !priceRange.getLowerBound().isNotApplicablePrice();
+        lowerBound = priceRange.getLowerBound().getPrice();
+        hasUpperBound = !priceRange.getUpperBound().isNotApplicablePrice();
+        upperBound = priceRange.getUpperBound().getPrice();
+
+        currentYear = today.getYear();
+        isLoggingScores = LOGGER.isLoggable(Level.FINE);
+    }
+
+    /**
+     * Evaluates the score of a pet.
+     *
+     * @param pet The {@code Pet} object to be evaluated.
+     */
+    public double evaluate(Pet pet) {
+        int age = currentYear - pet.getDateOfBirth().getDate().getYear();
+        double ageScore = ageScoreWeight - ageScoreWeight * Math.abs(requestedAge - age);
+        double colorScore = pet.getColor().getValue() == requestedColor ? colorScoreWeight : 0;
+        double colorPatternScore = pet.getColorPattern().getValue() == requestedColorPattern
+                ? colorPatternScoreWeight
+                : 0;
+        double speciesScore = pet.getSpecies().getValue() == requestedSpecies ? speciesScoreWeight : 0;
+
+        double price = pet.getPrice().getPrice();
+        double priceScore;
+        if (price == Price.NOT_APPLICABLE_PRICE) {
+            priceScore = priceScoreWeight;
+        } else if (hasLowerBound && price < lowerBound) {
+            priceScore = priceScoreWeight - (lowerBound - price);
+        } else if (hasUpperBound && price > upperBound) {
+            priceScore = priceScoreWeight - (price - upperBound);
+        } else {
+            priceScore = priceScoreWeight;
+        }
+
+        double sum = ageScore + colorScore + colorPatternScore + speciesScore + priceScore;
+        if (isLoggingScores) {
+            LOGGER.fine(pet.getName() + "'s score is " + sum);
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the highest score that a pet can get, if it may have the requested species, color and color pattern
+     * as given, and is known not to have the requested values of the other attributes. Returns positive infinity if
+     * the score has no upper bound, which is the case when the age score weight is negative.
+     */
+    double getHighestPossibleScore(boolean mayBeSameSpecies, boolean mayBeSameColor, boolean mayBeSameColorPattern) {
+        if (ageScoreWeight < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return ageScoreWeight + priceScoreWeight
+                + (mayBeSameSpecies ? Math.max(speciesScoreWeight, 0) : 0)
+                + (mayBeSameColor ? Math.max(colorScoreWeight, 0) : 0)
+                + (mayBeSameColorPattern ? Math.max(colorPatternScoreWeight, 0) : 0);
+    }
+
+    String getRequestedSpecies() {
+        return requestedSpecies;
+    }
+
+    String getRequestedColor() {
+        return requestedColor;
+    }
+
+    String getRequestedColorPattern() {
+        return requestedColorPattern;
+    }
+}
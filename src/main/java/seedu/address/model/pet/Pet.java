@@ -2,7 +2,7 @@ package seedu.address.model.pet;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -63,7 +63,7 @@ public class Pet {
                Price price,
                Set<PetCertificate> certificates) {
         requireAllNonNull(name, color, colorPattern, dateOfBirth, species, weight, height, vaccinationStatus, price);
-        UniqueIdGenerator.addToStoredIdPet(id);
+        PET_ID_GENERATOR.reserve(id);
         this.id = id;
         this.name = name;
         this.supplier = supplier;
@@ -105,11 +105,7 @@ public class Pet {
                Price price,
                Set<PetCertificate> certificates) {
         requireAllNonNull(name, color, colorPattern, dateOfBirth, species, weight, height, vaccinationStatus, price);
-        UniqueId currId = PET_ID_GENERATOR.next();
-        while (UniqueIdGenerator.storedIdPetContains(currId)) {
-            currId = PET_ID_GENERATOR.next();
-        }
-        this.id = currId;
+        this.id = PET_ID_GENERATOR.next();
         this.name = name;
         this.supplier = supplier;
         this.species = species;
@@ -166,7 +162,7 @@ public class Pet {
      * @return The age
      */
     public int getAge() {
-        int currYear = Calendar.getInstance().get(Calendar.YEAR);
+        int currYear = LocalDate.now().getYear();
         int bornYear = this.dateOfBirth.getDate().getYear();
         return currYear - bornYear;
     }
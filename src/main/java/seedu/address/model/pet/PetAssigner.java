@@ -0,0 +1,156 @@
+package seedu.address.model.pet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.model.order.Order;
+
+/**
+ * Assigns pets to orders, so that every order gets at most one pet and no pet is given to more than one order.
+ *
+ * The assignment is greedy: among all pairs of an order and a pet, the pair with the highest {@code PetGrader}
+ * score is assigned first, then the best pair among the remaining orders and pets, and so on. Instead of keeping
+ * every pair, only the best few candidate pets of each order are kept, and the candidates of all orders are
+ * assigned from the best down. If all candidates of an order go to other orders, a pet outside its candidates may
+ * fit it better than the pairs still to come, so the round stops there. The next round matches the orders that are
+ * left against the pets that are still free, with twice as many candidates. Every round assigns at least one pet,
+ * there are at most about log2(pets) rounds, and each round scores the orders against the free pets in parallel.
+ */
+public class PetAssigner {
+
+    /** The number of candidate pets kept for each order in the first round. */
+    public static final int INITIAL_CANDIDATE_COUNT = 8;
+
+    /** Orders candidates from the best fit to the worst fit, breaking ties by the positions of orders and pets. */
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.<Candidate>comparingDouble(x -> -x.score)
+            .thenComparingInt(x -> x.orderPosition)
+            .thenComparingInt(x -> x.petPosition);
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a PetAssigner that scores orders in parallel in {@code pool}.
+     */
+    public PetAssigner(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the pets assigned to {@code orders}, in the order of {@code orders}.
+     * If there are fewer pets than orders, the orders left without a pet are not in the returned map.
+     */
+    public Map<Order, Pet> assign(List<Order> orders, List<Pet> pets) {
+        requireAllNonNull(orders, pets);
+
+        Map<Order, Integer> orderPositions = positionsOf(orders);
+        Map<Pet, Integer> petPositions = positionsOf(pets);
+        Map<Order, Pet> assignment = new HashMap<>();
+        Set<Pet> assignedPets = new HashSet<>();
+        List<Order> unassignedOrders = new ArrayList<>(orderPositions.keySet());
+        List<Pet> freePets = new ArrayList<>(petPositions.keySet());
+
+        LocalDate today = LocalDate.now();
+        int candidateCount = INITIAL_CANDIDATE_COUNT;
+        while (!unassignedOrders.isEmpty() && !freePets.isEmpty()) {
+            List<Candidate> candidates = findCandidates(unassignedOrders, freePets, candidateCount, today,
+                    orderPositions, petPositions);
+            candidates.sort(BEST_FIRST);
+            for (Candidate candidate : candidates) {
+                if (assignment.containsKey(candidate.order)) {
+                    continue;
+                }
+                if (!assignedPets.contains(candidate.pet)) {
+                    assignment.put(candidate.order, candidate.pet);
+                    assignedPets.add(candidate.pet);
+                } else if (candidate.isLastOfSomeCandidates) {
+                    break;
+                }
+            }
+
+            unassignedOrders.removeIf(assignment::containsKey);
+            freePets.removeIf(assignedPets::contains);
+            candidateCount = (int) Math.min(Integer.MAX_VALUE, 2L * candidateCount);
+        }
+
+        Map<Order, Pet> orderedAssignment = new LinkedHashMap<>();
+        for (Order order : orderPositions.keySet()) {
+            if (assignment.containsKey(order)) {
+                orderedAssignment.put(order, assignment.get(order));
+            }
+        }
+        return orderedAssignment;
+    }
+
+    /**
+     * Returns the best {@code candidateCount} free pets of every order in {@code orders}, scoring the orders
+     * in parallel. The last candidate of an order is marked if the order has free pets that are not candidates.
+     */
+    private List<Candidate> findCandidates(List<Order> orders, List<Pet> freePets, int candidateCount,
+            LocalDate today, Map<Order, Integer> orderPositions, Map<Pet, Integer> petPositions) {
+        return pool.submit(() -> IntStream.range(0, orders.size()).parallel()
+                .mapToObj(i -> {
+                    Order order = orders.get(i);
+                    PetGrader grader = new PetGrader(order);
+                    CompiledPetGrader compiledGrader = grader.compile(today);
+                    List<Pet> bestPets = new PetMatcher(grader, today).findBestMatches(freePets, candidateCount);
+                    boolean hasOtherPets = bestPets.size() < freePets.size();
+                    List<Candidate> candidates = new ArrayList<>(bestPets.size());
+                    for (Pet pet : bestPets) {
+                        boolean isLast = candidates.size() == bestPets.size() - 1;
+                        candidates.add(new Candidate(order, orderPositions.get(order), pet, petPositions.get(pet),
+                                compiledGrader.evaluate(pet), isLast && hasOtherPets));
+                    }
+                    return candidates;
+                })
+                .flatMap(List::stream)
+                .collect(Collectors.toList()))
+                .join();
+    }
+
+    /**
+     * Returns the position of every distinct element of {@code items}, in the order of {@code items}.
+     */
+    private static <T> Map<T, Integer> positionsOf(List<T> items) {
+        Map<T, Integer> positions = new LinkedHashMap<>();
+        for (T item : items) {
+            positions.putIfAbsent(item, positions.size());
+        }
+        return positions;
+    }
+
+    /**
+     * A pet that may be assigned to an order, with its score for that order.
+     */
+    private static class Candidate {
+        private final Order order;
+        private final int orderPosition;
+        private final Pet pet;
+        private final int petPosition;
+        private final double score;
+        private final boolean isLastOfSomeCandidates;
+
+        Candidate(Order order, int orderPosition, Pet pet, int petPosition, double score,
+                boolean isLastOfSomeCandidates) {
+            this.order = order;
+            this.orderPosition = orderPosition;
+            this.pet = pet;
+            this.petPosition = petPosition;
+            this.score = score;
+            this.isLastOfSomeCandidates = isLastOfSomeCandidates;
+        }
+    }
+}
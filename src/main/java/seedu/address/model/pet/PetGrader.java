@@ -3,6 +3,8 @@ package seedu.address.model.pet;
 import static seedu.address.model.order.PriceRange.LOWER_THAN_RANGE;
 import static seedu.address.model.order.PriceRange.WITHIN_RANGE;
 
+import java.time.LocalDate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -96,10 +98,31 @@ public class PetGrader {
         }
 
         double sum = ageScore + colorScore + colorPatternScore + speciesScore + priceScore;
-        LOGGER.fine(pet.getName() + "'s score is " + sum);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(pet.getName() + "'s score is " + sum);
+        }
         return sum;
     }
 
+    /**
+     * Compiles this grader for grading many pets today.
+     * Pets should be graded with the compiled grader when many pets are graded for one order.
+     */
+    public CompiledPetGrader compile() {
+        return compile(LocalDate.now());
+    }
+
+    /**
+     * Compiles this grader for grading pets on {@code today}, which is used to work out the ages of pets.
+     */
+    public CompiledPetGrader compile(LocalDate today) {
+        return new CompiledPetGrader(this, order, today);
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
     public double getAgeScoreWeight() {
         return ageScoreWeight;
     }
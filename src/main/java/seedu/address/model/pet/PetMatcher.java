@@ -0,0 +1,277 @@
+package seedu.address.model.pet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+/**
+ * Finds the pets that fit an order best, according to the scores given by a {@code PetGrader}.
+ *
+ * Only the best pets seen so far are kept, in a heap bounded by the number of pets asked for, so finding the best
+ * few pets out of many does not need all of them to be sorted.
+ *
+ * Scoring a pet does not depend on any other pet, so a long list of pets can also be split into chunks that are
+ * matched in parallel. The best pets of every chunk are then merged, which gives the same result as matching the
+ * whole list at once.
+ *
+ * Pets of the requested species, color or color pattern score far higher than the other pets, so the pets of a
+ * {@code UniquePetList} can also be matched by looking these pets up in its indexes first, and skipping the rest
+ * of the pets once they cannot score high enough to be among the best.
+ */
+public class PetMatcher {
+
+    public static final String MESSAGE_CONSTRAINTS = "The number of pets to match should be positive.";
+
+    /** The number of pets that are matched in one task when matching in parallel. */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private static final int SAME_SPECIES = 0b100;
+    private static final int SAME_COLOR = 0b010;
+    private static final int SAME_COLOR_PATTERN = 0b001;
+
+    /** Orders scored pets from the worst fit to the best fit. Among equal scores, later pets are worse fits. */
+    private static final Comparator<ScoredPet> WORST_FIRST = Comparator.<ScoredPet>comparingDouble(x -> x.score)
+            .thenComparing(Comparator.<ScoredPet>comparingInt(x -> x.position).reversed());
+
+    private final CompiledPetGrader grader;
+
+    /**
+     * Constructs a PetMatcher that scores pets with {@code grader}, working out the ages of pets as of today.
+     */
+    public PetMatcher(PetGrader grader) {
+        this(grader, LocalDate.now());
+    }
+
+    /**
+     * Constructs a PetMatcher that scores pets with {@code grader}, working out the ages of pets as of
+     * {@code today}.
+     */
+    public PetMatcher(PetGrader grader, LocalDate today) {
+        requireAllNonNull(grader, today);
+        this.grader = grader.compile(today);
+    }
+
+    /**
+     * Returns the {@code limit} pets in {@code pets} with the highest scores, with the best fit first.
+     * Pets with equal scores keep their order in {@code pets}, as they would in a stable sort.
+     */
+    public List<Pet> findBestMatches(List<Pet> pets, int limit) {
+        requireNonNull(pets);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+
+        return toPets(selectBest(pets, 0, limit));
+    }
+
+    /**
+     * Returns the same pets as {@link #findBestMatches(List, int)}, but scores chunks of {@code chunkSize} pets
+     * in parallel in {@code pool}.
+     */
+    public List<Pet> findBestMatches(List<Pet> pets, int limit, ForkJoinPool pool, int chunkSize) {
+        requireAllNonNull(pets, pool);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+        checkArgument(chunkSize > 0, "The chunk size should be positive.");
+
+        if (pets.size() <= chunkSize) {
+            return findBestMatches(pets, limit);
+        }
+        // The worker threads read from a copy, as the given list may be an observable list owned by the UI thread.
+        List<Pet> petsToMatch = new ArrayList<>(pets);
+        return toPets(pool.invoke(new MatchTask(petsToMatch, 0, petsToMatch.size(), limit, chunkSize)));
+    }
+
+    /**
+     * Returns the same pets as {@link #findBestMatches(List, int)} would for the pets in {@code pets} that pass
+     * {@code filter}, without scoring the pets that cannot be among the best.
+     *
+     * The pets with the requested value of the attribute with the highest weight are looked up in the indexes of
+     * {@code pets} and scored first, then those of the attribute with the next highest weight, and so on. Before
+     * each step, the highest score that any pet not scored yet can get is worked out from the weights of the grader,
+     * and if the {@code limit}-th best score found so far is higher, the rest of the pets are skipped. The pets that
+     * have none of the requested values are only looked for if they cannot be skipped.
+     */
+    public List<Pet> findBestMatches(UniquePetList pets, Predicate<? super Pet> filter, int limit) {
+        requireAllNonNull(pets, filter);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+
+        List<Integer> attributes = new ArrayList<>(List.of(SAME_SPECIES, SAME_COLOR, SAME_COLOR_PATTERN));
+        attributes.sort(Comparator.comparingDouble(this::getHighestPossibleScore).reversed());
+
+        List<Pet> petList = pets.asUnmodifiableObservableList();
+        PriorityQueue<ScoredPet> bestMatches = new PriorityQueue<>(Math.min(limit, petList.size()) + 1, WORST_FIRST);
+        int attributesLeft = SAME_SPECIES | SAME_COLOR | SAME_COLOR_PATTERN;
+        for (int attribute : attributes) {
+            if (isBestFound(bestMatches, limit, attributesLeft)) {
+                return toPets(sortBestFirst(bestMatches));
+            }
+            int scoredAttributes = ~attributesLeft;
+            UniquePetList.Positions positions = getPositionsWithRequestedValue(pets, attribute);
+            for (int i = 0; i < positions.size(); i++) {
+                int position = positions.get(i);
+                Pet pet = petList.get(position);
+                if (!hasAnyRequestedValue(pet, scoredAttributes) && filter.test(pet)) {
+                    offer(bestMatches, new ScoredPet(pet, grader.evaluate(pet), position), limit);
+                }
+            }
+            attributesLeft &= ~attribute;
+        }
+
+        if (!isBestFound(bestMatches, limit, attributesLeft)) {
+            for (int position = 0; position < petList.size(); position++) {
+                Pet pet = petList.get(position);
+                if (!hasAnyRequestedValue(pet, ~attributesLeft) && filter.test(pet)) {
+                    offer(bestMatches, new ScoredPet(pet, grader.evaluate(pet), position), limit);
+                }
+            }
+        }
+        return toPets(sortBestFirst(bestMatches));
+    }
+
+    /**
+     * Returns true if {@code bestMatches} is full, and the pets that may only have the requested values of
+     * {@code attributes} cannot score high enough to replace any of them.
+     */
+    private boolean isBestFound(PriorityQueue<ScoredPet> bestMatches, int limit, int attributes) {
+        return bestMatches.size() == limit && bestMatches.peek().score > getHighestPossibleScore(attributes);
+    }
+
+    private double getHighestPossibleScore(int attributes) {
+        return grader.getHighestPossibleScore((attributes & SAME_SPECIES) != 0, (attributes & SAME_COLOR) != 0,
+                (attributes & SAME_COLOR_PATTERN) != 0);
+    }
+
+    private UniquePetList.Positions getPositionsWithRequestedValue(UniquePetList pets, int attribute) {
+        switch (attribute) {
+        case SAME_SPECIES:
+            return pets.getPositionsWithSpecies(grader.getRequestedSpecies());
+        case SAME_COLOR:
+            return pets.getPositionsWithColor(grader.getRequestedColor());
+        default:
+            return pets.getPositionsWithColorPattern(grader.getRequestedColorPattern());
+        }
+    }
+
+    /**
+     * Returns true if {@code pet} has the requested value of any of {@code attributes}. The values are interned,
+     * so they are compared by reference.
+     */
+    private boolean hasAnyRequestedValue(Pet pet, int attributes) {
+        return (attributes & SAME_SPECIES) != 0 && pet.getSpecies().getValue() == grader.getRequestedSpecies()
+                || (attributes & SAME_COLOR) != 0 && pet.getColor().getValue() == grader.getRequestedColor()
+                || (attributes & SAME_COLOR_PATTERN) != 0
+                && pet.getColorPattern().getValue() == grader.getRequestedColorPattern();
+    }
+
+    /**
+     * Returns the {@code limit} best fitting pets in {@code pets}, with the best fit first.
+     * The position of each pet is counted from {@code firstPosition}, so that ties are broken the same way
+     * whichever chunk a pet is matched in.
+     */
+    private List<ScoredPet> selectBest(List<Pet> pets, int firstPosition, int limit) {
+        PriorityQueue<ScoredPet> bestMatches = new PriorityQueue<>(Math.min(limit, pets.size()) + 1, WORST_FIRST);
+        int position = firstPosition;
+        for (Pet pet : pets) {
+            offer(bestMatches, new ScoredPet(pet, grader.evaluate(pet), position++), limit);
+        }
+        return sortBestFirst(bestMatches);
+    }
+
+    /**
+     * Adds {@code candidate} to {@code bestMatches} if it is among the {@code limit} best fits seen so far.
+     */
+    private static void offer(PriorityQueue<ScoredPet> bestMatches, ScoredPet candidate, int limit) {
+        if (bestMatches.size() < limit) {
+            bestMatches.add(candidate);
+        } else if (WORST_FIRST.compare(candidate, bestMatches.peek()) > 0) {
+            bestMatches.poll();
+            bestMatches.add(candidate);
+        }
+    }
+
+    private static List<ScoredPet> sortBestFirst(PriorityQueue<ScoredPet> bestMatches) {
+        List<ScoredPet> sorted = new ArrayList<>(bestMatches);
+        sorted.sort(WORST_FIRST.reversed());
+        return sorted;
+    }
+
+    /**
+     * Merges two lists of scored pets that are sorted with the best fit first, keeping the best {@code limit}.
+     */
+    private static List<ScoredPet> merge(List<ScoredPet> first, List<ScoredPet> second, int limit) {
+        List<ScoredPet> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j == second.size()
+                    || (i < first.size() && WORST_FIRST.compare(first.get(i), second.get(j)) > 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private static List<Pet> toPets(List<ScoredPet> scoredPets) {
+        List<Pet> pets = new ArrayList<>(scoredPets.size());
+        for (ScoredPet scoredPet : scoredPets) {
+            pets.add(scoredPet.pet);
+        }
+        return pets;
+    }
+
+    /**
+     * Finds the best fitting pets among the pets from {@code from} (inclusive) to {@code to} (exclusive),
+     * splitting the range in half until it is no longer than the chunk size.
+     */
+    private class MatchTask extends RecursiveTask<List<ScoredPet>> {
+        private final List<Pet> pets;
+        private final int from;
+        private final int to;
+        private final int limit;
+        private final int chunkSize;
+
+        MatchTask(List<Pet> pets, int from, int to, int limit, int chunkSize) {
+            this.pets = pets;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected List<ScoredPet> compute() {
+            if (to - from <= chunkSize) {
+                return selectBest(pets.subList(from, to), from, limit);
+            }
+            int middle = (from + to) >>> 1;
+            MatchTask firstHalf = new MatchTask(pets, from, middle, limit, chunkSize);
+            firstHalf.fork();
+            List<ScoredPet> secondHalfMatches = new MatchTask(pets, middle, to, limit, chunkSize).compute();
+            return merge(firstHalf.join(), secondHalfMatches, limit);
+        }
+    }
+
+    /**
+     * A pet with its score and its position in the list of pets being matched.
+     */
+    private static class ScoredPet {
+        private final Pet pet;
+        private final double score;
+        private final int position;
+
+        ScoredPet(Pet pet, double score, int position) {
+            this.pet = pet;
+            this.score = score;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.model.pet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.index.UniqueId;
+import seedu.address.model.pet.exceptions.PetNotFoundException;
+
+/**
+ * All pets of a pet list ranked from the best fit to the worst fit for one order, with their scores.
+ *
+ * The ranking can be kept up to date as pets are added, edited or removed, by scoring only the pet that changed.
+ * Pets with equal scores are ranked in the order of the pet list, as they would be in a stable sort of the list.
+ */
+public class PetRanking {
+
+    /** Orders ranked pets from the best fit to the worst fit. Among equal scores, earlier pets are better fits. */
+    private static final Comparator<RankedPet> BEST_FIRST = Comparator.<RankedPet>comparingDouble(x -> -x.score)
+            .thenComparingLong(x -> x.sequence);
+
+    private final CompiledPetGrader grader;
+    private final TreeSet<RankedPet> ranking = new TreeSet<>(BEST_FIRST);
+    private final Map<UniqueId, RankedPet> rankedPets = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * Ranks {@code pets}, which are in the order of the pet list, with {@code grader}.
+     */
+    public PetRanking(CompiledPetGrader grader, List<Pet> pets) {
+        requireAllNonNull(grader, pets);
+        this.grader = grader;
+        for (Pet pet : pets) {
+            rank(pet, nextSequence++);
+        }
+    }
+
+    /**
+     * Ranks {@code pet}, which was added to the end of the pet list.
+     */
+    public void add(Pet pet) {
+        requireNonNull(pet);
+        rank(pet, nextSequence++);
+    }
+
+    /**
+     * Ranks {@code editedPet} in place of {@code target}, which it replaced in the pet list.
+     * {@code target} must be ranked.
+     */
+    public void set(Pet target, Pet editedPet) {
+        requireAllNonNull(target, editedPet);
+        RankedPet replaced = unrank(target);
+        rank(editedPet, replaced.sequence);
+    }
+
+    /**
+     * Removes {@code pet} from the ranking. {@code pet} must be ranked.
+     */
+    public void remove(Pet pet) {
+        requireNonNull(pet);
+        unrank(pet);
+    }
+
+    /**
+     * Breaks ties between equal scores by the new order of {@code pets}, after the pet list was sorted.
+     * {@code pets} must hold exactly the ranked pets. No pet is scored again.
+     */
+    public void reorder(List<Pet> pets) {
+        requireNonNull(pets);
+        checkArgument(pets.size() == rankedPets.size(), "The pets to reorder must be the ranked pets.");
+        List<RankedPet> reordered = new ArrayList<>(pets.size());
+        for (Pet pet : pets) {
+            reordered.add(new RankedPet(pet, getScore(pet), reordered.size()));
+        }
+
+        ranking.clear();
+        rankedPets.clear();
+        for (RankedPet rankedPet : reordered) {
+            ranking.add(rankedPet);
+            rankedPets.put(rankedPet.pet.getId(), rankedPet);
+        }
+        nextSequence = reordered.size();
+    }
+
+    /**
+     * Returns the {@code limit} best fitting pets that pass {@code filter}, with the best fit first.
+     */
+    public List<Pet> getBestMatches(int limit, Predicate<? super Pet> filter) {
+        requireNonNull(filter);
+        checkArgument(limit > 0, PetMatcher.MESSAGE_CONSTRAINTS);
+        List<Pet> bestMatches = new ArrayList<>(Math.min(limit, ranking.size()));
+        for (RankedPet rankedPet : ranking) {
+            if (bestMatches.size() == limit) {
+                break;
+            }
+            if (filter.test(rankedPet.pet)) {
+                bestMatches.add(rankedPet.pet);
+            }
+        }
+        return bestMatches;
+    }
+
+    /**
+     * Returns the score of {@code pet}, which must be ranked.
+     */
+    public double getScore(Pet pet) {
+        requireNonNull(pet);
+        RankedPet rankedPet = rankedPets.get(pet.getId());
+        if (rankedPet == null) {
+            throw new PetNotFoundException();
+        }
+        return rankedPet.score;
+    }
+
+    /**
+     * Returns the number of ranked pets.
+     */
+    public int size() {
+        return rankedPets.size();
+    }
+
+    private void rank(Pet pet, long sequence) {
+        RankedPet rankedPet = new RankedPet(pet, grader.evaluate(pet), sequence);
+        ranking.add(rankedPet);
+        rankedPets.put(pet.getId(), rankedPet);
+    }
+
+    private RankedPet unrank(Pet pet) {
+        RankedPet rankedPet = rankedPets.remove(pet.getId());
+        if (rankedPet == null) {
+            throw new PetNotFoundException();
+        }
+        ranking.remove(rankedPet);
+        return rankedPet;
+    }
+
+    /**
+     * A pet with its score, and a sequence number that follows the order of the pet list.
+     */
+    private static class RankedPet {
+        private final Pet pet;
+        private final double score;
+        private final long sequence;
+
+        RankedPet(Pet pet, double score, long sequence) {
+            this.pet = pet;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.model.pet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.UniqueId;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Request;
+
+/**
+ * Keeps the rankings of the pets in a pet list for the orders that were matched recently, so that matching an order
+ * again does not score every pet again.
+ *
+ * A ranking is kept for each order and set of grader weights. The rankings are updated as pets are added, edited,
+ * removed or sorted, and the rankings of an order are dropped when what it requests changes. The rankings that were
+ * used least recently are dropped once the rankings hold more pets than the budget. Each ranked pet takes about
+ * 100 bytes.
+ */
+public class PetRankingCache {
+
+    /** The default number of ranked pets that the cache holds at most, across all of its rankings. */
+    public static final int DEFAULT_BUDGET = 100_000;
+
+    private static final Logger logger = LogsCenter.getLogger(PetRankingCache.class);
+
+    private final int budget;
+    private final Map<Key, PetRanking> rankings = new LinkedHashMap<>(16, 0.75f, true);
+    private int rankedPetCount;
+
+    /**
+     * Constructs a PetRankingCache that holds at most {@code budget} ranked pets.
+     */
+    public PetRankingCache(int budget) {
+        checkArgument(budget >= 0, "The budget of a pet ranking cache should not be negative.");
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the ranking of {@code pets}, which must be the whole pet list, for the order of {@code grader}.
+     * The pets are ranked if no ranking is kept for the order and weights of {@code grader} yet.
+     * Returns an empty {@code Optional} if the pet list is too long for the budget.
+     */
+    public Optional<PetRanking> getRanking(PetGrader grader, List<Pet> pets) {
+        requireAllNonNull(grader, pets);
+        if (pets.size() > budget) {
+            return Optional.empty();
+        }
+        LocalDate today = LocalDate.now();
+        Key key = new Key(grader, today);
+        PetRanking ranking = rankings.get(key);
+        if (ranking == null) {
+            ranking = new PetRanking(grader.compile(today), pets);
+            rankings.put(key, ranking);
+            rankedPetCount += ranking.size();
+            logger.fine("Ranked " + pets.size() + " pets for order " + key.orderId.getIdToString());
+            evictLeastRecentlyUsed();
+        }
+        return Optional.of(ranking);
+    }
+
+    /**
+     * Ranks {@code pet}, which was added to the end of the pet list.
+     */
+    public void addPet(Pet pet) {
+        requireNonNull(pet);
+        for (PetRanking ranking : rankings.values()) {
+            ranking.add(pet);
+        }
+        rankedPetCount += rankings.size();
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * Ranks {@code editedPet} in place of {@code target}, which it replaced in the pet list.
+     */
+    public void setPet(Pet target, Pet editedPet) {
+        requireAllNonNull(target, editedPet);
+        for (PetRanking ranking : rankings.values()) {
+            ranking.set(target, editedPet);
+        }
+    }
+
+    /**
+     * Removes {@code pet}, which was removed from the pet list, from the rankings.
+     */
+    public void removePet(Pet pet) {
+        requireNonNull(pet);
+        for (PetRanking ranking : rankings.values()) {
+            ranking.remove(pet);
+        }
+        rankedPetCount -= rankings.size();
+    }
+
+    /**
+     * Breaks ties in the rankings by the order of {@code pets}, which is the whole pet list after it was sorted.
+     */
+    public void reorderPets(List<Pet> pets) {
+        requireNonNull(pets);
+        for (PetRanking ranking : rankings.values()) {
+            ranking.reorder(pets);
+        }
+    }
+
+    /**
+     * Drops the rankings of {@code target} if {@code editedOrder} requests a different pet or price range.
+     */
+    public void setOrder(Order target, Order editedOrder) {
+        requireAllNonNull(target, editedOrder);
+        if (!target.getId().equals(editedOrder.getId())
+                || !target.getRequest().equals(editedOrder.getRequest())
+                || !target.getRequestedPriceRange().equals(editedOrder.getRequestedPriceRange())) {
+            removeOrder(target);
+        }
+    }
+
+    /**
+     * Drops the rankings of {@code order}.
+     */
+    public void removeOrder(Order order) {
+        requireNonNull(order);
+        Iterator<Map.Entry<Key, PetRanking>> entries = rankings.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Key, PetRanking> entry = entries.next();
+            if (entry.getKey().orderId.equals(order.getId())) {
+                rankedPetCount -= entry.getValue().size();
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops all rankings.
+     */
+    public void clear() {
+        rankings.clear();
+        rankedPetCount = 0;
+    }
+
+    /**
+     * Returns the number of ranked pets across all rankings.
+     */
+    public int getRankedPetCount() {
+        return rankedPetCount;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Iterator<PetRanking> leastRecentlyUsed = rankings.values().iterator();
+        while (rankedPetCount > budget && leastRecentlyUsed.hasNext()) {
+            rankedPetCount -= leastRecentlyUsed.next().size();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Identifies a ranking by the order, what the order requests, the weights of the grader, and the year that the
+     * ages of pets are worked out in. A ranking of an order whose request was changed in place is never found.
+     */
+    private static class Key {
+        private final UniqueId orderId;
+        private final Request request;
+        private final double lowerPrice;
+        private final double upperPrice;
+        private final double[] weights;
+        private final int year;
+
+        Key(PetGrader grader, LocalDate today) {
+            Order order = grader.getOrder();
+            orderId = order.getId();
+            request = order.getRequest();
+            lowerPrice = order.getRequestedPriceRange().getLowerBound().getPrice();
+            upperPrice = order.getRequestedPriceRange().getUpperBound().getPrice();
+            weights = new double[] {grader.getAgeScoreWeight(), grader.getColorScoreWeight(),
+                grader.getColorPatternScoreWeight(), grader.getSpeciesScoreWeight(), grader.getPriceScoreWeight()};
+            year = today.getYear();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key otherKey = (Key) other;
+            return orderId.equals(otherKey.orderId)
+                    && request.equals(otherKey.request)
+                    && Double.compare(lowerPrice, otherKey.lowerPrice) == 0
+                    && Double.compare(upperPrice, otherKey.upperPrice) == 0
+                    && Arrays.equals(weights, otherKey.weights)
+                    && year == otherKey.year;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(orderId, request, lowerPrice, upperPrice, Arrays.hashCode(weights), year);
+        }
+    }
+}
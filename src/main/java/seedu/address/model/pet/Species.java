@@ -17,7 +17,8 @@ public class Species implements Comparable<Species> {
         if (value == null || !value.matches("^[a-zA-Z0-9\\s]+$")) {
             this.value = "";
         } else {
-            this.value = value;
+            // Interned so that a CompiledPetGrader can compare species by reference.
+            this.value = value.intern();
         }
     }
 
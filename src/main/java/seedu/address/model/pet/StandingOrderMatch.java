@@ -0,0 +1,63 @@
+package seedu.address.model.pet;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.order.Order;
+
+/**
+ * A pet that was added or changed, and now scores at least the minimum score of a standing order.
+ */
+public final class StandingOrderMatch {
+
+    private final Order order;
+    private final Pet pet;
+    private final double score;
+
+    /**
+     * Constructs a match of {@code pet} for the standing order {@code order}, with the score of the pet.
+     */
+    public StandingOrderMatch(Order order, Pet pet, double score) {
+        requireAllNonNull(order, pet);
+        this.order = order;
+        this.pet = pet;
+        this.score = score;
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public Pet getPet() {
+        return pet;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (other instanceof StandingOrderMatch) {
+            StandingOrderMatch otherMatch = (StandingOrderMatch) other;
+            return order.equals(otherMatch.order)
+                    && pet.equals(otherMatch.pet)
+                    && Double.compare(score, otherMatch.score) == 0;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(order, pet, score);
+    }
+
+    @Override
+    public String toString() {
+        return pet.getName() + " scores " + score + " for order " + order.getId().getIdToString();
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.model.pet;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.UniqueId;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderStatus;
+
+/**
+ * Watches the pet list for some orders, called standing orders, and flags every pet that is added or changed and
+ * scores at least the minimum score of a standing order.
+ *
+ * The matcher listens to changes of the pet list, and only the pets that were added or replaced are scored, with
+ * the compiled {@code PetGrader} of every standing order. A pet that is changed is only flagged again for an order
+ * if its previous version scored below the minimum score of that order. The matcher also listens to changes of the
+ * order list: a standing order that is deleted, or that is no longer pending or negotiating, stops being watched.
+ */
+public class StandingOrderMatcher {
+
+    public static final String MESSAGE_CONSTRAINTS = "Only pending or negotiating orders can be standing orders.";
+
+    private static final Logger LOGGER = LogsCenter.getLogger(StandingOrderMatcher.class);
+
+    private final Map<UniqueId, StandingOrder> standingOrders = new LinkedHashMap<>();
+    private final List<StandingOrderMatch> newMatches = new ArrayList<>();
+    private boolean isMatching = true;
+
+    /**
+     * Constructs a StandingOrderMatcher that watches {@code pets} for standing orders in {@code orders}.
+     */
+    public StandingOrderMatcher(ObservableList<Pet> pets, ObservableList<Order> orders) {
+        requireAllNonNull(pets, orders);
+        pets.addListener(this::onPetsChanged);
+        orders.addListener(this::onOrdersChanged);
+    }
+
+    /**
+     * Returns true if {@code order} can be a standing order, that is, if it is pending or negotiating.
+     */
+    public static boolean isOpen(Order order) {
+        return order.getOrderStatus() == OrderStatus.PENDING || order.getOrderStatus() == OrderStatus.NEGOTIATING;
+    }
+
+    /**
+     * Watches the pet list for pets that score at least {@code minScore} for {@code order}.
+     * If {@code order} is already a standing order, its minimum score is replaced.
+     */
+    public void watch(Order order, double minScore) {
+        requireNonNull(order);
+        checkArgument(isOpen(order), MESSAGE_CONSTRAINTS);
+        standingOrders.put(order.getId(), new StandingOrder(order, minScore, LocalDate.now()));
+    }
+
+    /**
+     * Stops watching the pet list for {@code order}. Returns true if it was a standing order.
+     */
+    public boolean unwatch(Order order) {
+        requireNonNull(order);
+        return standingOrders.remove(order.getId()) != null;
+    }
+
+    /**
+     * Returns true if {@code order} is a standing order.
+     */
+    public boolean isWatching(Order order) {
+        requireNonNull(order);
+        return standingOrders.containsKey(order.getId());
+    }
+
+    /**
+     * Returns the matches flagged since this method was last called, in the order they were flagged,
+     * and forgets them.
+     */
+    public List<StandingOrderMatch> takeNewMatches() {
+        List<StandingOrderMatch> matches = new ArrayList<>(newMatches);
+        newMatches.clear();
+        return matches;
+    }
+
+    /**
+     * Forgets the matches flagged since {@link #takeNewMatches()} was last called.
+     */
+    public void clearNewMatches() {
+        newMatches.clear();
+    }
+
+    /**
+     * Runs {@code change} without flagging the pets that it adds or changes. This is meant for replacing the whole
+     * pet list, such as when the address book is reset, which would otherwise score every pet.
+     * Standing orders are still updated as the order list changes.
+     */
+    public void runWithoutMatching(Runnable change) {
+        requireNonNull(change);
+        boolean wasMatching = isMatching;
+        isMatching = false;
+        try {
+            change.run();
+        } finally {
+            isMatching = wasMatching;
+        }
+    }
+
+    private void onPetsChanged(ListChangeListener.Change<? extends Pet> change) {
+        if (!isMatching || standingOrders.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        while (change.next()) {
+            if (!change.wasAdded()) {
+                continue;
+            }
+            Map<UniqueId, Pet> previousVersions = new HashMap<>();
+            for (Pet removed : change.getRemoved()) {
+                previousVersions.put(removed.getId(), removed);
+            }
+            for (Pet added : change.getAddedSubList()) {
+                match(added, previousVersions.get(added.getId()), today);
+            }
+        }
+    }
+
+    /**
+     * Flags {@code pet} for every standing order that it scores enough for, unless {@code previousVersion}, the
+     * version of the pet that it replaced, if any, was already enough.
+     */
+    private void match(Pet pet, Pet previousVersion, LocalDate today) {
+        for (StandingOrder standingOrder : standingOrders.values()) {
+            CompiledPetGrader grader = standingOrder.getGrader(today);
+            double score = grader.evaluate(pet);
+            if (score >= standingOrder.minScore
+                    && (previousVersion == null || grader.evaluate(previousVersion) < standingOrder.minScore)) {
+                newMatches.add(new StandingOrderMatch(standingOrder.order, pet, score));
+                LOGGER.info(pet.getName() + " scores " + score + " for standing order "
+                        + standingOrder.order.getId().getIdToString());
+            }
+        }
+    }
+
+    private void onOrdersChanged(ListChangeListener.Change<? extends Order> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || standingOrders.isEmpty()) {
+                continue;
+            }
+            Set<UniqueId> replacedIds = new HashSet<>();
+            for (Order added : change.getAddedSubList()) {
+                StandingOrder standingOrder = standingOrders.get(added.getId());
+                if (standingOrder != null) {
+                    replacedIds.add(added.getId());
+                    if (isOpen(added)) {
+                        standingOrders.put(added.getId(),
+                                new StandingOrder(added, standingOrder.minScore, LocalDate.now()));
+                    } else {
+                        standingOrders.remove(added.getId());
+                    }
+                }
+            }
+            for (Order removed : change.getRemoved()) {
+                if (!replacedIds.contains(removed.getId())) {
+                    standingOrders.remove(removed.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * An order that the pet list is watched for, with the minimum score of the pets to flag.
+     */
+    private static class StandingOrder {
+        private final Order order;
+        private final double minScore;
+        private CompiledPetGrader grader;
+        private int gradedYear;
+
+        StandingOrder(Order order, double minScore, LocalDate today) {
+            this.order = order;
+            this.minScore = minScore;
+            this.grader = new PetGrader(order).compile(today);
+            this.gradedYear = today.getYear();
+        }
+
+        /**
+         * Returns the compiled grader of the order, compiling it again if the year has changed since,
+         * as the ages of pets depend on the year.
+         */
+        CompiledPetGrader getGrader(LocalDate today) {
+            if (today.getYear() != gradedYear) {
+                grader = new PetGrader(order).compile(today);
+                gradedYear = today.getYear();
+            }
+            return grader;
+        }
+    }
+}
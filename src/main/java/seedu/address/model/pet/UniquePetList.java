@@ -1,15 +1,28 @@
 package seedu.address.model.pet;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.UniqueId;
 import seedu.address.model.pet.exceptions.DuplicatePetException;
 import seedu.address.model.pet.exceptions.PetNotFoundException;
@@ -23,20 +36,43 @@ import seedu.address.model.pet.exceptions.PetNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An index keyed on the identity fields of each pet is kept alongside the list, so that duplicate checks
+ * take constant time instead of scanning the whole list. The positions of the pets are also indexed by species,
+ * color and color pattern, so that a {@code PetMatcher} can look up the pets that have the requested values of an
+ * order. That index is updated along with the list: adding a pet to the end of the list only appends its position,
+ * while inserting or removing a pet elsewhere shifts the positions after it. Replacing or sorting all of the pets
+ * rebuilds the index.
+ *
  * @see Pet#isSamePet(Pet)
  */
 public class UniquePetList implements Iterable<Pet> {
 
+    private static final Logger logger = LogsCenter.getLogger(UniquePetList.class);
+    private static final Positions NO_POSITIONS = new Positions();
+
     private final ObservableList<Pet> internalList = FXCollections.observableArrayList();
     private final ObservableList<Pet> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentityKey, Pet> identityIndex = new HashMap<>();
+    private final Map<UniqueId, Pet> idIndex = new HashMap<>();
+    private final Map<String, Positions> speciesIndex = new HashMap<>();
+    private final Map<String, Positions> colorIndex = new HashMap<>();
+    private final Map<String, Positions> colorPatternIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent pet as the given argument.
      */
     public boolean contains(Pet toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePet);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
+    }
+
+    /**
+     * Returns the pet in the list that is equivalent to the given pet, if there is one.
+     */
+    public Optional<Pet> getSamePet(Pet toFind) {
+        requireNonNull(toFind);
+        return Optional.ofNullable(identityIndex.get(new IdentityKey(toFind)));
     }
 
     /**
@@ -49,6 +85,25 @@ public class UniquePetList implements Iterable<Pet> {
             throw new DuplicatePetException();
         }
         internalList.add(toAdd);
+        indexAttributes(toAdd, internalList.size() - 1);
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
+    }
+
+    /**
+     * Inserts a pet into the list at {@code index}, shifting the pets from that position onwards.
+     * The pet must not already exist in the list.
+     */
+    public void add(int index, Pet toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePetException();
+        }
+        internalList.add(index, toAdd);
+        shiftPositions(index, 1);
+        indexAttributes(toAdd, index);
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
     }
 
     /**
@@ -68,7 +123,13 @@ public class UniquePetList implements Iterable<Pet> {
             throw new DuplicatePetException();
         }
 
-        internalList.set(index, editedPet);
+        Pet replaced = internalList.set(index, editedPet);
+        unindexAttributes(replaced, index);
+        indexAttributes(editedPet, index);
+        identityIndex.remove(new IdentityKey(replaced));
+        identityIndex.put(new IdentityKey(editedPet), editedPet);
+        idIndex.remove(replaced.getId());
+        idIndex.put(editedPet.getId(), editedPet);
     }
 
     /**
@@ -77,27 +138,67 @@ public class UniquePetList implements Iterable<Pet> {
      */
     public void remove(Pet toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PetNotFoundException();
         }
+        Pet removed = internalList.remove(index);
+        unindexAttributes(removed, index);
+        shiftPositions(index + 1, -1);
+        identityIndex.remove(new IdentityKey(removed));
+        idIndex.remove(removed.getId());
+    }
+
+    /**
+     * Removes all of the equivalent pets in {@code toRemove} from the list, as a single change to the list.
+     * Every pet must exist in the list, otherwise the list is left unchanged.
+     */
+    public void removeAll(Collection<Pet> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Pet> targets = new HashSet<>(toRemove);
+        for (Pet target : targets) {
+            if (!target.equals(idIndex.get(target.getId()))) {
+                throw new PetNotFoundException();
+            }
+        }
+
+        internalList.removeAll(targets);
+        rebuildAttributeIndexes();
+        for (Pet removed : targets) {
+            identityIndex.remove(new IdentityKey(removed));
+            idIndex.remove(removed.getId());
+        }
     }
 
     public void setPets(UniquePetList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildAttributeIndexes();
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code pets}.
-     * {@code pets} must not contain duplicate pets.
+     * {@code pets} must not contain duplicate pets, otherwise all of the duplicates are reported at once.
      */
     public void setPets(List<Pet> pets) {
         requireAllNonNull(pets);
-        if (!petsAreUnique(pets)) {
-            throw new DuplicatePetException();
+        List<Pet> duplicates = findDuplicates(pets, IdentityKey::new);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePetException(duplicates);
         }
 
         internalList.setAll(pets);
+        rebuildAttributeIndexes();
+        identityIndex.clear();
+        idIndex.clear();
+        for (Pet pet : pets) {
+            identityIndex.put(new IdentityKey(pet), pet);
+            idIndex.put(pet.getId(), pet);
+        }
     }
 
     /**
@@ -108,13 +209,27 @@ public class UniquePetList implements Iterable<Pet> {
     }
 
     /**
-     * Gets the list of pets from list of ids.
+     * Gets the list of pets from list of ids, in the order of the ids.
+     * Ids that do not belong to any pet in this list are skipped and logged.
      */
     public List<Pet> getPetsFromId(List<UniqueId> ids) {
-        return internalList.stream()
-                .filter(pet -> ids.stream()
-                        .anyMatch(pet::hasId))
-                .collect(Collectors.toList());
+        requireNonNull(ids);
+        List<Pet> pets = new ArrayList<>();
+        List<UniqueId> missingIds = new ArrayList<>();
+        for (UniqueId id : new LinkedHashSet<>(ids)) {
+            Pet pet = idIndex.get(id);
+            if (pet == null) {
+                missingIds.add(id);
+            } else {
+                pets.add(pet);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            logger.warning("No pets found for ids: " + missingIds.stream()
+                    .map(UniqueId::getIdToString)
+                    .collect(Collectors.joining(", ")));
+        }
+        return pets;
     }
 
     /**
@@ -123,6 +238,72 @@ public class UniquePetList implements Iterable<Pet> {
      */
     public void sort(Comparator<Pet> comparator) {
         internalList.sort(comparator);
+        rebuildAttributeIndexes();
+    }
+
+    /**
+     * Returns a read-only view of the positions in this list of the pets whose species is {@code species},
+     * in increasing order. The view is only valid until the list next changes.
+     */
+    Positions getPositionsWithSpecies(String species) {
+        return speciesIndex.getOrDefault(species, NO_POSITIONS);
+    }
+
+    /**
+     * Returns a read-only view of the positions in this list of the pets whose color is {@code color},
+     * in increasing order. The view is only valid until the list next changes.
+     */
+    Positions getPositionsWithColor(String color) {
+        return colorIndex.getOrDefault(color, NO_POSITIONS);
+    }
+
+    /**
+     * Returns a read-only view of the positions in this list of the pets whose color pattern is
+     * {@code colorPattern}, in increasing order. The view is only valid until the list next changes.
+     */
+    Positions getPositionsWithColorPattern(String colorPattern) {
+        return colorPatternIndex.getOrDefault(colorPattern, NO_POSITIONS);
+    }
+
+    private void indexAttributes(Pet pet, int position) {
+        speciesIndex.computeIfAbsent(pet.getSpecies().getValue(), unused -> new Positions()).insert(position);
+        colorIndex.computeIfAbsent(pet.getColor().getValue(), unused -> new Positions()).insert(position);
+        colorPatternIndex.computeIfAbsent(pet.getColorPattern().getValue(), unused -> new Positions())
+                .insert(position);
+    }
+
+    private void unindexAttributes(Pet pet, int position) {
+        unindex(speciesIndex, pet.getSpecies().getValue(), position);
+        unindex(colorIndex, pet.getColor().getValue(), position);
+        unindex(colorPatternIndex, pet.getColorPattern().getValue(), position);
+    }
+
+    private static void unindex(Map<String, Positions> index, String value, int position) {
+        Positions positions = index.get(value);
+        positions.delete(position);
+        if (positions.size() == 0) {
+            index.remove(value);
+        }
+    }
+
+    /**
+     * Moves the indexed positions from {@code from} onwards by {@code offset}, after pets were inserted or removed.
+     */
+    private void shiftPositions(int from, int offset) {
+        for (Map<String, Positions> index : List.of(speciesIndex, colorIndex, colorPatternIndex)) {
+            for (Positions positions : index.values()) {
+                positions.shift(from, offset);
+            }
+        }
+    }
+
+    private void rebuildAttributeIndexes() {
+        speciesIndex.clear();
+        colorIndex.clear();
+        colorPatternIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            indexAttributes(internalList.get(i), i);
+        }
     }
 
     @Override
@@ -143,16 +324,80 @@ public class UniquePetList implements Iterable<Pet> {
     }
 
     /**
-     * Returns true iff {@code pets} contains only unique pets.
+     * The positions in a {@code UniquePetList} of the pets that share the value of an attribute, in increasing order.
+     * Only the list that owns it can change it.
      */
-    private boolean petsAreUnique(List<Pet> pets) {
-        for (int i = 0; i < pets.size() - 1; i++) {
-            for (int j = i + 1; j < pets.size(); j++) {
-                if (pets.get(i).isSamePet(pets.get(j))) {
-                    return false;
-                }
+    static final class Positions {
+        private int[] positions = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(int i) {
+            Objects.checkIndex(i, size);
+            return positions[i];
+        }
+
+        /**
+         * Adds {@code position}, which must not be held yet. Adding a position after all the others takes
+         * constant time.
+         */
+        private void insert(int position) {
+            int i = -Arrays.binarySearch(positions, 0, size, position) - 1;
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            System.arraycopy(positions, i, positions, i + 1, size - i);
+            positions[i] = position;
+            size++;
+        }
+
+        /**
+         * Removes {@code position}, which must be held.
+         */
+        private void delete(int position) {
+            int i = Arrays.binarySearch(positions, 0, size, position);
+            System.arraycopy(positions, i + 1, positions, i, size - i - 1);
+            size--;
+        }
+
+        /**
+         * Adds {@code offset} to the positions from {@code from} onwards, which keeps them in increasing order.
+         */
+        private void shift(int from, int offset) {
+            int i = Arrays.binarySearch(positions, 0, size, from);
+            if (i < 0) {
+                i = -i - 1;
             }
+            while (i < size) {
+                positions[i++] += offset;
+            }
+        }
+    }
+
+    /**
+     * Wraps a pet so that it is hashed and compared by the identity fields used in {@code Pet#isSamePet(Pet)}.
+     * Only a subset of those fields is hashed, which is consistent with equality and cheap to compute.
+     */
+    private static class IdentityKey {
+        private final Pet pet;
+
+        IdentityKey(Pet pet) {
+            this.pet = pet;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof IdentityKey
+                    && pet.isSamePet(((IdentityKey) other).pet));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pet.getName(), pet.getSpecies(), pet.getDateOfBirth(), pet.getColor());
         }
-        return true;
     }
 }
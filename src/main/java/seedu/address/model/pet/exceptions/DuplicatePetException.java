@@ -1,11 +1,38 @@
 package seedu.address.model.pet.exceptions;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.pet.Pet;
+
 /**
  * Signals that the operation will result in duplicate Pets (Pets are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePetException extends RuntimeException {
+    private final List<Pet> duplicates;
+
     public DuplicatePetException() {
         super("Operation would result in duplicate pets");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePetException} that reports every pet clashing with an earlier one.
+     */
+    public DuplicatePetException(List<Pet> duplicates) {
+        super("Operation would result in duplicate pets: " + duplicates.stream()
+                .map(pet -> pet.getName().toString())
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(new ArrayList<>(duplicates));
+    }
+
+    /**
+     * Returns the pets that clash with an earlier pet, or an empty list if they were not recorded.
+     */
+    public List<Pet> getDuplicates() {
+        return duplicates;
     }
 }
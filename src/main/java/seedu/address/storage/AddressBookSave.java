@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * A save of an address book, prepared from the address book as it was when the save was made.
+ * The data is only written when the save is run, which can be later and on another thread, while the address book
+ * keeps changing.
+ */
+public class AddressBookSave {
+
+    private final Path filePath;
+    private final boolean isWholeAddressBook;
+    private final Writer writer;
+
+    /**
+     * Creates a save to the data file at {@code filePath} that is written by {@code writer}.
+     *
+     * @param isWholeAddressBook whether the save writes the whole address book, so that the saves to the same file
+     *     made before it need not be written.
+     */
+    public AddressBookSave(Path filePath, boolean isWholeAddressBook, Writer writer) {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+        this.filePath = filePath;
+        this.isWholeAddressBook = isWholeAddressBook;
+        this.writer = writer;
+    }
+
+    /**
+     * Returns a save to the data file at {@code filePath} that writes nothing, as nothing changed.
+     */
+    public static AddressBookSave none(Path filePath) {
+        return new AddressBookSave(filePath, false, () -> { });
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public boolean isWholeAddressBook() {
+        return isWholeAddressBook;
+    }
+
+    /**
+     * Writes the data of this save.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void write() throws IOException {
+        writer.write();
+    }
+
+    /**
+     * Writes the data of a save.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write() throws IOException;
+    }
+}
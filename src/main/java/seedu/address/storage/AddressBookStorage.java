@@ -42,4 +42,20 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Prepares a save of the given {@link ReadOnlyAddressBook} to the storage, from the address book as it is now.
+     * The returned save can be written later, on another thread, while the address book keeps changing.
+     * Saves must be written in the order they were prepared.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem preparing the data to be written.
+     */
+    AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Tells the storage that the given {@link ReadOnlyAddressBook} holds the data read last from the storage, and
+     * has not changed since, so that a storage which only writes the changes to an address book can start from it.
+     * @param addressBook cannot be null.
+     */
+    void trackAddressBook(ReadOnlyAddressBook addressBook);
+
 }
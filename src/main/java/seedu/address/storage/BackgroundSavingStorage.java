@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Saves the address book of another {@code Storage} on a background thread, so that commands do not wait for the
+ * disk.
+ *
+ * A save is prepared on the thread that makes it, from the address book as it is then, and queued for a single
+ * writer thread. The writer takes all the queued saves at once and skips those that a later save of the whole
+ * address book replaces, so a burst of commands made while a save is being written is written once. The errors of
+ * the writes are kept until they are taken with {@link #takeSaveError()}. User prefs, and address books saved to
+ * another file, are saved right away.
+ */
+public class BackgroundSavingStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSavingStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are shared with the writer thread, and guarded by this storage.
+    private final List<AddressBookSave> queuedSaves = new ArrayList<>();
+    private boolean isWriteScheduled;
+    private IOException saveError;
+
+    /**
+     * Creates a {@code BackgroundSavingStorage} that saves the address book of {@code storage} in the background.
+     */
+    public BackgroundSavingStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Queues a save of {@code addressBook} for the writer thread, and returns without waiting for it.
+     *
+     * @throws IOException if there was any problem preparing the data to be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        AddressBookSave save = storage.prepareSave(addressBook);
+        synchronized (this) {
+            queuedSaves.add(save);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writeQueuedSaves);
+            }
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} right away, after the queued saves are written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        return storage.prepareSave(addressBook);
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        storage.trackAddressBook(addressBook);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the address book to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Waiting for the writer should not fail", e);
+        }
+    }
+
+    @Override
+    public synchronized Optional<IOException> takeSaveError() {
+        Optional<IOException> error = Optional.ofNullable(saveError);
+        saveError = null;
+        return error;
+    }
+
+    /**
+     * Writes the saves queued so far, in order, except those replaced by a later save.
+     * Runs on the writer thread.
+     */
+    private void writeQueuedSaves() {
+        List<AddressBookSave> saves;
+        synchronized (this) {
+            saves = new ArrayList<>(queuedSaves);
+            queuedSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        boolean[] isReplaced = new boolean[saves.size()];
+        Set<Path> wholeSavePaths = new HashSet<>();
+        for (int i = saves.size() - 1; i >= 0; i--) {
+            AddressBookSave save = saves.get(i);
+            isReplaced[i] = wholeSavePaths.contains(save.getFilePath());
+            if (save.isWholeAddressBook()) {
+                wholeSavePaths.add(save.getFilePath());
+            }
+        }
+
+        for (int i = 0; i < saves.size(); i++) {
+            if (isReplaced[i]) {
+                continue;
+            }
+            try {
+                saves.get(i).write();
+            } catch (IOException e) {
+                logger.warning("Failed to save the address book to " + saves.get(i).getFilePath() + ": " + e);
+                synchronized (this) {
+                    saveError = e;
+                }
+            }
+        }
+        logger.fine("Wrote " + saves.size() + " queued saves of the address book");
+    }
+}
@@ -0,0 +1,347 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.core.index.UniqueId;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.AdditionalRequests;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderStatus;
+import seedu.address.model.order.Price;
+import seedu.address.model.order.PriceRange;
+import seedu.address.model.order.Request;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Deliverer;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Location;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Supplier;
+import seedu.address.model.pet.Age;
+import seedu.address.model.pet.Color;
+import seedu.address.model.pet.ColorPattern;
+import seedu.address.model.pet.DateOfBirth;
+import seedu.address.model.pet.Height;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetCertificate;
+import seedu.address.model.pet.PetName;
+import seedu.address.model.pet.Species;
+import seedu.address.model.pet.VaccinationStatus;
+import seedu.address.model.pet.Weight;
+
+/**
+ * Converts an address book to and from the body of the binary format of {@link BinaryAddressBookStorage}.
+ *
+ * The body starts with a string table holding every distinct string of the address book once, each prefixed with
+ * its length in bytes, and the entities after it refer to strings by their index in the table. Values repeated over
+ * many entities, such as species, colors and locations, are thus read once and shared. Each list of entities is
+ * prefixed with its size, dates are written as epoch days, and the buyer of an order and the supplier of a pet as
+ * their index in the list of buyers or suppliers, so nothing has to be parsed or looked up when reading.
+ */
+class BinaryAddressBookCodec {
+
+    private BinaryAddressBookCodec() {}
+
+    /**
+     * Returns the body of the binary format for {@code addressBook}.
+     *
+     * @throws IOException if the buyer of an order or the supplier of a pet is not in the address book.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook) throws IOException {
+        Encoder encoder = new Encoder();
+        encoder.writePersons(addressBook.getBuyerList(), Buyer::getOrderIds);
+        encoder.writePersons(addressBook.getSupplierList(), Supplier::getPetIds);
+        encoder.writePersons(addressBook.getDelivererList(), Deliverer::getOrders);
+
+        Map<String, Integer> buyerIndexes = indexesByKey(addressBook.getBuyerList());
+        encoder.entities.writeInt(addressBook.getOrderList().size());
+        for (Order order : addressBook.getOrderList()) {
+            encoder.writeOrder(order, buyerIndexes);
+        }
+        Map<String, Integer> supplierIndexes = indexesByKey(addressBook.getSupplierList());
+        encoder.entities.writeInt(addressBook.getPetList().size());
+        for (Pet pet : addressBook.getPetList()) {
+            encoder.writePet(pet, supplierIndexes);
+        }
+        return encoder.toBytes();
+    }
+
+    /**
+     * Reads the address book in {@code body}, which must be a body returned by {@link #encode}.
+     * Data that is not, such as data of another version of the format, may throw any runtime exception.
+     */
+    static AddressBook decode(ByteBuffer body) {
+        Decoder decoder = new Decoder(body);
+        List<Buyer> buyers = decoder.readPersons((name, phone, email, address, location, ids) ->
+                new Buyer(name, phone, email, address, location, ids));
+        List<Supplier> suppliers = decoder.readPersons((name, phone, email, address, location, ids) ->
+                new Supplier(name, phone, email, address, location, ids));
+        List<Deliverer> deliverers = decoder.readPersons((name, phone, email, address, location, ids) ->
+                new Deliverer(name, phone, email, address, location, ids));
+
+        int orderCount = body.getInt();
+        List<Order> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(decoder.readOrder(buyers));
+        }
+        int petCount = body.getInt();
+        List<Pet> pets = new ArrayList<>(petCount);
+        for (int i = 0; i < petCount; i++) {
+            pets.add(decoder.readPet(suppliers));
+        }
+        if (body.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected data after the pets");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setBuyers(buyers);
+        addressBook.setSuppliers(suppliers);
+        addressBook.setDeliverers(deliverers);
+        addressBook.setOrders(orders);
+        addressBook.setPets(pets);
+        return addressBook;
+    }
+
+    private static Map<String, Integer> indexesByKey(List<? extends Person> owners) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < owners.size(); i++) {
+            indexes.put(OwnerKey.of(owners.get(i)), i);
+        }
+        return indexes;
+    }
+
+    /**
+     * Writes the entities of an address book, and the strings they refer to.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final ByteArrayOutputStream entityBytes = new ByteArrayOutputStream();
+        private final DataOutputStream entities = new DataOutputStream(entityBytes);
+        private final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        private final DataOutputStream strings = new DataOutputStream(stringBytes);
+
+        private void writeString(String value) throws IOException {
+            Integer index = stringIndexes.get(value);
+            if (index == null) {
+                index = stringIndexes.size();
+                stringIndexes.put(value, index);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                strings.writeInt(bytes.length);
+                strings.write(bytes);
+            }
+            entities.writeInt(index);
+        }
+
+        private void writeStrings(Collection<String> values) throws IOException {
+            entities.writeInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        private <T extends Person> void writePersons(List<T> persons, IdsGetter<T> idsGetter) throws IOException {
+            entities.writeInt(persons.size());
+            for (T person : persons) {
+                writeString(person.getName().fullName);
+                writeString(person.getPhone().value);
+                writeString(person.getEmail().value);
+                writeString(person.getAddress().value);
+                writeString(person.getLocation().location);
+                List<UniqueId> ids = idsGetter.getIds(person);
+                entities.writeInt(ids.size());
+                for (UniqueId id : ids) {
+                    writeString(id.getIdToString());
+                }
+            }
+        }
+
+        private void writeOrder(Order order, Map<String, Integer> buyerIndexes) throws IOException {
+            String buyerKey = OwnerKey.of(order.getBuyer());
+            Integer buyerIndex = buyerIndexes.get(buyerKey);
+            if (buyerIndex == null) {
+                throw new IOException(String.format(JsonAdaptedOrder.MESSAGE_UNKNOWN_BUYER, buyerKey));
+            }
+            writeString(order.getId().getIdToString());
+            entities.writeInt(buyerIndex);
+            entities.writeDouble(order.getRequestedPriceRange().getLowerBound().getPrice());
+            entities.writeDouble(order.getRequestedPriceRange().getUpperBound().getPrice());
+            Request request = order.getRequest();
+            entities.writeInt(request.getRequestedAge().getValue());
+            writeString(request.getRequestedColor().getValue());
+            writeString(request.getRequestedColorPattern().getValue());
+            writeString(request.getRequestedSpecies().getValue());
+            writeStrings(order.getAdditionalRequests().getAdditionalRequestsToString());
+            entities.writeLong(order.getByDate().toEpochDay());
+            entities.writeDouble(order.getSettledPrice().getPrice());
+            entities.writeByte(order.getOrderStatus().ordinal());
+        }
+
+        private void writePet(Pet pet, Map<String, Integer> supplierIndexes) throws IOException {
+            String supplierKey = OwnerKey.of(pet.getSupplier());
+            Integer supplierIndex = supplierIndexes.get(supplierKey);
+            if (supplierIndex == null) {
+                throw new IOException(String.format(JsonAdaptedPet.MESSAGE_UNKNOWN_SUPPLIER, supplierKey));
+            }
+            writeString(pet.getId().getIdToString());
+            writeString(pet.getName().fullName);
+            entities.writeInt(supplierIndex);
+            writeString(pet.getColor().getValue());
+            writeString(pet.getColorPattern().getValue());
+            entities.writeLong(pet.getDateOfBirth().getDate().toEpochDay());
+            writeString(pet.getSpecies().getValue());
+            entities.writeDouble(pet.getWeight().getValue());
+            entities.writeDouble(pet.getHeight().getValue());
+            entities.writeBoolean(pet.getVaccinationStatus().getVaccinationStatus());
+            entities.writeDouble(pet.getPrice().getPrice());
+            List<String> certificates = new ArrayList<>();
+            for (PetCertificate certificate : pet.getCertificates()) {
+                certificates.add(certificate.getCertificate());
+            }
+            writeStrings(certificates);
+        }
+
+        /**
+         * Returns the string table followed by the entities.
+         */
+        private byte[] toBytes() throws IOException {
+            ByteArrayOutputStream body = new ByteArrayOutputStream(stringBytes.size() + entityBytes.size() + 4);
+            new DataOutputStream(body).writeInt(stringIndexes.size());
+            stringBytes.writeTo(body);
+            entityBytes.writeTo(body);
+            return body.toByteArray();
+        }
+    }
+
+    /**
+     * Reads the entities of an address book, after reading the strings they refer to.
+     * The values that many entities share, such as colors and species, are created once for each string in the
+     * string table, which also validates each of them once.
+     */
+    private static class Decoder {
+        private final ByteBuffer body;
+        private final String[] strings;
+        private final Map<Integer, Location> locations = new HashMap<>();
+        private final Map<Integer, Color> colors = new HashMap<>();
+        private final Map<Integer, ColorPattern> colorPatterns = new HashMap<>();
+        private final Map<Integer, Species> species = new HashMap<>();
+
+        private Decoder(ByteBuffer body) {
+            this.body = body;
+            strings = new String[body.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[body.getInt()];
+                body.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        private String readString() {
+            return strings[body.getInt()];
+        }
+
+        /**
+         * Returns the value created by {@code factory} from the next string, reusing the value in {@code values}
+         * created from the same string before.
+         */
+        private <T> T readValue(Map<Integer, T> values, Function<String, T> factory) {
+            return values.computeIfAbsent(body.getInt(), index -> factory.apply(strings[index]));
+        }
+
+        private List<String> readStrings() {
+            int count = body.getInt();
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        private <T extends Person> List<T> readPersons(PersonFactory<T> factory) {
+            int count = body.getInt();
+            List<T> persons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Name name = new Name(readString());
+                Phone phone = new Phone(readString());
+                Email email = new Email(readString());
+                Address address = new Address(readString());
+                Location location = readValue(locations, Location::new);
+                List<UniqueId> ids = new ArrayList<>();
+                for (String id : readStrings()) {
+                    ids.add(new UniqueId(id));
+                }
+                persons.add(factory.create(name, phone, email, address, location, ids));
+            }
+            return persons;
+        }
+
+        private Order readOrder(List<Buyer> buyers) {
+            UniqueId id = new UniqueId(readString());
+            Buyer buyer = buyers.get(body.getInt());
+            Price lowerBound = new Price(body.getDouble());
+            Price upperBound = new Price(body.getDouble());
+            if (!PriceRange.isValidPriceRange(lowerBound, upperBound)) {
+                throw new IllegalArgumentException(PriceRange.MESSAGE_USAGE);
+            }
+            PriceRange priceRange = new PriceRange(lowerBound, upperBound);
+            Request request = new Request(new Age(body.getInt()), readValue(colors, Color::new),
+                    readValue(colorPatterns, ColorPattern::new), readValue(species, Species::new));
+            AdditionalRequests additionalRequests = new AdditionalRequests(readStrings());
+            LocalDate byDate = LocalDate.ofEpochDay(body.getLong());
+            Price settledPrice = new Price(body.getDouble());
+            OrderStatus status = OrderStatus.values()[body.get()];
+            return new Order(buyer, priceRange, request, additionalRequests, byDate, settledPrice, status, id);
+        }
+
+        private Pet readPet(List<Supplier> suppliers) {
+            UniqueId id = new UniqueId(readString());
+            PetName name = new PetName(readString());
+            Supplier supplier = suppliers.get(body.getInt());
+            Color color = readValue(colors, Color::new);
+            ColorPattern colorPattern = readValue(colorPatterns, ColorPattern::new);
+            DateOfBirth dateOfBirth = new DateOfBirth(LocalDate.ofEpochDay(body.getLong()));
+            Species petSpecies = readValue(species, Species::new);
+            Weight weight = new Weight(body.getDouble());
+            Height height = new Height(body.getDouble());
+            VaccinationStatus vaccinationStatus = new VaccinationStatus(body.get() != 0);
+            Price price = new Price(body.getDouble());
+            Set<PetCertificate> certificates = new HashSet<>();
+            for (String certificate : readStrings()) {
+                certificates.add(new PetCertificate(certificate));
+            }
+            return new Pet(id, name, supplier, color, colorPattern, dateOfBirth, petSpecies, weight, height,
+                    vaccinationStatus, price, certificates);
+        }
+    }
+
+    /**
+     * Returns the ids of the orders or pets of a person.
+     */
+    @FunctionalInterface
+    private interface IdsGetter<T extends Person> {
+        List<UniqueId> getIds(T person);
+    }
+
+    /**
+     * Creates a buyer, supplier or deliverer.
+     */
+    @FunctionalInterface
+    private interface PersonFactory<T extends Person> {
+        T create(Name name, Phone phone, Email email, Address address, Location location, List<UniqueId> ids);
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a binary file on the hard disk, which is much quicker to read than
+ * json, but cannot be read or edited by hand.
+ *
+ * The file starts with a header holding a magic number, the version of the format, the size and last modified time
+ * of the file the data was copied from, if any, the generation of that file, if it is a snapshot that has one, and
+ * the length of the body. The body, in the format of
+ * {@link BinaryAddressBookCodec}, is followed by its CRC-32 checksum, so a file that was cut off or changed is
+ * rejected instead of read wrongly.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x50455442;
+    public static final int FORMAT_VERSION = 2;
+    public static final String MESSAGE_INVALID_FILE = "Binary data file %1$s is not valid: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int HEADER_LENGTH = 4 + 4 + 8 + 8 + 1 + 8 + 4;
+    private static final long NO_SOURCE = -1;
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return readAddressBook(filePath, null);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but returns {@code Optional.empty()} as well if the data was not
+     * copied from the file at {@code sourceFilePath} as it is now, so that the file there should be read instead.
+     *
+     * @param sourceFilePath location of the file the data was copied from, or null if the data is not a copy.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Path sourceFilePath)
+            throws DataConversionException, IOException {
+        return readAddressBook(filePath, sourceFilePath, generation -> { });
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path, Path)}.
+     *
+     * @param generationListener given the generation of the file the data was copied from, if it has one and the
+     *     data is read.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Path sourceFilePath, LongConsumer generationListener)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(generationListener);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        if (data.remaining() < HEADER_LENGTH || data.getInt() != MAGIC) {
+            throw invalidFile(filePath, "not a binary data file");
+        }
+        int version = data.getInt();
+        if (version != FORMAT_VERSION) {
+            throw invalidFile(filePath, "version " + version + " instead of version " + FORMAT_VERSION);
+        }
+        long sourceSize = data.getLong();
+        long sourceLastModified = data.getLong();
+        if (sourceFilePath != null && !isStampOf(sourceFilePath, sourceSize, sourceLastModified)) {
+            logger.info("Binary file " + filePath + " is not a copy of " + sourceFilePath + " as it is now");
+            return Optional.empty();
+        }
+        boolean hasGeneration = data.get() != 0;
+        long generation = data.getLong();
+
+        int bodyLength = data.getInt();
+        if (bodyLength < 0 || data.remaining() != bodyLength + 8) {
+            throw invalidFile(filePath, "cut off or too long");
+        }
+        ByteBuffer body = data.slice();
+        body.limit(bodyLength);
+        CRC32 checksum = new CRC32();
+        checksum.update(body.duplicate());
+        data.position(data.position() + bodyLength);
+        if (checksum.getValue() != data.getLong()) {
+            throw invalidFile(filePath, "checksum does not match");
+        }
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = Optional.of(BinaryAddressBookCodec.decode(body));
+            if (hasGeneration) {
+                generationListener.accept(generation);
+            }
+            return addressBook;
+        } catch (RuntimeException e) {
+            // The body matches its checksum, so it can only fail to decode if it was written by another version.
+            throw invalidFile(filePath, e.toString());
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        prepareSave(addressBook, filePath, null).write();
+    }
+
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        return prepareSave(addressBook, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #prepareSave(ReadOnlyAddressBook)}.
+     * The address book is encoded right away, and only written to the file when the save is written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @param sourceFilePath location of the file {@code addressBook} is a copy of, or null if it is not a copy.
+     *     The size and last modified time of that file are recorded when the save is written, so the file there
+     *     must have been written already by then.
+     * @throws IOException if the buyer of an order or the supplier of a pet is not in the address book.
+     */
+    AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath, Path sourceFilePath)
+            throws IOException {
+        return prepareSave(addressBook, filePath, sourceFilePath, null);
+    }
+
+    /**
+     * Similar to {@link #prepareSave(ReadOnlyAddressBook, Path, Path)}.
+     *
+     * @param sourceGeneration the generation of the file at {@code sourceFilePath}, or null if it has none.
+     */
+    AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath, Path sourceFilePath,
+            Long sourceGeneration) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        byte[] body = BinaryAddressBookCodec.encode(addressBook);
+        return new AddressBookSave(filePath, true, () -> {
+            CRC32 checksum = new CRC32();
+            checksum.update(body);
+
+            ByteArrayOutputStream data = new ByteArrayOutputStream(HEADER_LENGTH + body.length + 8);
+            DataOutputStream output = new DataOutputStream(data);
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(sourceFilePath == null ? NO_SOURCE : Files.size(sourceFilePath));
+            output.writeLong(sourceFilePath == null ? NO_SOURCE : getLastModified(sourceFilePath));
+            output.writeBoolean(sourceGeneration != null);
+            output.writeLong(sourceGeneration == null ? 0 : sourceGeneration);
+            output.writeInt(body.length);
+            output.write(body);
+            output.writeLong(checksum.getValue());
+
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeAtomically(filePath, data::writeTo, false);
+        });
+    }
+
+    /**
+     * Does nothing, as every save writes the whole address book.
+     */
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    private static boolean isStampOf(Path sourceFilePath, long size, long lastModified) throws IOException {
+        return Files.exists(sourceFilePath)
+                && Files.size(sourceFilePath) == size
+                && getLastModified(sourceFilePath) == lastModified;
+    }
+
+    private static long getLastModified(Path filePath) throws IOException {
+        return Files.getLastModifiedTime(filePath).toMillis();
+    }
+
+    private static DataConversionException invalidFile(Path filePath, String reason) {
+        logger.warning(String.format(MESSAGE_INVALID_FILE, filePath, reason));
+        return new DataConversionException(
+                new IllegalValueException(String.format(MESSAGE_INVALID_FILE, filePath, reason)));
+    }
+}
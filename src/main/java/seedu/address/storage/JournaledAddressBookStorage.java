@@ -0,0 +1,776 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.exceptions.DuplicateOrderException;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Deliverer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Supplier;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.exceptions.DuplicatePetException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard disk, together with a journal of
+ * the changes made to the address book since the snapshot was written.
+ *
+ * Once an address book is saved, the storage listens to the changes of its lists, and later saves of the same
+ * address book only append a record for every entity that was added, replaced or removed since the last save to
+ * the journal, in the order of the changes. The journal is a file next to the snapshot with one JSON record per
+ * line, so a command that changes nothing writes nothing. The buyer of an order and the supplier of a pet that
+ * changed are written again as well, as their lists of orders and pets are changed in place.
+ *
+ * The snapshot is written again and the journal is emptied when an address book is saved for the first time, as
+ * the changes made to it before were not seen, when a list was sorted or replaced as a whole, and when the journal
+ * holds too many records. An address book that is tracked with {@link #trackAddressBook(ReadOnlyAddressBook)}
+ * right after it was read is taken to hold the snapshot and journal read instead, so its changes are appended to
+ * that journal. Reading the address book replays the journal over the snapshot. A last line of the journal that was
+ * cut off, such as when the application stopped while appending it, is ignored.
+ *
+ * Every snapshot is written with a new generation, which the first line of its journal holds. As the records of a
+ * journal refer to entities by their index, a journal that does not hold the generation of the snapshot, such as
+ * when the application stopped after writing a snapshot but before deleting the journal of the one before, is
+ * ignored.
+ *
+ * The records and the copy of the address book for the snapshot are made when a save is prepared, while turning
+ * them into JSON and writing them is left to when the save is written.
+ *
+ * Every snapshot also gets a binary copy next to it, written by {@link BinaryAddressBookStorage}, which is read
+ * instead of the snapshot as long as the snapshot was not changed since, as it is much quicker to read. The json
+ * snapshot stays the data that counts, and the one to edit by hand.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String BINARY_SNAPSHOT_FILE_SUFFIX = ".bin";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_INVALID_JOURNAL = "Line %1$d of the journal is not valid: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final EntityType<Buyer> BUYER = new EntityType<>("buyer", Buyer.class,
+            ReadOnlyAddressBook::getBuyerList, AddressBook::addBuyer, AddressBook::setBuyer, AddressBook::removeBuyer);
+    private static final EntityType<Supplier> SUPPLIER = new EntityType<>("supplier", Supplier.class,
+            ReadOnlyAddressBook::getSupplierList, AddressBook::addSupplier, AddressBook::setSupplier,
+            AddressBook::removeSupplier);
+    private static final EntityType<Deliverer> DELIVERER = new EntityType<>("deliverer", Deliverer.class,
+            ReadOnlyAddressBook::getDelivererList, AddressBook::addDeliverer, AddressBook::setDeliverer,
+            AddressBook::removeDeliverer);
+    private static final EntityType<Order> ORDER = new EntityType<>("order", Order.class,
+            ReadOnlyAddressBook::getOrderList, AddressBook::addOrder, AddressBook::setOrder, AddressBook::removeOrder);
+    private static final EntityType<Pet> PET = new EntityType<>("pet", Pet.class,
+            ReadOnlyAddressBook::getPetList, AddressBook::addPet, AddressBook::setPet, AddressBook::removePet);
+    private static final List<EntityType<?>> ENTITY_TYPES = List.of(BUYER, SUPPLIER, DELIVERER, ORDER, PET);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final BinaryAddressBookStorage binarySnapshotStorage;
+    private final SyncSchedule journalSyncSchedule;
+    private final int compactionThreshold;
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private final List<Runnable> listenerRemovers = new ArrayList<>();
+    private final List<PendingChange> pendingChanges = new ArrayList<>();
+    private final Set<String> changedBuyerKeys = new HashSet<>();
+    private final Set<String> changedSupplierKeys = new HashSet<>();
+    private boolean needsSnapshot = true;
+    private int journalLength;
+    /** The generation of the snapshot that the journal holds the changes to. */
+    private long snapshotGeneration;
+    /** The snapshot and journal read last, if no save was prepared since and appending to the journal is safe. */
+    private JournalState lastRead;
+    /** Whether the last write of a snapshot or of the journal failed, which can be on another thread. */
+    private volatile boolean hasFailedWrite;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with the snapshot at {@code filePath}, that forces every save to
+     * the disk.
+     *
+     * @param isCompact whether the snapshot is written without indentation.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DurabilityPolicy.ALWAYS);
+    }
+
+    /**
+     * Similar to {@link #JournaledAddressBookStorage(Path, boolean)}.
+     *
+     * @param durabilityPolicy how often the snapshot and the appends to the journal are forced to the disk.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy) {
+        this(filePath, isCompact, durabilityPolicy, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with the snapshot at {@code filePath}, written with indentation.
+     *
+     * @param isSyncing whether every save, be it of the snapshot or an append to the journal, is forced to the disk
+     *     before it returns.
+     * @param compactionThreshold the number of records in the journal above which the snapshot is written again.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isSyncing, int compactionThreshold) {
+        this(filePath, false, isSyncing ? DurabilityPolicy.ALWAYS : DurabilityPolicy.NEVER, compactionThreshold);
+    }
+
+    /**
+     * Similar to {@link #JournaledAddressBookStorage(Path, boolean, int)}.
+     *
+     * @param isCompact whether the snapshot is written without indentation.
+     * @param durabilityPolicy how often the snapshot and the appends to the journal are forced to the disk.
+     */
+    public JournaledAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy,
+                                       int compactionThreshold) {
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, isCompact, durabilityPolicy);
+        this.binarySnapshotStorage = new BinaryAddressBookStorage(getBinarySnapshotFilePath(filePath));
+        this.journalSyncSchedule = new SyncSchedule(durabilityPolicy);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the binary copy of the snapshot at {@code filePath}.
+     */
+    public static Path getBinarySnapshotFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BINARY_SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        boolean isOwnSnapshot = filePath.equals(getAddressBookFilePath());
+        if (isOwnSnapshot) {
+            lastRead = null;
+        }
+        Generation generation = new Generation();
+        Optional<ReadOnlyAddressBook> snapshot = readSnapshot(filePath, generation);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+        if (!Files.exists(journalFilePath)) {
+            if (isOwnSnapshot && generation.value != null) {
+                lastRead = new JournalState(generation.value, 0);
+            }
+            return snapshot;
+        }
+
+        String journal = Files.readString(journalFilePath, StandardCharsets.UTF_8);
+        List<String> lines = journal.lines().collect(Collectors.toList());
+        int firstRecordIndex = 0;
+        if (!lines.isEmpty()) {
+            Long journalGeneration;
+            try {
+                journalGeneration = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalHeader.class)
+                        .getSnapshotGeneration();
+            } catch (IOException e) {
+                if (lines.size() > 1) {
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Ignoring the journal of " + filePath + ", which was cut off: " + e.getMessage());
+                return snapshot;
+            }
+            if (!Objects.equals(journalGeneration, generation.value)) {
+                logger.warning("Ignoring the journal of " + filePath + ", which is not of the snapshot there");
+                return snapshot;
+            }
+            // A journal of a snapshot without a generation has no header either.
+            firstRecordIndex = journalGeneration == null ? 0 : 1;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        List<String> records = lines.subList(firstRecordIndex, lines.size());
+        boolean isWhole = replay(addressBook, records);
+        logger.info("Replayed " + records.size() + " journal records over " + filePath);
+        // Appending after a line that was cut off would leave a line that is not valid in the middle.
+        if (isOwnSnapshot && generation.value != null && isWhole && (journal.isEmpty() || journal.endsWith("\n"))) {
+            lastRead = new JournalState(generation.value, records.size());
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} from its binary copy if the copy is of the snapshot as it is now, or
+     * else from the snapshot, and then writes the binary copy for the next time.
+     * A binary copy that cannot be read is ignored, as the snapshot holds the same data.
+     *
+     * @param generation given the generation of the snapshot, if it has one.
+     */
+    private Optional<ReadOnlyAddressBook> readSnapshot(Path filePath, Generation generation)
+            throws DataConversionException, IOException {
+        Path binaryFilePath = getBinarySnapshotFilePath(filePath);
+        try {
+            Optional<ReadOnlyAddressBook> snapshot =
+                    binarySnapshotStorage.readAddressBook(binaryFilePath, filePath, generation);
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Reading " + filePath + " instead of its binary copy: " + e);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath, generation);
+        if (snapshot.isPresent()) {
+            try {
+                binarySnapshotStorage.prepareSave(snapshot.get(), binaryFilePath, filePath, generation.value).write();
+            } catch (IOException e) {
+                logger.warning("Failed to write the binary copy of " + filePath + ": " + e);
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        prepareSave(addressBook).write();
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to another location than the snapshot of this storage always writes a whole snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            prepareSnapshot(addressBook, filePath, newGeneration()).write();
+            return;
+        }
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Prepares a save of the snapshot of {@code addressBook}, or of the records of the changes made to it since the
+     * last save, and forgets the changes. The saves must be written in the order they were prepared.
+     */
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Path filePath = getAddressBookFilePath();
+        lastRead = null;
+        if (addressBook != trackedAddressBook) {
+            track(addressBook);
+        }
+        if (hasFailedWrite) {
+            markNeedsSnapshot();
+        }
+        if (needsSnapshot || journalLength + pendingChanges.size() > compactionThreshold) {
+            snapshotGeneration = newGeneration();
+            AddressBookSave snapshot = prepareSnapshot(addressBook, filePath, snapshotGeneration);
+            clearPendingChanges();
+            needsSnapshot = false;
+            journalLength = 0;
+            return new AddressBookSave(filePath, true, () -> {
+                writeOrMarkFailed(snapshot::write);
+                hasFailedWrite = false;
+            });
+        } else if (!pendingChanges.isEmpty() || !changedBuyerKeys.isEmpty() || !changedSupplierKeys.isEmpty()) {
+            return prepareAppend(addressBook);
+        }
+        return AddressBookSave.none(filePath);
+    }
+
+    /**
+     * Tracks {@code addressBook} as holding the snapshot and journal read last, so that its changes are appended to
+     * that journal, if no save was prepared since they were read.
+     */
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (lastRead == null || addressBook == trackedAddressBook) {
+            return;
+        }
+
+        track(addressBook);
+        needsSnapshot = false;
+        snapshotGeneration = lastRead.snapshotGeneration;
+        journalLength = lastRead.journalLength;
+        lastRead = null;
+    }
+
+    private static long newGeneration() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Prepares a save of the snapshot of {@code addressBook} to {@code filePath} as {@code generation}, and of its
+     * binary copy. Failing to write the binary copy only leaves the snapshot without one.
+     */
+    private AddressBookSave prepareSnapshot(ReadOnlyAddressBook addressBook, Path filePath, long generation) {
+        AddressBookSave snapshot = snapshotStorage.prepareSave(addressBook, filePath, generation);
+        Path binaryFilePath = getBinarySnapshotFilePath(filePath);
+        Optional<AddressBookSave> binarySnapshot;
+        try {
+            binarySnapshot = Optional.of(
+                    binarySnapshotStorage.prepareSave(addressBook, binaryFilePath, filePath, generation));
+        } catch (IOException e) {
+            logger.warning("Failed to prepare the binary copy of " + filePath + ": " + e);
+            binarySnapshot = Optional.empty();
+        }
+
+        Optional<AddressBookSave> binarySnapshotToWrite = binarySnapshot;
+        return new AddressBookSave(filePath, true, () -> {
+            snapshot.write();
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            try {
+                if (binarySnapshotToWrite.isPresent()) {
+                    binarySnapshotToWrite.get().write();
+                } else {
+                    Files.deleteIfExists(binaryFilePath);
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to write the binary copy of " + filePath + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Prepares a save that appends a record for every pending change to the journal, followed by a record for
+     * every buyer and supplier that was changed in place and is still in the address book.
+     * If appending fails, the next save writes the snapshot again, since part of the records may have been written,
+     * and the appends prepared before that are not written.
+     */
+    private AddressBookSave prepareAppend(ReadOnlyAddressBook addressBook) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (PendingChange change : pendingChanges) {
+            records.add(new JsonAdaptedJournalRecord(change.type.name, change.action, change.index, change.entity));
+        }
+        addOwnerRecords(records, BUYER, addressBook.getBuyerList(), changedBuyerKeys);
+        addOwnerRecords(records, SUPPLIER, addressBook.getSupplierList(), changedSupplierKeys);
+        clearPendingChanges();
+        journalLength += records.size();
+
+        long generation = snapshotGeneration;
+        return new AddressBookSave(getAddressBookFilePath(), false, () -> {
+            if (!hasFailedWrite) {
+                writeOrMarkFailed(() -> appendToJournal(records, generation));
+            }
+        });
+    }
+
+    private void writeOrMarkFailed(AddressBookSave.Writer writer) throws IOException {
+        try {
+            writer.write();
+        } catch (IOException e) {
+            hasFailedWrite = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal, starting the journal with a header holding {@code generation} if the
+     * journal is empty.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records, long generation) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        Path journalFilePath = getJournalFilePath(getAddressBookFilePath());
+        boolean isSyncing = journalSyncSchedule.shouldSync();
+        try (FileChannel journal = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            if (journal.size() == 0) {
+                lines.insert(0, JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(generation)) + "\n");
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                journal.write(bytes);
+            }
+            if (isSyncing) {
+                journal.force(false);
+            }
+        }
+        if (!isSyncing) {
+            journalSyncSchedule.syncLater(List.of(journalFilePath));
+        }
+    }
+
+    private static <T extends Person> void addOwnerRecords(List<JsonAdaptedJournalRecord> records,
+            EntityType<T> type, List<T> owners, Set<String> changedOwnerKeys) {
+        if (changedOwnerKeys.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < owners.size(); i++) {
+            if (changedOwnerKeys.contains(OwnerKey.of(owners.get(i)))) {
+                records.add(new JsonAdaptedJournalRecord(type.name, JsonAdaptedJournalRecord.ACTION_SET, i,
+                        owners.get(i)));
+            }
+        }
+    }
+
+    private void clearPendingChanges() {
+        pendingChanges.clear();
+        changedBuyerKeys.clear();
+        changedSupplierKeys.clear();
+    }
+
+    /**
+     * Starts listening to the changes of {@code addressBook} instead of the address book tracked before.
+     * The next save writes the snapshot.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        listenerRemovers.forEach(Runnable::run);
+        listenerRemovers.clear();
+        clearPendingChanges();
+        for (EntityType<?> type : ENTITY_TYPES) {
+            listenTo(type, addressBook);
+        }
+        trackedAddressBook = addressBook;
+        needsSnapshot = true;
+    }
+
+    private <T> void listenTo(EntityType<T> type, ReadOnlyAddressBook addressBook) {
+        ObservableList<T> list = type.getList.apply(addressBook);
+        ListChangeListener<T> listener = change -> onChanged(type, change);
+        list.addListener(listener);
+        listenerRemovers.add(() -> list.removeListener(listener));
+    }
+
+    /**
+     * Records the changes of a list of the tracked address book. Only appending an entity, replacing one entity
+     * and removing entities can be replayed one by one; sorting or replacing the whole list needs a snapshot.
+     */
+    private <T> void onChanged(EntityType<T> type, ListChangeListener.Change<? extends T> change) {
+        while (!needsSnapshot && change.next()) {
+            boolean isSet = change.wasReplaced();
+            if (change.wasPermutated()
+                    || isSet && (change.getRemovedSize() != 1 || change.getAddedSize() != 1)
+                    || change.wasAdded() && !isSet && change.getTo() != change.getList().size()) {
+                markNeedsSnapshot();
+                return;
+            }
+
+            for (T removed : change.getRemoved()) {
+                markOwnerChanged(removed);
+                if (!isSet) {
+                    pendingChanges.add(new PendingChange(type, JsonAdaptedJournalRecord.ACTION_REMOVE,
+                            change.getFrom(), null));
+                }
+            }
+            for (int i = 0; i < change.getAddedSize(); i++) {
+                T added = change.getAddedSubList().get(i);
+                markOwnerChanged(added);
+                pendingChanges.add(new PendingChange(type,
+                        isSet ? JsonAdaptedJournalRecord.ACTION_SET : JsonAdaptedJournalRecord.ACTION_ADD,
+                        change.getFrom() + i, added));
+            }
+        }
+        if (pendingChanges.size() > compactionThreshold) {
+            markNeedsSnapshot();
+        }
+    }
+
+    private void markNeedsSnapshot() {
+        needsSnapshot = true;
+        clearPendingChanges();
+    }
+
+    private void markOwnerChanged(Object entity) {
+        if (entity instanceof Order && ((Order) entity).getBuyer() != null) {
+            changedBuyerKeys.add(OwnerKey.of(((Order) entity).getBuyer()));
+        } else if (entity instanceof Pet && ((Pet) entity).getSupplier() != null) {
+            changedSupplierKeys.add(OwnerKey.of(((Pet) entity).getSupplier()));
+        }
+    }
+
+    /**
+     * Applies the journal records in {@code lines} to {@code addressBook}, in order, and returns false if the last
+     * line was cut off and ignored.
+     *
+     * @throws DataConversionException if a record, other than a last one that was cut off, is not valid.
+     */
+    private static boolean replay(AddressBook addressBook, List<String> lines) throws DataConversionException {
+        OwnerIndex owners = new OwnerIndex(addressBook);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring the last line of the journal, which was cut off: " + e.getMessage());
+                    return false;
+                }
+                throw new DataConversionException(e);
+            }
+
+            try {
+                apply(getEntityType(record.getType()), addressBook, owners, record);
+            } catch (IllegalValueException | DuplicatePersonException | DuplicateOrderException
+                    | DuplicatePetException e) {
+                throw new DataConversionException(new IllegalValueException(
+                        String.format(MESSAGE_INVALID_JOURNAL, i + 1, e.getMessage())));
+            }
+        }
+        return true;
+    }
+
+    private static EntityType<?> getEntityType(String name) throws IllegalValueException {
+        for (EntityType<?> type : ENTITY_TYPES) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalValueException(JsonAdaptedJournalRecord.MESSAGE_INVALID_RECORD);
+    }
+
+    private static <T> void apply(EntityType<T> type, AddressBook addressBook, OwnerIndex owners,
+            JsonAdaptedJournalRecord record) throws IllegalValueException {
+        Object entity = record.toModelType(owners::findBuyer, owners::findSupplier);
+        List<T> list = type.getList.apply(addressBook);
+        int index = record.getIndex();
+        boolean isAdd = record.getAction().equals(JsonAdaptedJournalRecord.ACTION_ADD);
+        if (entity != null && !type.entityClass.isInstance(entity)
+                || isAdd && index != list.size()
+                || !isAdd && (index < 0 || index >= list.size())) {
+            throw new IllegalValueException(JsonAdaptedJournalRecord.MESSAGE_INVALID_RECORD);
+        }
+
+        switch (record.getAction()) {
+        case JsonAdaptedJournalRecord.ACTION_ADD:
+            type.add.accept(addressBook, type.entityClass.cast(entity));
+            owners.added(entity);
+            break;
+        case JsonAdaptedJournalRecord.ACTION_SET:
+            T target = list.get(index);
+            type.set.set(addressBook, target, type.entityClass.cast(entity));
+            owners.replaced(target, entity);
+            break;
+        case JsonAdaptedJournalRecord.ACTION_REMOVE:
+            T removed = list.get(index);
+            type.remove.accept(addressBook, removed);
+            owners.removed(removed);
+            break;
+        default:
+            throw new IllegalValueException(JsonAdaptedJournalRecord.MESSAGE_INVALID_RECORD);
+        }
+    }
+
+    /**
+     * The buyers and suppliers of an address book being replayed by their keys, and the orders and pets of each of
+     * them, kept up to date as the records are applied, so that applying a record does not search the lists.
+     */
+    private static class OwnerIndex {
+        private final Map<String, Buyer> buyersByKey = new HashMap<>();
+        private final Map<String, Supplier> suppliersByKey = new HashMap<>();
+        private final Map<Buyer, Set<Order>> ordersByBuyer = new IdentityHashMap<>();
+        private final Map<Supplier, Set<Pet>> petsBySupplier = new IdentityHashMap<>();
+
+        OwnerIndex(ReadOnlyAddressBook addressBook) {
+            addressBook.getBuyerList().forEach(this::added);
+            addressBook.getSupplierList().forEach(this::added);
+            addressBook.getOrderList().forEach(this::added);
+            addressBook.getPetList().forEach(this::added);
+        }
+
+        Buyer findBuyer(String key) {
+            return buyersByKey.get(key);
+        }
+
+        Supplier findSupplier(String key) {
+            return suppliersByKey.get(key);
+        }
+
+        void added(Object entity) {
+            if (entity instanceof Buyer) {
+                buyersByKey.put(OwnerKey.of((Buyer) entity), (Buyer) entity);
+            } else if (entity instanceof Supplier) {
+                suppliersByKey.put(OwnerKey.of((Supplier) entity), (Supplier) entity);
+            } else if (entity instanceof Order && ((Order) entity).getBuyer() != null) {
+                ordersByBuyer.computeIfAbsent(((Order) entity).getBuyer(), buyer -> newIdentitySet())
+                        .add((Order) entity);
+            } else if (entity instanceof Pet && ((Pet) entity).getSupplier() != null) {
+                petsBySupplier.computeIfAbsent(((Pet) entity).getSupplier(), supplier -> newIdentitySet())
+                        .add((Pet) entity);
+            }
+        }
+
+        void removed(Object entity) {
+            if (entity instanceof Buyer) {
+                buyersByKey.remove(OwnerKey.of((Buyer) entity), entity);
+            } else if (entity instanceof Supplier) {
+                suppliersByKey.remove(OwnerKey.of((Supplier) entity), entity);
+            } else if (entity instanceof Order) {
+                removeOwned(ordersByBuyer, ((Order) entity).getBuyer(), entity);
+            } else if (entity instanceof Pet) {
+                removeOwned(petsBySupplier, ((Pet) entity).getSupplier(), entity);
+            }
+        }
+
+        /**
+         * Records that {@code editedEntity} replaced {@code target}. The orders of a buyer or the pets of a supplier
+         * are given to the buyer or supplier that replaced it, the way the model does when one is edited.
+         */
+        void replaced(Object target, Object editedEntity) {
+            removed(target);
+            if (editedEntity instanceof Buyer) {
+                Set<Order> orders = ordersByBuyer.remove(target);
+                if (orders != null) {
+                    orders.forEach(order -> order.setBuyer((Buyer) editedEntity));
+                    ordersByBuyer.put((Buyer) editedEntity, orders);
+                }
+            } else if (editedEntity instanceof Supplier) {
+                Set<Pet> pets = petsBySupplier.remove(target);
+                if (pets != null) {
+                    pets.forEach(pet -> pet.setSupplier((Supplier) editedEntity));
+                    petsBySupplier.put((Supplier) editedEntity, pets);
+                }
+            }
+            added(editedEntity);
+        }
+
+        private static <K, T> void removeOwned(Map<K, Set<T>> ownedByOwner, K owner, Object owned) {
+            Set<T> ownedByThisOwner = ownedByOwner.get(owner);
+            if (ownedByThisOwner != null) {
+                ownedByThisOwner.remove(owned);
+            }
+        }
+
+        private static <T> Set<T> newIdentitySet() {
+            return Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+    }
+
+    /**
+     * The generation of a snapshot and the number of records in its journal.
+     */
+    private static class JournalState {
+        private final long snapshotGeneration;
+        private final int journalLength;
+
+        JournalState(long snapshotGeneration, int journalLength) {
+            this.snapshotGeneration = snapshotGeneration;
+            this.journalLength = journalLength;
+        }
+    }
+
+    /**
+     * Takes the generation of a snapshot as it is read.
+     */
+    private static class Generation implements LongConsumer {
+        private Long value;
+
+        @Override
+        public void accept(long generation) {
+            value = generation;
+        }
+    }
+
+    /**
+     * A change to a list of the tracked address book that is not in the journal yet.
+     */
+    private static class PendingChange {
+        private final EntityType<?> type;
+        private final String action;
+        private final int index;
+        /** The entity added or replaced at the index, or null if the entity there was removed. */
+        private final Object entity;
+
+        PendingChange(EntityType<?> type, String action, int index, Object entity) {
+            this.type = type;
+            this.action = action;
+            this.index = index;
+            this.entity = entity;
+        }
+    }
+
+    /**
+     * Replaces an entity of an address book with another.
+     */
+    @FunctionalInterface
+    private interface Setter<T> {
+        void set(AddressBook addressBook, T target, T editedEntity);
+    }
+
+    /**
+     * A kind of entity kept in a list of an address book, with how to change the list.
+     */
+    private static class EntityType<T> {
+        private final String name;
+        private final Class<T> entityClass;
+        private final Function<ReadOnlyAddressBook, ObservableList<T>> getList;
+        private final BiConsumer<AddressBook, T> add;
+        private final Setter<T> set;
+        private final BiConsumer<AddressBook, T> remove;
+
+        EntityType(String name, Class<T> entityClass, Function<ReadOnlyAddressBook, ObservableList<T>> getList,
+                BiConsumer<AddressBook, T> add, Setter<T> set, BiConsumer<AddressBook, T> remove) {
+            this.name = name;
+            this.entityClass = entityClass;
+            this.getList = getList;
+            this.add = add;
+            this.set = set;
+            this.remove = remove;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the first line of a journal, which holds the generation of the snapshot that the
+ * journal holds the changes to.
+ *
+ * A journal written before journals had a header starts with a record instead, which is read as a header without
+ * a generation.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final Long snapshotGeneration;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} for the snapshot of the given generation.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotGeneration") Long snapshotGeneration) {
+        this.snapshotGeneration = snapshotGeneration;
+    }
+
+    /**
+     * Returns the generation of the snapshot of the journal, or null if the journal has no header.
+     */
+    public Long getSnapshotGeneration() {
+        return snapshotGeneration;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import java.util.function.Function;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Deliverer;
+import seedu.address.model.person.Supplier;
+import seedu.address.model.pet.Pet;
+
+/**
+ * Jackson-friendly version of a change to one of the lists of the address book, as written to the journal.
+ *
+ * A record adds an entity at the end of a list, replaces the entity at an index of a list, or removes the entity at
+ * an index of a list. Exactly one of the entity fields is set in a record that adds or replaces an entity, and none
+ * in a record that removes one.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String ACTION_ADD = "add";
+    public static final String ACTION_SET = "set";
+    public static final String ACTION_REMOVE = "remove";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is not valid!";
+
+    private final String type;
+    private final String action;
+    private final Integer index;
+    private final JsonAdaptedBuyer buyer;
+    private final JsonAdaptedSupplier supplier;
+    private final JsonAdaptedDeliverer deliverer;
+    private final JsonAdaptedOrder order;
+    private final JsonAdaptedPet pet;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type, @JsonProperty("action") String action,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("buyer") JsonAdaptedBuyer buyer,
+                                    @JsonProperty("supplier") JsonAdaptedSupplier supplier,
+                                    @JsonProperty("deliverer") JsonAdaptedDeliverer deliverer,
+                                    @JsonProperty("order") JsonAdaptedOrder order,
+                                    @JsonProperty("pet") JsonAdaptedPet pet) {
+        this.type = type;
+        this.action = action;
+        this.index = index;
+        this.buyer = buyer;
+        this.supplier = supplier;
+        this.deliverer = deliverer;
+        this.order = order;
+        this.pet = pet;
+    }
+
+    /**
+     * Converts a change to the list of the given {@code type} into this class for Jackson use.
+     *
+     * @param entity the entity added or replaced at {@code index}, or null if the entity there was removed.
+     */
+    public JsonAdaptedJournalRecord(String type, String action, int index, Object entity) {
+        this(type, action, index,
+                entity instanceof Buyer ? new JsonAdaptedBuyer((Buyer) entity) : null,
+                entity instanceof Supplier ? new JsonAdaptedSupplier((Supplier) entity) : null,
+                entity instanceof Deliverer ? new JsonAdaptedDeliverer((Deliverer) entity) : null,
+                entity instanceof Order ? new JsonAdaptedOrder((Order) entity) : null,
+                entity instanceof Pet ? new JsonAdaptedPet((Pet) entity) : null);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    /**
+     * Converts the entity of this record into the model's entity object, or returns null if the record removes an
+     * entity. An order or pet is given the buyer or supplier with its key, as found by {@code buyers} or
+     * {@code suppliers}.
+     *
+     * @throws IllegalValueException if the record is missing its type, action or index, or its entity if it adds or
+     *     replaces one, or if there were any data constraints violated in the adapted entity.
+     */
+    public Object toModelType(Function<String, Buyer> buyers, Function<String, Supplier> suppliers)
+            throws IllegalValueException {
+        if (type == null || action == null || index == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        if (buyer != null) {
+            return buyer.toModelType();
+        } else if (supplier != null) {
+            return supplier.toModelType();
+        } else if (deliverer != null) {
+            return deliverer.toModelType();
+        } else if (order != null) {
+            return order.toModelType(buyers);
+        } else if (pet != null) {
+            return pet.toModelType(suppliers);
+        } else if (!action.equals(ACTION_REMOVE)) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        } else {
+            return null;
+        }
+    }
+}
@@ -6,12 +6,13 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.core.index.UniqueId;
-import seedu.address.commons.core.index.UniqueIdGenerator;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.order.AdditionalRequests;
 import seedu.address.model.order.Order;
@@ -23,12 +24,19 @@ import seedu.address.model.person.Buyer;
 
 /**
  * Jackson-friendly version of {@link Order}.
+ *
+ * The buyer of the order is kept as its {@link OwnerKey}, and is looked up among the buyers of the address book.
+ * Orders saved by earlier versions hold a whole copy of their buyer instead, which is still read.
  */
 class JsonAdaptedOrder {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_BUYER = "Order's buyer %s is not in the buyers list!";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedBuyer buyer;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String buyerKey;
     private final JsonAdaptedPriceRange requestedPriceRange;
     private final JsonAdaptedRequest request;
     private final List<String> additionalRequests = new ArrayList<>();
@@ -37,11 +45,21 @@ class JsonAdaptedOrder {
     private final String status;
     private final String uniqueId;
 
+    /**
+     * Constructs a {@code JsonAdaptedOrder} with the given Order details, with a whole copy of its buyer.
+     */
+    public JsonAdaptedOrder(JsonAdaptedBuyer buyer, JsonAdaptedPriceRange range, JsonAdaptedRequest request,
+                            List<String> additional, String byDate, Double settledPrice, String status,
+                            String uniqueId) {
+        this(buyer, null, range, request, additional, byDate, settledPrice, status, uniqueId);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedOrder} with the given Order details.
      */
     @JsonCreator
     public JsonAdaptedOrder(@JsonProperty("buyer") JsonAdaptedBuyer buyer,
+                            @JsonProperty("buyerKey") String buyerKey,
                             @JsonProperty("range") JsonAdaptedPriceRange range,
                             @JsonProperty("request") JsonAdaptedRequest request,
                             @JsonProperty("additional") List<String> additional,
@@ -50,6 +68,7 @@ class JsonAdaptedOrder {
                             @JsonProperty("status") String status,
                             @JsonProperty("uniqueId") String uniqueId) {
         this.buyer = buyer;
+        this.buyerKey = buyerKey;
         this.requestedPriceRange = range;
         this.request = request;
         if (additional != null) {
@@ -65,7 +84,8 @@ class JsonAdaptedOrder {
      * Converts a given {@code Order} into this class for Jackson use.
      */
     public JsonAdaptedOrder(Order order) {
-        this.buyer = new JsonAdaptedBuyer(order.getBuyer());
+        this.buyer = null;
+        this.buyerKey = OwnerKey.of(order.getBuyer());
         this.requestedPriceRange = new JsonAdaptedPriceRange(order.getRequestedPriceRange());
         this.request = new JsonAdaptedRequest(order.getRequest());
         this.additionalRequests.addAll(order.getAdditionalRequests().getAdditionalRequestsToString());
@@ -76,16 +96,40 @@ class JsonAdaptedOrder {
     }
 
     /**
-     * Converts this Jackson-friendly adapted order object into the model's {@code Order} object.
+     * Converts this Jackson-friendly adapted order object into the model's {@code Order} object, when no buyers
+     * are known.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted order.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted order, or if the
+     *     order refers to its buyer by key.
      */
     public Order toModelType() throws IllegalValueException {
-        if (buyer == null) {
+        return toModelType(key -> null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted order object into the model's {@code Order} object, whose buyer is the
+     * buyer that {@code buyers} returns for its key. A whole copy of the buyer saved by an earlier version is
+     * replaced by the buyer with the same key too, if there is one.
+     *
+     * @param buyers returns the buyer with the given key, or null if there is none.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted order, or if there
+     *     is no buyer with the key of the order.
+     */
+    public Order toModelType(Function<String, Buyer> buyers) throws IllegalValueException {
+        Buyer modelBuyer;
+        if (buyerKey != null) {
+            modelBuyer = buyers.apply(buyerKey);
+            if (modelBuyer == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_BUYER, buyerKey));
+            }
+        } else if (buyer != null) {
+            Buyer copiedBuyer = buyer.toModelType();
+            Buyer knownBuyer = buyers.apply(OwnerKey.of(copiedBuyer));
+            modelBuyer = knownBuyer == null ? copiedBuyer : knownBuyer;
+        } else {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Buyer.class.getSimpleName()));
         }
-        Buyer modelBuyer = buyer.toModelType();
 
         if (requestedPriceRange == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -139,9 +183,6 @@ class JsonAdaptedOrder {
                     UniqueId.class.getSimpleName()));
         }
         UniqueId modelUniqueId = new UniqueId(uniqueId);
-        if (UniqueIdGenerator.storedIdOrderContains(modelUniqueId)) {
-            throw new IllegalValueException("Repeated unique id for pet");
-        }
         return new Order(modelBuyer, modelPriceRange, modelRequest, modelAdditionalRequest, modelByDate, modelPrice,
                 modelOrderStatus, modelUniqueId);
     }
@@ -4,13 +4,14 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.core.index.UniqueId;
-import seedu.address.commons.core.index.UniqueIdGenerator;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.order.Price;
 import seedu.address.model.person.Name;
@@ -28,12 +29,19 @@ import seedu.address.model.pet.Weight;
 
 /**
  * Jackson-friendly version of {@link Pet}.
+ *
+ * The supplier of the pet is kept as its {@link OwnerKey}, and is looked up among the suppliers of the address
+ * book. Pets saved by earlier versions hold a whole copy of their supplier instead, which is still read.
  */
 public class JsonAdaptedPet {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Pet's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_SUPPLIER = "Pet's supplier %s is not in the suppliers list!";
 
     private final String name;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedSupplier supplier;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String supplierKey;
     private final String color;
     private final String colorPattern;
     private final String dateOfBirth;
@@ -45,12 +53,23 @@ public class JsonAdaptedPet {
     private final List<String> certificates = new ArrayList<>();
     private final String uniqueId;
 
+    /**
+     * Constructs a {@code JsonAdaptedPet} with the given Pet details, with a whole copy of its supplier.
+     */
+    public JsonAdaptedPet(String name, JsonAdaptedSupplier supplier, String color, String colorPattern,
+                          String dateOfBirth, String species, Double weight, Double height, boolean vaccinationStatus,
+                          Double price, List<String> certificates, String uniqueId) {
+        this(name, supplier, null, color, colorPattern, dateOfBirth, species, weight, height, vaccinationStatus,
+                price, certificates, uniqueId);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPet} with the given Pet details.
      */
     @JsonCreator
     public JsonAdaptedPet(@JsonProperty("name") String name,
                           @JsonProperty("supplier") JsonAdaptedSupplier supplier,
+                          @JsonProperty("supplierKey") String supplierKey,
                           @JsonProperty("color") String color,
                           @JsonProperty("colorPattern") String colorPattern,
                           @JsonProperty("dateOfBirth") String dateOfBirth,
@@ -63,6 +82,7 @@ public class JsonAdaptedPet {
                           @JsonProperty("uniqueId") String uniqueId) {
         this.name = name;
         this.supplier = supplier;
+        this.supplierKey = supplierKey;
         this.color = color;
         this.colorPattern = colorPattern;
         this.dateOfBirth = dateOfBirth;
@@ -82,7 +102,8 @@ public class JsonAdaptedPet {
      */
     public JsonAdaptedPet(Pet source) {
         name = source.getName().toString();
-        supplier = new JsonAdaptedSupplier(source.getSupplier());
+        supplier = null;
+        supplierKey = OwnerKey.of(source.getSupplier());
         color = source.getColor().getValue();
         colorPattern = source.getColorPattern().getValue();
         dateOfBirth = source.getDateOfBirth().getPreferredDateInString();
@@ -97,11 +118,26 @@ public class JsonAdaptedPet {
     }
 
     /**
-     * Converts this Jackson-friendly adapted Pet object into the model's {@code Pet} object.
+     * Converts this Jackson-friendly adapted Pet object into the model's {@code Pet} object, when no suppliers are
+     * known.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted pet.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted pet, or if the pet
+     *     refers to its supplier by key.
      */
     public Pet toModelType() throws IllegalValueException {
+        return toModelType(key -> null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted Pet object into the model's {@code Pet} object, whose supplier is the
+     * supplier that {@code suppliers} returns for its key. A whole copy of the supplier saved by an earlier version
+     * is replaced by the supplier with the same key too, if there is one.
+     *
+     * @param suppliers returns the supplier with the given key, or null if there is none.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted pet, or if there is
+     *     no supplier with the key of the pet.
+     */
+    public Pet toModelType(Function<String, Supplier> suppliers) throws IllegalValueException {
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -111,11 +147,20 @@ public class JsonAdaptedPet {
         }
         final PetName modelName = new PetName(name);
 
-        if (supplier == null) {
+        final Supplier modelSupplier;
+        if (supplierKey != null) {
+            modelSupplier = suppliers.apply(supplierKey);
+            if (modelSupplier == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_SUPPLIER, supplierKey));
+            }
+        } else if (supplier != null) {
+            Supplier copiedSupplier = supplier.toModelType();
+            Supplier knownSupplier = suppliers.apply(OwnerKey.of(copiedSupplier));
+            modelSupplier = knownSupplier == null ? copiedSupplier : knownSupplier;
+        } else {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Supplier.class.getSimpleName()));
         }
-        final Supplier modelSupplier = supplier.toModelType();
 
         final Color modelColor = new Color(color);
 
@@ -160,9 +205,6 @@ public class JsonAdaptedPet {
                     UniqueId.class.getSimpleName()));
         }
         UniqueId modelUniqueId = new UniqueId(uniqueId);
-        if (UniqueIdGenerator.storedIdPetContains(modelUniqueId)) {
-            throw new IllegalValueException("Repeated unique id for pet");
-        }
 
         return new Pet(modelUniqueId, modelName, modelSupplier, modelColor, modelColorPattern, modelDateOfBirth,
                 modelSpecies, modelWeight, modelHeight, modelVax, modelPrice, modelCerts);
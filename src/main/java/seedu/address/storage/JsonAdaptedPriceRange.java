@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -17,6 +18,7 @@ public class JsonAdaptedPriceRange {
     /**
      * Constructs a {@code JsonAdaptedPriceRange} with the given upperbound and lowerbound.
      */
+    @JsonCreator
     public JsonAdaptedPriceRange(@JsonProperty("upperBound") Double upperBound,
                                  @JsonProperty("lowerBound") Double lowerBound) {
         this.upperBound = upperBound;
@@ -40,6 +42,9 @@ public class JsonAdaptedPriceRange {
         }
         Price modelUpperBound = new Price(upperBound);
         Price modelLowerBound = new Price(lowerBound);
+        if (!PriceRange.isValidPriceRange(modelLowerBound, modelUpperBound)) {
+            throw new ParseException(PriceRange.MESSAGE_USAGE);
+        }
         return new PriceRange(modelLowerBound, modelUpperBound);
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -24,6 +25,7 @@ public class JsonAdaptedRequest {
     /**
      * Constructs a {@code JsonAdaptedRequest} with the given request details.
      */
+    @JsonCreator
     public JsonAdaptedRequest(@JsonProperty("age") int age, @JsonProperty("color") String color,
                               @JsonProperty("colorPattern") String colorPattern,
                               @JsonProperty("species") String species) {
@@ -0,0 +1,277 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.index.UniqueId;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Deliverer;
+import seedu.address.model.person.Supplier;
+import seedu.address.model.pet.Pet;
+
+/**
+ * Builds the model's {@code AddressBook} from Jackson-friendly entities given one at a time, so that the entities
+ * need not be kept in lists until the whole address book is read.
+ *
+ * Orders and pets are given the buyer and supplier with their key among those added before them, so buyers and
+ * suppliers should be added first.
+ *
+ * Converting an entity, which validates and parses each of its fields, does not depend on any other entity of its
+ * list, so a whole list can also be added at once, converted in parallel in a {@code ForkJoinPool}. The converted
+ * entities are then checked for duplicates and added to the address book one by one in their order, so the first
+ * entity of the list that cannot be added is reported with the same message as when adding them one at a time.
+ */
+class JsonAddressBookBuilder {
+
+    /** The smallest number of entities of a list that are converted in parallel when the list is added at once. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1024;
+
+    private final ForkJoinPool pool;
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<String, Buyer> buyersByKey = new HashMap<>();
+    private final Map<String, Supplier> suppliersByKey = new HashMap<>();
+    private final Set<UniqueId> petIds = new HashSet<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookBuilder} that converts the entities of a list added at once one at a time.
+     */
+    JsonAddressBookBuilder() {
+        this.pool = null;
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookBuilder} that converts the entities of a long list added at once in
+     * parallel in {@code pool}.
+     */
+    JsonAddressBookBuilder(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a pool to convert the entities of long lists in while reading an address book, with a thread for each
+     * processor. It should be shut down once the address book is read. The common pool is not used, since it also
+     * runs the matching of orders to pets in the background.
+     */
+    static ForkJoinPool createConversionPool() {
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Checks that data of the given version of the format can be read.
+     *
+     * @param version the version of the data, or null if it has none, which is version 1.
+     * @throws IllegalValueException if the version is newer than the version this application writes.
+     */
+    static void checkVersion(Integer version) throws IllegalValueException {
+        if (version != null && version > JsonSerializableAddressBook.VERSION) {
+            throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION,
+                    version, JsonSerializableAddressBook.VERSION));
+        }
+    }
+
+    /**
+     * Converts {@code jsonAdaptedBuyer} into the model's {@code Buyer} and adds it to the address book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if the buyer is already in
+     *     the address book.
+     */
+    void addBuyer(JsonAdaptedBuyer jsonAdaptedBuyer) throws IllegalValueException {
+        addToAddressBook(jsonAdaptedBuyer.toModelType());
+    }
+
+    /**
+     * Similar to {@link #addBuyer(JsonAdaptedBuyer)}.
+     */
+    void addSupplier(JsonAdaptedSupplier jsonAdaptedSupplier) throws IllegalValueException {
+        addToAddressBook(jsonAdaptedSupplier.toModelType());
+    }
+
+    /**
+     * Similar to {@link #addBuyer(JsonAdaptedBuyer)}.
+     */
+    void addDeliverer(JsonAdaptedDeliverer jsonAdaptedDeliverer) throws IllegalValueException {
+        addToAddressBook(jsonAdaptedDeliverer.toModelType());
+    }
+
+    /**
+     * Similar to {@link #addBuyer(JsonAdaptedBuyer)}.
+     * The order is given the buyer with its key among the buyers added so far.
+     */
+    void addOrder(JsonAdaptedOrder jsonAdaptedOrder) throws IllegalValueException {
+        addToAddressBook(jsonAdaptedOrder.toModelType(buyersByKey::get));
+    }
+
+    /**
+     * Similar to {@link #addBuyer(JsonAdaptedBuyer)}.
+     * The pet is given the supplier with its key among the suppliers added so far.
+     */
+    void addPet(JsonAdaptedPet jsonAdaptedPet) throws IllegalValueException {
+        addToAddressBook(jsonAdaptedPet.toModelType(suppliersByKey::get));
+    }
+
+    /**
+     * Converts all of {@code jsonAdaptedBuyers} into the model's {@code Buyer} and adds them to the address book, in
+     * their order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if a buyer is already in
+     *     the address book. The first buyer in the list that cannot be added is reported.
+     */
+    void addBuyers(List<JsonAdaptedBuyer> jsonAdaptedBuyers) throws IllegalValueException {
+        for (Conversion<Buyer> conversion : convertAll(jsonAdaptedBuyers, JsonAdaptedBuyer::toModelType)) {
+            addToAddressBook(conversion.get());
+        }
+    }
+
+    /**
+     * Similar to {@link #addBuyers(List)}.
+     */
+    void addSuppliers(List<JsonAdaptedSupplier> jsonAdaptedSuppliers) throws IllegalValueException {
+        for (Conversion<Supplier> conversion : convertAll(jsonAdaptedSuppliers, JsonAdaptedSupplier::toModelType)) {
+            addToAddressBook(conversion.get());
+        }
+    }
+
+    /**
+     * Similar to {@link #addBuyers(List)}.
+     */
+    void addDeliverers(List<JsonAdaptedDeliverer> jsonAdaptedDeliverers) throws IllegalValueException {
+        for (Conversion<Deliverer> conversion
+                : convertAll(jsonAdaptedDeliverers, JsonAdaptedDeliverer::toModelType)) {
+            addToAddressBook(conversion.get());
+        }
+    }
+
+    /**
+     * Similar to {@link #addBuyers(List)}.
+     * The orders are given the buyers with their keys among the buyers added so far.
+     */
+    void addOrders(List<JsonAdaptedOrder> jsonAdaptedOrders) throws IllegalValueException {
+        for (Conversion<Order> conversion
+                : convertAll(jsonAdaptedOrders, jsonAdaptedOrder -> jsonAdaptedOrder.toModelType(buyersByKey::get))) {
+            addToAddressBook(conversion.get());
+        }
+    }
+
+    /**
+     * Similar to {@link #addBuyers(List)}.
+     * The pets are given the suppliers with their keys among the suppliers added so far.
+     */
+    void addPets(List<JsonAdaptedPet> jsonAdaptedPets) throws IllegalValueException {
+        for (Conversion<Pet> conversion
+                : convertAll(jsonAdaptedPets, jsonAdaptedPet -> jsonAdaptedPet.toModelType(suppliersByKey::get))) {
+            addToAddressBook(conversion.get());
+        }
+    }
+
+    private void addToAddressBook(Buyer buyer) throws IllegalValueException {
+        if (addressBook.hasBuyer(buyer)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_BUYER);
+        }
+        addressBook.addBuyer(buyer);
+        buyersByKey.put(OwnerKey.of(buyer), buyer);
+    }
+
+    private void addToAddressBook(Supplier supplier) throws IllegalValueException {
+        if (addressBook.hasSupplier(supplier)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_SUPPLIER);
+        }
+        addressBook.addSupplier(supplier);
+        suppliersByKey.put(OwnerKey.of(supplier), supplier);
+    }
+
+    private void addToAddressBook(Deliverer deliverer) throws IllegalValueException {
+        if (addressBook.hasDeliverer(deliverer)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_DELIEVER);
+        }
+        addressBook.addDeliverer(deliverer);
+    }
+
+    private void addToAddressBook(Order order) throws IllegalValueException {
+        if (addressBook.hasOrder(order)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ORDER);
+        }
+        addressBook.addOrder(order);
+    }
+
+    private void addToAddressBook(Pet pet) throws IllegalValueException {
+        if (addressBook.hasPet(pet)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PET);
+        }
+        if (!petIds.add(pet.getId())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PET_ID);
+        }
+        addressBook.addPet(pet);
+    }
+
+    /**
+     * Returns the address book with the entities added so far.
+     */
+    AddressBook build() {
+        return addressBook;
+    }
+
+    /**
+     * Converts every one of {@code jsonAdaptedEntities} with {@code converter}, in parallel in the pool of this
+     * builder if there is one, it has more than one thread and the list is long enough. A pool of one thread would
+     * only add the cost of handing the list over to it. The conversions are returned in the order of the list.
+     */
+    private <J, T> List<Conversion<T>> convertAll(List<J> jsonAdaptedEntities, Converter<J, T> converter) {
+        IntFunction<Conversion<T>> convert = i -> Conversion.of(jsonAdaptedEntities.get(i), converter);
+        if (pool == null || pool.getParallelism() < 2
+                || jsonAdaptedEntities.size() < PARALLEL_CONVERSION_THRESHOLD) {
+            return IntStream.range(0, jsonAdaptedEntities.size()).mapToObj(convert).collect(Collectors.toList());
+        }
+        return pool.submit(() -> IntStream.range(0, jsonAdaptedEntities.size()).parallel()
+                .mapToObj(convert).collect(Collectors.toList())).join();
+    }
+
+    /**
+     * Converts a Jackson-friendly entity into the model's entity.
+     */
+    @FunctionalInterface
+    private interface Converter<J, T> {
+        T convert(J jsonAdaptedEntity) throws IllegalValueException;
+    }
+
+    /**
+     * The model's entity that a Jackson-friendly entity is converted into, or the exception its conversion throws,
+     * which is only thrown when the entity is added, so that the entities before it are checked first.
+     */
+    private static class Conversion<T> {
+        private final T entity;
+        private final IllegalValueException exception;
+
+        private Conversion(T entity, IllegalValueException exception) {
+            this.entity = entity;
+            this.exception = exception;
+        }
+
+        static <J, T> Conversion<T> of(J jsonAdaptedEntity, Converter<J, T> converter) {
+            try {
+                return new Conversion<>(converter.convert(jsonAdaptedEntity), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion<>(null, ive);
+            }
+        }
+
+        T get() throws IllegalValueException {
+            if (exception != null) {
+                throw exception;
+            }
+            return entity;
+        }
+    }
+}
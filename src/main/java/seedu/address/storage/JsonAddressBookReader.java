@@ -0,0 +1,253 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book from a JSON data file in the format of {@link JsonSerializableAddressBook}, one entity at a
+ * time.
+ *
+ * The file is parsed as a stream, and each buyer, supplier, deliverer, order and pet is converted into the model's
+ * entity and added to the address book as soon as it is read, so neither the text of the file nor lists of
+ * Jackson-friendly entities are kept in memory. The elements of each array are converted in batches of
+ * {@link #BATCH_SIZE}, each of them in parallel in a pool of its own for the read, so reading a large file uses
+ * every processor without keeping more than a batch of Jackson-friendly entities. As when the file is read into a
+ * {@code JsonSerializableAddressBook}, all five arrays must be there. Orders and pets that come before the buyers
+ * and suppliers in the file, which is not how this application writes them, are kept until the buyers and suppliers
+ * are read. A file compressed in the GZIP format is decompressed as it is read.
+ */
+class JsonAddressBookReader {
+
+    /** Files smaller than this are read too quickly for their progress to be worth reporting. */
+    static final long PROGRESS_MIN_FILE_SIZE = 1024 * 1024;
+    /** The fraction of the file read between reports of progress. */
+    static final double PROGRESS_STEP = 0.1;
+    /** The number of elements of an array that are read before they are converted together. */
+    static final int BATCH_SIZE = JsonAddressBookBuilder.PARALLEL_CONVERSION_THRESHOLD * 4;
+
+    private static final List<String> ARRAY_NAMES =
+            Arrays.asList("buyers", "suppliers", "deliverers", "orders", "pets");
+
+    private final JsonParser parser;
+    private final CountingInputStream fileInputStream;
+    private final long fileSize;
+    private final DoubleConsumer progressListener;
+    private final LongConsumer generationListener;
+    private final JsonAddressBookBuilder builder;
+    private final List<JsonAdaptedOrder> deferredOrders = new ArrayList<>();
+    private final List<JsonAdaptedPet> deferredPets = new ArrayList<>();
+    private final Set<String> readArrayNames = new HashSet<>();
+    private double lastReportedProgress;
+
+    private JsonAddressBookReader(JsonParser parser, CountingInputStream fileInputStream, long fileSize,
+                                  DoubleConsumer progressListener, LongConsumer generationListener,
+                                  JsonAddressBookBuilder builder) {
+        this.parser = parser;
+        this.fileInputStream = fileInputStream;
+        this.fileSize = fileSize;
+        this.progressListener = progressListener;
+        this.generationListener = generationListener;
+        this.builder = builder;
+    }
+
+    /**
+     * Reads the address book in the file at {@code filePath}.
+     *
+     * @param progressListener given the fraction of the file read so far, from 0 to 1, every
+     *     {@link #PROGRESS_STEP} of the file, if the file is at least {@link #PROGRESS_MIN_FILE_SIZE} bytes long.
+     * @throws IOException if the file could not be read, or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath, DoubleConsumer progressListener)
+            throws IOException, IllegalValueException {
+        return read(filePath, progressListener, generation -> { });
+    }
+
+    /**
+     * Similar to {@link #read(Path, DoubleConsumer)}.
+     *
+     * @param generationListener given the generation of the file, if it has one.
+     */
+    static AddressBook read(Path filePath, DoubleConsumer progressListener, LongConsumer generationListener)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(progressListener);
+        requireNonNull(generationListener);
+
+        long fileSize = Files.size(filePath);
+        ForkJoinPool pool = JsonAddressBookBuilder.createConversionPool();
+        try (CountingInputStream fileInputStream = new CountingInputStream(Files.newInputStream(filePath));
+             JsonParser parser = JsonUtil.createParser(FileUtil.decompressIfCompressed(fileInputStream))) {
+            return new JsonAddressBookReader(parser, fileInputStream, fileSize, progressListener,
+                    generationListener, new JsonAddressBookBuilder(pool)).read();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private AddressBook read() throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            readField(fieldName);
+        }
+        for (String arrayName : ARRAY_NAMES) {
+            if (!readArrayNames.contains(arrayName)) {
+                throw new JsonParseException(parser, "Missing the array of " + arrayName);
+            }
+        }
+
+        builder.addOrders(deferredOrders);
+        builder.addPets(deferredPets);
+        if (fileSize >= PROGRESS_MIN_FILE_SIZE) {
+            progressListener.accept(1);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the value of the field named {@code fieldName}, the first token of which is the current token.
+     */
+    private void readField(String fieldName) throws IOException, IllegalValueException {
+        switch (fieldName) {
+        case "version":
+            JsonAddressBookBuilder.checkVersion(parser.readValueAs(Integer.class));
+            break;
+        case "generation":
+            Long generation = parser.readValueAs(Long.class);
+            if (generation != null) {
+                generationListener.accept(generation);
+            }
+            break;
+        case "buyers":
+            readArray(fieldName, JsonAdaptedBuyer.class, builder::addBuyers);
+            break;
+        case "suppliers":
+            readArray(fieldName, JsonAdaptedSupplier.class, builder::addSuppliers);
+            break;
+        case "deliverers":
+            readArray(fieldName, JsonAdaptedDeliverer.class, builder::addDeliverers);
+            break;
+        case "orders":
+            readArray(fieldName, JsonAdaptedOrder.class,
+                    readArrayNames.contains("buyers") ? builder::addOrders : deferredOrders::addAll);
+            break;
+        case "pets":
+            readArray(fieldName, JsonAdaptedPet.class,
+                    readArrayNames.contains("suppliers") ? builder::addPets : deferredPets::addAll);
+            break;
+        default:
+            // Unknown fields are ignored, as when the file is read into a JsonSerializableAddressBook.
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * Reads the elements of the array named {@code arrayName} starting at the current token as
+     * {@code elementClass}, and gives them to {@code consumer} in batches of at most {@link #BATCH_SIZE}, in their
+     * order.
+     */
+    private <T> void readArray(String arrayName, Class<T> elementClass, BatchConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + arrayName);
+        }
+        List<T> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T element = parser.readValueAs(elementClass);
+            if (element == null) {
+                throw new JsonParseException(parser, "Expected a " + elementClass.getSimpleName() + " but got null");
+            }
+            batch.add(element);
+            if (batch.size() == BATCH_SIZE) {
+                consumer.accept(batch);
+                batch.clear();
+            }
+            reportProgress();
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+        readArrayNames.add(arrayName);
+    }
+
+    private void reportProgress() {
+        if (fileSize < PROGRESS_MIN_FILE_SIZE) {
+            return;
+        }
+        double progress = Math.min(1, (double) fileInputStream.count / fileSize);
+        if (progress - lastReportedProgress >= PROGRESS_STEP) {
+            lastReportedProgress = progress;
+            progressListener.accept(progress);
+        }
+    }
+
+    /**
+     * Counts the bytes read from the file, which tell the progress of reading even if the file is compressed.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int readCount = super.read(bytes, offset, length);
+            if (readCount > 0) {
+                count += readCount;
+            }
+            return readCount;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /**
+     * Takes a batch of the elements of an array, which is reused for the next batch once this returns.
+     */
+    @FunctionalInterface
+    private interface BatchConsumer<T> {
+        void accept(List<T> elements) throws IllegalValueException;
+    }
+}
@@ -3,10 +3,14 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DurabilityPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,15 +20,41 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read as a stream by {@link JsonAddressBookReader}, with the progress of large files logged. It is
+ * written to a temporary file that then replaces it in one move, forced to the disk as often as its
+ * {@link DurabilityPolicy} asks. A file whose name ends with {@link FileUtil#COMPRESSED_FILE_SUFFIX} is compressed in
+ * the GZIP format as it is written, and a compressed file is read whatever its name.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final SyncSchedule syncSchedule;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} with the data at {@code filePath}, that forces every save to the disk.
+     *
+     * @param isCompact whether the data is written without indentation.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DurabilityPolicy.ALWAYS);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, boolean)}.
+     *
+     * @param durabilityPolicy how often the saves are forced to the disk.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.syncSchedule = new SyncSchedule(durabilityPolicy);
     }
 
     public Path getAddressBookFilePath() {
@@ -43,16 +73,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        return readAddressBook(filePath, generation -> { });
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}.
+     *
+     * @param generationListener given the generation of the file, if it is a snapshot that has one.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, LongConsumer generationListener)
+            throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookReader.read(filePath, progress -> logger.info(
+                    String.format("Read %.0f%% of %s", progress * 100, filePath)), generationListener));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -70,11 +113,50 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        prepareSave(addressBook, filePath).write();
+    }
+
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) {
+        return prepareSave(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #prepareSave(ReadOnlyAddressBook)}.
+     * The address book is copied into its Jackson-friendly version right away, and only turned into JSON when the
+     * save is written, as it is streamed to the file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        return prepareSave(addressBook, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #prepareSave(ReadOnlyAddressBook, Path)}.
+     *
+     * @param generation the generation written with the data, or null if the data is not a snapshot with a journal.
+     */
+    AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath, Long generation) {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook, generation);
+        return new AddressBookSave(filePath, true, () -> {
+            FileUtil.createParentDirsOfFile(filePath);
+            boolean isSyncing = syncSchedule.shouldSync();
+            JsonUtil.saveJsonFile(data, filePath, isCompact, isSyncing);
+            if (!isSyncing) {
+                syncSchedule.syncLater(List.of(filePath));
+            }
+        });
     }
 
+    /**
+     * Does nothing, as every save writes the whole address book.
+     */
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
 }
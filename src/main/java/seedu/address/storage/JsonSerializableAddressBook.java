@@ -5,20 +5,22 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.order.Order;
-import seedu.address.model.person.Buyer;
-import seedu.address.model.person.Deliverer;
-import seedu.address.model.person.Supplier;
-import seedu.address.model.pet.Pet;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * Since version 2 of the format, orders and pets refer to their buyer and supplier by key instead of holding a
+ * copy of them, and are given the buyer and supplier of the address book with that key when read. Data files of
+ * version 1, which have no version, are read too, and are written as version 2 when saved again.
+ *
+ * A snapshot written by {@link JournaledAddressBookStorage} also has a generation, which its journal starts with.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -28,22 +30,40 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_DELIEVER = "Deliverers list contains duplicate deliverer(s).";
     public static final String MESSAGE_DUPLICATE_PET = "Pets list contains duplicate pet(s).";
     public static final String MESSAGE_DUPLICATE_ORDER = "Orders list contains duplicate order(s).";
+    public static final String MESSAGE_DUPLICATE_PET_ID = "Repeated unique id for pet";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file is of version %1$d, newer than version %2$d";
+    public static final int VERSION = 2;
 
+    private final Integer version;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long generation;
     private final List<JsonAdaptedBuyer> buyers = new ArrayList<>();
     private final List<JsonAdaptedSupplier> suppliers = new ArrayList<>();
     private final List<JsonAdaptedDeliverer> deliverers = new ArrayList<>();
     private final List<JsonAdaptedOrder> orders = new ArrayList<>();
     private final List<JsonAdaptedPet> pets = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} of version 1 with the given persons.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedBuyer> buyers, List<JsonAdaptedSupplier> suppliers,
+                                       List<JsonAdaptedDeliverer> deliverers, List<JsonAdaptedOrder> orders,
+                                       List<JsonAdaptedPet> pets) {
+        this(null, buyers, suppliers, deliverers, orders, pets);
+    }
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("buyers") List<JsonAdaptedBuyer> buyers,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("buyers") List<JsonAdaptedBuyer> buyers,
                                        @JsonProperty("suppliers") List<JsonAdaptedSupplier> suppliers,
                                        @JsonProperty("deliverers") List<JsonAdaptedDeliverer> deliverers,
                                        @JsonProperty("orders") List<JsonAdaptedOrder> orders,
                                        @JsonProperty("pets") List<JsonAdaptedPet> pets) {
+        this.version = version;
+        this.generation = null;
         this.buyers.addAll(buyers);
         this.suppliers.addAll(suppliers);
         this.deliverers.addAll(deliverers);
@@ -57,6 +77,17 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Similar to {@link #JsonSerializableAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param generation the generation of the snapshot, or null if the data is not a snapshot with a journal.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, Long generation) {
+        version = VERSION;
+        this.generation = generation;
         buyers.addAll(source.getBuyerList().stream().map(JsonAdaptedBuyer::new).collect(Collectors.toList()));
         suppliers.addAll(source.getSupplierList().stream().map(JsonAdaptedSupplier::new).collect(Collectors.toList()));
         deliverers.addAll(source.getDelivererList().stream().map(JsonAdaptedDeliverer::new)
@@ -71,43 +102,23 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedBuyer jsonAdaptedBuyer : buyers) {
-            Buyer buyer = jsonAdaptedBuyer.toModelType();
-            if (addressBook.hasBuyer(buyer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BUYER);
-            }
-            addressBook.addBuyer(buyer);
-        }
-        for (JsonAdaptedSupplier jsonAdaptedSupplier : suppliers) {
-            Supplier supplier = jsonAdaptedSupplier.toModelType();
-            if (addressBook.hasSupplier(supplier)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SUPPLIER);
-            }
-            addressBook.addSupplier(supplier);
-        }
-        for (JsonAdaptedDeliverer jsonAdaptedDeliverer: deliverers) {
-            Deliverer deliverer = jsonAdaptedDeliverer.toModelType();
-            if (addressBook.hasDeliverer(deliverer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_DELIEVER);
-            }
-            addressBook.addDeliverer(deliverer);
-        }
-        for (JsonAdaptedOrder jsonAdaptedOrder: orders) {
-            Order order = jsonAdaptedOrder.toModelType();
-            if (addressBook.hasOrder(order)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
-            }
-            addressBook.addOrder(order);
-        }
-        for (JsonAdaptedPet jsonAdaptedPet: pets) {
-            Pet pet = jsonAdaptedPet.toModelType();
-            if (addressBook.hasPet(pet)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PET);
-            }
-            addressBook.addPet(pet);
-        }
-        return addressBook;
+        JsonAddressBookBuilder builder = new JsonAddressBookBuilder();
+        addTo(builder);
+        return builder.build();
+    }
+
+    /**
+     * Adds the entities of this address book to {@code builder}, after those added to it before.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    void addTo(JsonAddressBookBuilder builder) throws IllegalValueException {
+        JsonAddressBookBuilder.checkVersion(version);
+        builder.addBuyers(buyers);
+        builder.addSuppliers(suppliers);
+        builder.addDeliverers(deliverers);
+        builder.addOrders(orders);
+        builder.addPets(pets);
     }
 
 }
@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of an address book stored in shards, which lists the shard files that
+ * hold each list of the address book, in order.
+ *
+ * The generation is increased by every save, and is part of the names of the shard files the save writes, so a save
+ * never overwrites a shard file that the manifest before it lists.
+ */
+class JsonShardManifest {
+
+    private final long generation;
+    private final Map<String, List<String>> shards;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard files of every list.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("generation") long generation,
+                             @JsonProperty("shards") Map<String, List<String>> shards) {
+        this.generation = generation;
+        this.shards = shards == null ? null : new LinkedHashMap<>(shards);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Map<String, List<String>> getShards() {
+        return shards;
+    }
+
+    /**
+     * Returns whether the file read into this is a manifest, rather than a data file that holds a whole address book.
+     */
+    boolean isManifest() {
+        return shards != null;
+    }
+
+    /**
+     * Returns the names of the shard files of the list of the given {@code type}, in order.
+     */
+    List<String> getShardFileNames(String type) {
+        return shards.getOrDefault(type, List.of());
+    }
+}
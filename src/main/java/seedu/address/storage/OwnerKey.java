@@ -0,0 +1,19 @@
+package seedu.address.storage;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Makes the keys with which orders and pets refer to their buyer and supplier in the storage.
+ * Two persons have the same key if and only if they are the same person, by {@link Person#isSamePerson(Person)}.
+ */
+final class OwnerKey {
+
+    private OwnerKey() {}
+
+    /**
+     * Returns the key of {@code person}.
+     */
+    static String of(Person person) {
+        return person.getName() + " <" + person.getEmail() + ">";
+    }
+}
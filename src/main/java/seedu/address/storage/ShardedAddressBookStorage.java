@@ -0,0 +1,445 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.JsonSerializableAddressBook.VERSION;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Deliverer;
+import seedu.address.model.person.Supplier;
+import seedu.address.model.pet.Pet;
+
+/**
+ * A class to access AddressBook data stored in shards, which are json files that each hold a run of one list of the
+ * address book, listed by a manifest file.
+ *
+ * Every list is cut into shards of a fixed number of entities, in order, so the order of the lists is kept without
+ * writing it down. A save only writes the shards that hold an entity that was not in that place of that shard at the
+ * last save, so editing or adding an entity writes one shard, while removing one writes the shards after it too,
+ * as the entities there move up. Buyers and suppliers whose lists of orders and pets were changed in place, and
+ * orders and pets that were given another buyer or supplier in place, count as changed as well. The new shards are
+ * written to new files, the manifest is then replaced in one move, and the shard files it no longer lists are deleted
+ * last, so the files on the disk always make up the address book of a save.
+ *
+ * A data file that holds a whole address book is read too, and is replaced by a manifest when saved again. The
+ * shards of a manifest that is compressed, as its name ends with {@link FileUtil#COMPRESSED_FILE_SUFFIX}, are
+ * compressed too.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final int DEFAULT_SHARD_SIZE = 500;
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %1$s listed in the manifest is missing";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final ShardType<Buyer> BUYERS = new ShardType<>("buyers", ReadOnlyAddressBook::getBuyerList,
+            buyer -> List.copyOf(buyer.getOrderIds()), buyers -> new JsonSerializableAddressBook(VERSION,
+                    adapt(buyers, JsonAdaptedBuyer::new), List.of(), List.of(), List.of(), List.of()));
+    private static final ShardType<Supplier> SUPPLIERS = new ShardType<>("suppliers",
+            ReadOnlyAddressBook::getSupplierList, supplier -> List.copyOf(supplier.getPetIds()),
+            suppliers -> new JsonSerializableAddressBook(VERSION,
+                    List.of(), adapt(suppliers, JsonAdaptedSupplier::new), List.of(), List.of(), List.of()));
+    private static final ShardType<Deliverer> DELIVERERS = new ShardType<>("deliverers",
+            ReadOnlyAddressBook::getDelivererList, deliverer -> List.copyOf(deliverer.getOrders()),
+            deliverers -> new JsonSerializableAddressBook(VERSION,
+                    List.of(), List.of(), adapt(deliverers, JsonAdaptedDeliverer::new), List.of(), List.of()));
+    private static final ShardType<Order> ORDERS = new ShardType<>("orders", ReadOnlyAddressBook::getOrderList,
+            Order::getBuyer, orders -> new JsonSerializableAddressBook(VERSION,
+                    List.of(), List.of(), List.of(), adapt(orders, JsonAdaptedOrder::new), List.of()));
+    private static final ShardType<Pet> PETS = new ShardType<>("pets", ReadOnlyAddressBook::getPetList,
+            Pet::getSupplier, pets -> new JsonSerializableAddressBook(VERSION,
+                    List.of(), List.of(), List.of(), List.of(), adapt(pets, JsonAdaptedPet::new)));
+    /** The types of the shards, in the order they are read, so that owners are read before what they own. */
+    private static final List<ShardType<?>> SHARD_TYPES = List.of(BUYERS, SUPPLIERS, DELIVERERS, ORDERS, PETS);
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final SyncSchedule syncSchedule;
+    private final int shardSize;
+
+    /** The shards of every list as last saved to or read from the manifest at {@code filePath}, by type. */
+    private final Map<String, List<SavedShard>> savedShards = new LinkedHashMap<>();
+    /** The generation of the last save or read, or -1 if there was none yet. */
+    private long generation = -1;
+    /** Whether the last write of a save failed, which can be on another thread. */
+    private volatile boolean hasFailedWrite;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, false, DurabilityPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} with the manifest at {@code filePath}.
+     *
+     * @param isCompact whether the shards are written without indentation.
+     * @param durabilityPolicy how often the saves are forced to the disk.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy) {
+        this(filePath, isCompact, durabilityPolicy, DEFAULT_SHARD_SIZE);
+    }
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} with the manifest at {@code filePath}, that forces every save to
+     * the disk.
+     *
+     * @param shardSize the number of entities in every shard but the last of each list.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact, int shardSize) {
+        this(filePath, isCompact, DurabilityPolicy.ALWAYS, shardSize);
+    }
+
+    /**
+     * Similar to {@link #ShardedAddressBookStorage(Path, boolean, DurabilityPolicy)}.
+     *
+     * @param shardSize the number of entities in every shard but the last of each list.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact, DurabilityPolicy durabilityPolicy,
+                                     int shardSize) {
+        requireNonNull(filePath);
+        if (shardSize <= 0) {
+            throw new IllegalArgumentException("Shard size must be positive: " + shardSize);
+        }
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.syncSchedule = new SyncSchedule(durabilityPolicy);
+        this.shardSize = shardSize;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the directory that holds the shards of the manifest at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The shards read from the manifest of this storage are remembered, so the next save only writes the shards
+     * that changed since.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a shard is missing or not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        if (!manifest.get().isManifest()) {
+            logger.info(filePath + " holds a whole address book, which is split into shards when saved");
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        ForkJoinPool pool = JsonAddressBookBuilder.createConversionPool();
+        JsonAddressBookBuilder builder = new JsonAddressBookBuilder(pool);
+        Map<String, List<Integer>> shardSizes = new LinkedHashMap<>();
+        try {
+            for (ShardType<?> type : SHARD_TYPES) {
+                List<Integer> sizes = new ArrayList<>();
+                for (String fileName : manifest.get().getShardFileNames(type.name)) {
+                    int sizeBefore = type.getList.apply(builder.build()).size();
+                    readShard(shardDirectory.resolve(fileName), builder);
+                    sizes.add(type.getList.apply(builder.build()).size() - sizeBefore);
+                }
+                shardSizes.put(type.name, sizes);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        AddressBook addressBook = builder.build();
+
+        if (filePath.equals(this.filePath)) {
+            savedShards.clear();
+            for (ShardType<?> type : SHARD_TYPES) {
+                savedShards.put(type.name, rememberReadShards(type, addressBook,
+                        manifest.get().getShardFileNames(type.name), shardSizes.get(type.name)));
+            }
+            generation = manifest.get().getGeneration();
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static void readShard(Path shardFilePath, JsonAddressBookBuilder builder)
+            throws DataConversionException {
+        Optional<JsonSerializableAddressBook> shard =
+                JsonUtil.readJsonFile(shardFilePath, JsonSerializableAddressBook.class);
+        try {
+            if (!shard.isPresent()) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFilePath.getFileName()));
+            }
+            shard.get().addTo(builder);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static <T> List<SavedShard> rememberReadShards(ShardType<T> type, AddressBook addressBook,
+            List<String> fileNames, List<Integer> sizes) {
+        List<T> entities = type.getList.apply(addressBook);
+        List<SavedShard> shards = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < fileNames.size(); i++) {
+            shards.add(new SavedShard(fileNames.get(i), type, entities.subList(start, start + sizes.get(i))));
+            start += sizes.get(i);
+        }
+        return shards;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        prepareSave(addressBook).write();
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to another location than the manifest of this storage always writes all the shards there.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            prepareShards(addressBook, filePath, Map.of(), readGeneration(filePath) + 1).write();
+            return;
+        }
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Prepares a save of the shards of {@code addressBook} that changed since the last save, and of the manifest.
+     * The saves must be written in the order they were prepared.
+     * If writing a save fails, the next save writes all the shards again, and the saves prepared before that are
+     * not written, as they would list shards that may not have been written.
+     */
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        if (hasFailedWrite) {
+            savedShards.clear();
+        }
+        if (generation < 0) {
+            generation = readGeneration(filePath);
+        }
+        return prepareShards(addressBook, filePath, savedShards, generation + 1);
+    }
+
+    /**
+     * Does nothing, as a save finds the shards to write by comparing the address book with the last save.
+     */
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Prepares a save of the shards of {@code addressBook} that are not in {@code previousShards} to the manifest at
+     * {@code filePath}, as the given {@code generation}.
+     */
+    private AddressBookSave prepareShards(ReadOnlyAddressBook addressBook, Path filePath,
+            Map<String, List<SavedShard>> previousShards, long generation) {
+        boolean isWholeAddressBook = previousShards.isEmpty();
+        Map<String, List<SavedShard>> shards = new LinkedHashMap<>();
+        Map<String, JsonSerializableAddressBook> shardsToWrite = new LinkedHashMap<>();
+        String shardFileSuffix = ".json" + (FileUtil.isCompressedFile(filePath) ? FileUtil.COMPRESSED_FILE_SUFFIX : "");
+        for (ShardType<?> type : SHARD_TYPES) {
+            shards.put(type.name, planShards(type, addressBook,
+                    previousShards.getOrDefault(type.name, List.of()), generation, shardFileSuffix, shardsToWrite));
+        }
+        if (!isWholeAddressBook && shardsToWrite.isEmpty() && shards.equals(previousShards)) {
+            return AddressBookSave.none(filePath);
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(generation, shards.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().stream()
+                        .map(shard -> shard.fileName).collect(Collectors.toList()),
+                    (first, second) -> first, LinkedHashMap::new)));
+        if (!filePath.equals(this.filePath)) {
+            return new AddressBookSave(filePath, true, () -> writeShards(filePath, manifest, shardsToWrite));
+        }
+        savedShards.clear();
+        savedShards.putAll(shards);
+        this.generation = generation;
+        return new AddressBookSave(filePath, isWholeAddressBook, () -> {
+            if (hasFailedWrite && !isWholeAddressBook) {
+                return;
+            }
+            try {
+                writeShards(filePath, manifest, shardsToWrite);
+            } catch (IOException e) {
+                hasFailedWrite = true;
+                throw e;
+            }
+            hasFailedWrite = false;
+        });
+    }
+
+    /**
+     * Cuts the list of the given {@code type} of {@code addressBook} into shards, keeping the shards in
+     * {@code previousShards} that are unchanged, and adds the Jackson-friendly version of the others to
+     * {@code shardsToWrite} by the name of their new file.
+     */
+    private <T> List<SavedShard> planShards(ShardType<T> type, ReadOnlyAddressBook addressBook,
+            List<SavedShard> previousShards, long generation, String shardFileSuffix,
+            Map<String, JsonSerializableAddressBook> shardsToWrite) {
+        List<T> entities = type.getList.apply(addressBook);
+        List<SavedShard> shards = new ArrayList<>();
+        for (int start = 0, i = 0; start < entities.size(); start += shardSize, i++) {
+            List<T> shardEntities = entities.subList(start, Math.min(start + shardSize, entities.size()));
+            if (i < previousShards.size() && previousShards.get(i).isSameAs(type, shardEntities)) {
+                shards.add(previousShards.get(i));
+                continue;
+            }
+            String fileName = type.name + "-" + i + "-" + generation + shardFileSuffix;
+            shards.add(new SavedShard(fileName, type, shardEntities));
+            shardsToWrite.put(fileName, type.toShard.apply(shardEntities));
+        }
+        return shards;
+    }
+
+    /**
+     * Writes {@code shardsToWrite} next to the manifest at {@code filePath}, then replaces the manifest with
+     * {@code manifest}, and then deletes the shard files that the manifest does not list.
+     */
+    private void writeShards(Path filePath, JsonShardManifest manifest,
+            Map<String, JsonSerializableAddressBook> shardsToWrite) throws IOException {
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectory);
+        boolean isSyncing = syncSchedule.shouldSync();
+        List<Path> writtenFiles = new ArrayList<>();
+        for (Map.Entry<String, JsonSerializableAddressBook> shard : shardsToWrite.entrySet()) {
+            Path shardFile = shardDirectory.resolve(shard.getKey());
+            JsonUtil.saveJsonFile(shard.getValue(), shardFile, isCompact, isSyncing);
+            writtenFiles.add(shardFile);
+        }
+        JsonUtil.saveJsonFile(manifest, filePath, false, isSyncing);
+        writtenFiles.add(filePath);
+        if (!isSyncing) {
+            syncSchedule.syncLater(writtenFiles);
+        }
+
+        Set<String> listedFileNames = new HashSet<>();
+        manifest.getShards().values().forEach(listedFileNames::addAll);
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(shardDirectory, "*.{json,json.gz}")) {
+            for (Path shardFile : shardFiles) {
+                if (!listedFileNames.contains(shardFile.getFileName().toString())) {
+                    Files.deleteIfExists(shardFile);
+                }
+            }
+        }
+        logger.fine("Wrote " + shardsToWrite.size() + " shards of " + filePath);
+    }
+
+    /**
+     * Returns the generation of the manifest at {@code filePath}, or 0 if there is no manifest that can be read.
+     */
+    private static long readGeneration(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonShardManifest.class)
+                    .map(JsonShardManifest::getGeneration).orElse(0L);
+        } catch (DataConversionException e) {
+            return 0;
+        }
+    }
+
+    private static <T, R> List<R> adapt(List<T> entities, Function<T, R> adapter) {
+        return entities.stream().map(adapter).collect(Collectors.toList());
+    }
+
+    /**
+     * A shard as it was saved: its file, the entities it held, and a copy of the parts of those entities that are
+     * changed in place.
+     */
+    private static class SavedShard {
+        private final String fileName;
+        private final List<Object> entities;
+        private final List<Object> changeableParts;
+
+        <T> SavedShard(String fileName, ShardType<T> type, List<T> entities) {
+            this.fileName = fileName;
+            this.entities = new ArrayList<>(entities);
+            this.changeableParts = entities.stream().map(type.copyChangeablePart).collect(Collectors.toList());
+        }
+
+        /**
+         * Returns whether this shard holds the same entities as {@code entities}, in the same order, with the same
+         * parts that are changed in place.
+         */
+        <T> boolean isSameAs(ShardType<T> type, List<T> entities) {
+            if (entities.size() != this.entities.size()) {
+                return false;
+            }
+            for (int i = 0; i < entities.size(); i++) {
+                if (entities.get(i) != this.entities.get(i)
+                        || !Objects.equals(type.copyChangeablePart.apply(entities.get(i)), changeableParts.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A list of an address book that is kept in shards, with how to turn a run of the list into a shard.
+     * The part of an entity that is changed in place is the list of ids of what a person owns, or the buyer of an
+     * order or the supplier of a pet, which is given the buyer or supplier that replaced its own.
+     */
+    private static class ShardType<T> {
+        private final String name;
+        private final Function<ReadOnlyAddressBook, List<T>> getList;
+        private final Function<T, Object> copyChangeablePart;
+        private final Function<List<T>, JsonSerializableAddressBook> toShard;
+
+        ShardType(String name, Function<ReadOnlyAddressBook, List<T>> getList, Function<T, Object> copyChangeablePart,
+                Function<List<T>, JsonSerializableAddressBook> toShard) {
+            this.name = name;
+            this.getList = getList;
+            this.copyChangeablePart = copyChangeablePart;
+            this.toShard = toShard;
+        }
+    }
+}
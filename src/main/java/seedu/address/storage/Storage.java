@@ -29,4 +29,15 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits until every save of the address book made so far has been written.
+     */
+    void flush();
+
+    /**
+     * Returns the error of a save of the address book that failed after it was made, if any, and forgets it.
+     * A storage that writes saves later reports their errors here instead of when the save is made.
+     */
+    Optional<IOException> takeSaveError();
+
 }
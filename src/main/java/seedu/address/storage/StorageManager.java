@@ -75,4 +75,29 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) throws IOException {
+        return addressBookStorage.prepareSave(addressBook);
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.trackAddressBook(addressBook);
+    }
+
+    /**
+     * Does nothing, as every save is written before {@link #saveAddressBook(ReadOnlyAddressBook)} returns.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Returns {@code Optional.empty()}, as the error of a save is thrown by the save itself.
+     */
+    @Override
+    public Optional<IOException> takeSaveError() {
+        return Optional.empty();
+    }
+
 }
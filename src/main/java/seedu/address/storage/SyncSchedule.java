@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Decides which of the writes of a storage are forced to the disk, following a {@link DurabilityPolicy}.
+ *
+ * Under {@link DurabilityPolicy#PERIODIC}, the files of a write that is not forced are forced later, once the
+ * interval since the last force has passed, so the last writes of a burst do not wait for another write to reach
+ * the disk. Those forces are made on a background thread shared by all schedules.
+ */
+class SyncSchedule {
+
+    private static final Logger logger = LogsCenter.getLogger(SyncSchedule.class);
+    private static final ScheduledExecutorService DEFERRED_SYNCER =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "data-file-syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final DurabilityPolicy policy;
+    private final LongSupplier nanoClock;
+    private final Scheduler scheduler;
+    private boolean hasSynced;
+    private long lastSyncNanos;
+    private final Set<Path> filesToSync = new LinkedHashSet<>();
+    private boolean isSyncScheduled;
+
+    SyncSchedule(DurabilityPolicy policy) {
+        this(policy, System::nanoTime);
+    }
+
+    /**
+     * Creates a {@code SyncSchedule} following {@code policy}, that tells the time with {@code nanoClock}.
+     */
+    SyncSchedule(DurabilityPolicy policy, LongSupplier nanoClock) {
+        this(policy, nanoClock,
+                (task, delayNanos) -> DEFERRED_SYNCER.schedule(task, delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Similar to {@link #SyncSchedule(DurabilityPolicy, LongSupplier)}.
+     *
+     * @param scheduler runs the forces of the writes that were not forced, after a delay.
+     */
+    SyncSchedule(DurabilityPolicy policy, LongSupplier nanoClock, Scheduler scheduler) {
+        requireNonNull(policy);
+        requireNonNull(nanoClock);
+        requireNonNull(scheduler);
+        this.policy = policy;
+        this.nanoClock = nanoClock;
+        this.scheduler = scheduler;
+    }
+
+    DurabilityPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns whether the write that is about to be made should be forced to the disk, and if so, counts it as
+     * forced.
+     */
+    synchronized boolean shouldSync() {
+        switch (policy) {
+        case ALWAYS:
+            return true;
+        case NEVER:
+            return false;
+        case PERIODIC:
+            long now = nanoClock.getAsLong();
+            if (hasSynced && now - lastSyncNanos < DurabilityPolicy.PERIODIC_SYNC_INTERVAL.toNanos()) {
+                return false;
+            }
+            hasSynced = true;
+            lastSyncNanos = now;
+            return true;
+        default:
+            throw new AssertionError("Unknown durability policy " + policy);
+        }
+    }
+
+    /**
+     * Forces {@code files}, which were just written without being forced as {@link #shouldSync()} said, to the disk
+     * once the interval since the last force has passed. Does nothing unless the policy is
+     * {@link DurabilityPolicy#PERIODIC}.
+     */
+    synchronized void syncLater(Collection<Path> files) {
+        requireNonNull(files);
+        if (policy != DurabilityPolicy.PERIODIC) {
+            return;
+        }
+        filesToSync.addAll(files);
+        if (isSyncScheduled) {
+            return;
+        }
+        isSyncScheduled = true;
+        long delayNanos = lastSyncNanos + DurabilityPolicy.PERIODIC_SYNC_INTERVAL.toNanos() - nanoClock.getAsLong();
+        scheduler.schedule(this::syncFiles, Math.max(delayNanos, 0));
+    }
+
+    /**
+     * Forces the files that were left to be forced later to the disk.
+     */
+    private void syncFiles() {
+        List<Path> files;
+        synchronized (this) {
+            files = new ArrayList<>(filesToSync);
+            filesToSync.clear();
+            isSyncScheduled = false;
+            hasSynced = true;
+            lastSyncNanos = nanoClock.getAsLong();
+        }
+        for (Path file : files) {
+            try {
+                FileUtil.forceToDisk(file);
+            } catch (IOException e) {
+                logger.warning("Failed to force " + file + " to the disk: " + e);
+            }
+        }
+    }
+
+    /**
+     * Runs a task after a delay.
+     */
+    @FunctionalInterface
+    interface Scheduler {
+        void schedule(Runnable task, long delayNanos);
+    }
+}
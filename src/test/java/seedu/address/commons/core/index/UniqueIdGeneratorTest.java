@@ -0,0 +1,86 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class UniqueIdGeneratorTest {
+
+    @Test
+    public void next_freshGenerator_followsBase26Order() {
+        UniqueIdGenerator generator = new UniqueIdGenerator();
+        assertEquals(new UniqueId("a"), generator.next());
+        for (int i = 1; i < 25; i++) {
+            generator.next();
+        }
+        assertEquals(new UniqueId("z"), generator.next());
+        assertEquals(new UniqueId("aa"), generator.next());
+        assertEquals(new UniqueId("ab"), generator.next());
+    }
+
+    @Test
+    public void toIdString_toValue_roundTrip() {
+        assertEquals("a", UniqueIdGenerator.toIdString(0));
+        assertEquals("z", UniqueIdGenerator.toIdString(25));
+        assertEquals("aa", UniqueIdGenerator.toIdString(26));
+        assertEquals("ba", UniqueIdGenerator.toIdString(52));
+        assertEquals("zz", UniqueIdGenerator.toIdString(701));
+        assertEquals("aaa", UniqueIdGenerator.toIdString(702));
+        for (long value = 0; value < 20000; value++) {
+            assertEquals(value, UniqueIdGenerator.toValue(UniqueIdGenerator.toIdString(value)));
+        }
+        assertThrows(IllegalArgumentException.class, () -> UniqueIdGenerator.toIdString(-1));
+    }
+
+    @Test
+    public void toValue_invalidId_returnsMinusOne() {
+        assertEquals(-1, UniqueIdGenerator.toValue(""));
+        assertEquals(-1, UniqueIdGenerator.toValue("A"));
+        assertEquals(-1, UniqueIdGenerator.toValue("a1"));
+        assertEquals(-1, UniqueIdGenerator.toValue("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"));
+    }
+
+    @Test
+    public void reserve_idAheadOfCounter_skipsReservedIds() {
+        UniqueIdGenerator generator = new UniqueIdGenerator();
+        generator.reserve(new UniqueId("c"));
+        assertEquals(new UniqueId("d"), generator.next());
+
+        // reserving an id that was already passed does not move the counter back
+        generator.reserve(new UniqueId("a"));
+        generator.reserve(new UniqueId("ID-1"));
+        assertEquals(new UniqueId("e"), generator.next());
+    }
+
+    @Test
+    public void next_concurrentCalls_returnsDistinctIds() throws Exception {
+        UniqueIdGenerator generator = new UniqueIdGenerator();
+        Set<UniqueId> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> futures = executor.invokeAll(List.of(() -> generate(generator, ids),
+                    () -> generate(generator, ids), () -> generate(generator, ids), () -> generate(generator, ids)));
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(40000, ids.size());
+    }
+
+    private static Object generate(UniqueIdGenerator generator, Set<UniqueId> ids) {
+        for (int i = 0; i < 10000; i++) {
+            ids.add(generator.next());
+        }
+        return null;
+    }
+}
@@ -1,14 +1,17 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +85,36 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void findDuplicates() {
+        // null collection or key mapper
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(null, Function.identity()));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(Collections.emptyList(), null));
+
+        // no duplicates
+        assertEquals(Collections.emptyList(),
+                CollectionUtil.findDuplicates(Arrays.asList("a", "b", "c"), Function.identity()));
+
+        // every clashing element is reported, in encounter order
+        assertEquals(Arrays.asList("b", "a", "b"),
+                CollectionUtil.findDuplicates(Arrays.asList("a", "b", "b", "a", "c", "b"), Function.identity()));
+
+        // duplicates are decided by the key, not by the element
+        assertEquals(Arrays.asList("B"),
+                CollectionUtil.findDuplicates(Arrays.asList("a", "b", "B"), String::toLowerCase));
+    }
+
+    @Test
+    public void findDuplicates_keyMapperAppliedOncePerElement() {
+        List<String> items = Arrays.asList("a", "b", "a", "c", "b");
+        List<String> mappedItems = new ArrayList<>();
+        assertEquals(Arrays.asList("a", "b"), CollectionUtil.findDuplicates(items, item -> {
+            mappedItems.add(item);
+            return item;
+        }));
+        assertEquals(items, mappedItems);
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,64 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_writerClosesStream_contentReplaced() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        FileUtil.writeAtomically(file, output -> {
+            output.write("new content".getBytes(StandardCharsets.UTF_8));
+            output.close();
+        }, true);
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("data.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, output -> {
+            output.write("half of the new".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }, false));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("data.txt" + FileUtil.TEMP_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void forceToDisk_fileOrNoFile_contentUnchanged() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "content");
+        FileUtil.forceToDisk(file);
+        assertEquals("content", FileUtil.readFromFile(file));
+
+        // A file deleted since it was written is skipped
+        FileUtil.forceToDisk(testFolder.resolve("deleted.txt"));
+        assertFalse(Files.exists(testFolder.resolve("deleted.txt")));
+    }
+
+    @Test
+    public void decompressIfCompressed_compressedOrNot_contentRead() throws Exception {
+        Path compressedFile = testFolder.resolve("data.txt.gz");
+        FileUtil.writeAtomically(compressedFile, FileUtil.compressing(output ->
+                output.write("some content".getBytes(StandardCharsets.UTF_8))), false);
+        assertTrue(FileUtil.isCompressedFile(compressedFile));
+        assertEquals("some content", readDecompressing(compressedFile));
+
+        Path plainFile = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(plainFile, "some content");
+        assertFalse(FileUtil.isCompressedFile(plainFile));
+        assertEquals("some content", readDecompressing(plainFile));
+    }
+
+    private static String readDecompressing(Path file) throws IOException {
+        try (InputStream input = FileUtil.decompressIfCompressed(Files.newInputStream(file))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
 }
@@ -93,6 +93,18 @@ public class JsonUtilTest {
         assertEquals(test.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_compact_writtenOnSingleLine() throws Exception {
+        SerializableTestClass s = new SerializableTestClass();
+        s.setTestValues();
+        JsonUtil.saveJsonFile(s, TEST_PATH, true);
+
+        assertEquals(JsonUtil.toCompactJsonString(s), FileUtil.readFromFile(TEST_PATH));
+        SerializableTestClass readBack = JsonUtil.readJsonFile(TEST_PATH, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+    }
+
     @Test
     public void jsonUtil_readFromNotExistFiles() {
         Path path = Paths.get(TestUtil.SANDBOX_FOLDER.toString(), "hahahahha");
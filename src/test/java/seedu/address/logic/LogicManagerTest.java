@@ -18,12 +18,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.index.UniqueId;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.addcommands.AddBuyerCommand;
 import seedu.address.logic.commands.addcommands.AddDelivererCommand;
 import seedu.address.logic.commands.addcommands.AddSupplierCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.listcommands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -33,6 +36,9 @@ import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Deliverer;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
+import seedu.address.storage.AddressBookSave;
+import seedu.address.storage.BackgroundSavingStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -134,6 +140,40 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_backgroundSaveFails_errorShownByLaterCommand() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        BackgroundSavingStorage storage =
+                new BackgroundSavingStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+        logic = new LogicManager(model, storage);
+
+        // The first command returns before its save fails
+        logic.execute(AddBuyerCommand.COMMAND_WORD + " " + PersonUtil.getAddCommandBody(TypicalBuyers.ALICE));
+        storage.flush();
+        CommandResult result = logic.execute(AddDelivererCommand.COMMAND_WORD + " "
+                + PersonUtil.getAddCommandBody(TypicalDeliverers.ALICE));
+        assertTrue(result.getFeedbackToUser().endsWith(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION));
+    }
+
+    @Test
+    public void execute_addressBookUnchanged_skipsSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD + " all");
+        assertEquals(1, logic.getSaveCount());
+
+        logic.execute(ListCommand.COMMAND_WORD + " all");
+        logic.execute(ListCommand.COMMAND_WORD + " buyer");
+        assertEquals(1, logic.getSaveCount());
+        assertEquals(2, logic.getSkippedSaveCount());
+
+        logic.execute(AddBuyerCommand.COMMAND_WORD + " " + PersonUtil.getAddCommandBody(TypicalBuyers.ALICE));
+        assertEquals(2, logic.getSaveCount());
+        assertEquals(model.getAddressBook(), new AddressBook(new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")).readAddressBook().get()));
+    }
+
     @Test
     public void getFilteredCurrList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCurrList().remove(0));
@@ -157,6 +197,51 @@ public class LogicManagerTest {
         assertEquals(Arrays.asList(firstOrder, secondOrder), logic.getOrderAsObservableListFromBuyer(buyer));
     }
 
+    @Test
+    public void executeGivenCommand_petForWatchedOrder_showsMatch() throws Exception {
+        Order order = new OrderBuilder().withBuyer(TypicalBuyers.ALICE).build();
+        model.addOrder(order);
+        model.watchOrder(order, Double.NEGATIVE_INFINITY);
+        Pet pet = new PetBuilder().withName("Watched").build();
+        Command addPet = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                model.addPet(pet);
+                return new CommandResult("Added");
+            }
+        };
+
+        CommandResult result = logic.executeGivenCommand(addPet);
+        String expectedMatch = String.format(LogicManager.MESSAGE_STANDING_ORDER_MATCH, pet.getName(),
+                new PetGrader(order).evaluate(pet), TypicalBuyers.ALICE.getName() + "'s order");
+        assertEquals("Added\n" + LogicManager.MESSAGE_STANDING_ORDER_MATCHES + "\n" + expectedMatch,
+                result.getFeedbackToUser());
+        assertEquals(new ArrayList<>(), model.takeStandingOrderMatches());
+    }
+
+    @Test
+    public void executeGivenCommand_commandFailsAfterAddingPet_dropsMatch() throws Exception {
+        Order order = new OrderBuilder().withBuyer(TypicalBuyers.ALICE).build();
+        model.addOrder(order);
+        model.watchOrder(order, Double.NEGATIVE_INFINITY);
+        Command failingAddPet = new Command() {
+            @Override
+            public CommandResult execute(Model model) throws CommandException {
+                model.addPet(new PetBuilder().withName("Watched").build());
+                throw new CommandException("Failed");
+            }
+        };
+        Command list = new Command() {
+            @Override
+            public CommandResult execute(Model model) {
+                return new CommandResult("Listed");
+            }
+        };
+
+        assertThrows(CommandException.class, "Failed", () -> logic.executeGivenCommand(failingAddPet));
+        assertEquals("Listed", logic.executeGivenCommand(list).getFeedbackToUser());
+    }
+
     @Test
     public void getOrderAsObservableListFromDeliverer() {
         Deliverer deliverer = new PersonBuilder().withName("Faith").buildDeliverer();
@@ -237,7 +322,7 @@ public class LogicManagerTest {
     }
 
     /**
-     * A stub class to throw an {@code IOException} when the save method is called.
+     * A stub class to throw an {@code IOException} when the save method is called, or a prepared save is written.
      */
     private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
         private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
@@ -248,5 +333,12 @@ public class LogicManagerTest {
         public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
+
+        @Override
+        public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) {
+            return new AddressBookSave(getAddressBookFilePath(), true, () -> {
+                throw DUMMY_IO_EXCEPTION;
+            });
+        }
     }
 }
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetAssigner;
+import seedu.address.testutil.TypicalOrders;
+import seedu.address.testutil.TypicalPets;
+
+public class MatchAllCommandTest {
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalPets.getTypicalPetsAddressBook(), new UserPrefs());
+        for (Order order : TypicalOrders.getTypicalOrders()) {
+            model.addOrder(order);
+        }
+    }
+
+    @Test
+    public void execute_twice_showsAssignedPets() throws CommandException {
+        int petCount = model.getAddressBook().getPetList().size();
+        CommandResult started = new MatchAllCommand().execute(model);
+        assertEquals(String.format(MatchAllCommand.MESSAGE_STARTED, 2, petCount), started.getFeedbackToUser());
+        assertTrue(model.getPetAssignment().isPresent());
+
+        model.getPetAssignment().get().join();
+        CommandResult finished = new MatchAllCommand().execute(model);
+        assertTrue(finished.getFeedbackToUser().startsWith(String.format(MatchAllCommand.MESSAGE_SUCCESS, 2)));
+        assertFalse(model.getPetAssignment().isPresent());
+
+        List<Order> pendingOrders = Arrays.asList(TypicalOrders.ORDER_1, TypicalOrders.ORDER_3);
+        Map<Order, Pet> expected = new PetAssigner(ForkJoinPool.commonPool())
+                .assign(pendingOrders, model.getAddressBook().getPetList());
+        assertEquals(new ArrayList<>(expected.values()), model.getFilteredCurrList());
+    }
+
+    @Test
+    public void execute_matchingNotDone_showsInProgress() throws CommandException {
+        model.setPetAssignment(new CompletableFuture<>());
+        assertEquals(MatchAllCommand.MESSAGE_IN_PROGRESS, new MatchAllCommand().execute(model).getFeedbackToUser());
+        assertTrue(model.getPetAssignment().isPresent());
+    }
+
+    @Test
+    public void execute_deletedPet_skipsAssignment() throws CommandException {
+        new MatchAllCommand().execute(model);
+        Map<Order, Pet> assignment = model.getPetAssignment().get().join();
+        Pet firstPet = assignment.values().iterator().next();
+        model.deletePet(firstPet);
+
+        CommandResult finished = new MatchAllCommand().execute(model);
+        assertTrue(finished.getFeedbackToUser().startsWith(String.format(MatchAllCommand.MESSAGE_SUCCESS,
+                assignment.size() - 1)));
+        assertFalse(model.getFilteredCurrList().contains(firstPet));
+    }
+
+    @Test
+    public void execute_matchingFailed_throwsCommandException() {
+        CompletableFuture<Map<Order, Pet>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("no pets"));
+        model.setPetAssignment(failed);
+        assertThrows(CommandException.class,
+                String.format(MatchAllCommand.MESSAGE_FAILURE, "no pets"), () -> new MatchAllCommand().execute(model));
+        assertFalse(model.getPetAssignment().isPresent());
+    }
+
+    @Test
+    public void equals() {
+        MatchAllCommand command = new MatchAllCommand();
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same type -> returns true
+        assertTrue(command.equals(new MatchAllCommand()));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+    }
+}
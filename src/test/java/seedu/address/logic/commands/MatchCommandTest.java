@@ -1,11 +1,13 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.order.Order;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
+import seedu.address.model.pet.PetMatcher;
 import seedu.address.testutil.TypicalOrders;
 import seedu.address.testutil.TypicalPets;
 
@@ -56,6 +61,24 @@ public class MatchCommandTest {
 
         // different indexes -> return false
         assertFalse(firstCommand.equals(secondCommand));
+
+        // different counts -> return false
+        assertFalse(firstCommand.equals(new MatchCommand(INDEX_FIRST, 10)));
+        assertTrue(new MatchCommand(INDEX_FIRST, 10).equals(new MatchCommand(INDEX_FIRST, 10)));
+    }
+
+    @Test
+    public void execute_withCount_showsBestMatchesWithoutReorderingPets() throws Exception {
+        model.switchToOrderList();
+        Order order = (Order) model.getFilteredCurrList().get(INDEX_FIRST.getZeroBased());
+        List<Pet> storedPets = new ArrayList<>(model.getFilteredPetList());
+        List<Pet> expectedMatches = new PetMatcher(new PetGrader(order)).findBestMatches(storedPets, 1);
+
+        CommandResult result = new MatchCommand(INDEX_FIRST, 1).execute(model);
+
+        assertEquals(String.format(MatchCommand.MESSAGE_BEST_MATCHES_SUCCESS, 1), result.getFeedbackToUser());
+        assertEquals(expectedMatches, model.getFilteredCurrList());
+        assertEquals(storedPets, model.getFilteredPetList());
     }
 
     @Test
@@ -0,0 +1,56 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.testutil.TypicalOrders;
+import seedu.address.testutil.TypicalPets;
+
+public class UnwatchCommandTest {
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalPets.getTypicalPetsAddressBook(), new UserPrefs());
+        for (Order order : TypicalOrders.getTypicalOrders()) {
+            model.addOrder(order);
+        }
+        model.switchToOrderList();
+    }
+
+    @Test
+    public void equals() {
+        UnwatchCommand firstCommand = new UnwatchCommand(INDEX_FIRST);
+        assertTrue(firstCommand.equals(firstCommand));
+        assertTrue(firstCommand.equals(new UnwatchCommand(INDEX_FIRST)));
+        assertFalse(firstCommand.equals(1));
+        assertFalse(firstCommand.equals(null));
+        assertFalse(firstCommand.equals(new UnwatchCommand(INDEX_SECOND)));
+    }
+
+    @Test
+    public void execute_watchedOrder_stopsWatching() throws Exception {
+        model.watchOrder(TypicalOrders.ORDER_1, 500);
+        CommandResult result = new UnwatchCommand(INDEX_FIRST).execute(model);
+        assertEquals(UnwatchCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertFalse(model.unwatchOrder(TypicalOrders.ORDER_1));
+    }
+
+    @Test
+    public void execute_orderNotWatched_throwsCommandException() {
+        assertThrows(CommandException.class, UnwatchCommand.MESSAGE_NOT_WATCHED, () ->
+                new UnwatchCommand(INDEX_FIRST).execute(model));
+    }
+}
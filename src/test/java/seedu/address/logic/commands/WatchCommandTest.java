@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.StandingOrderMatch;
+import seedu.address.model.pet.StandingOrderMatcher;
+import seedu.address.testutil.PetBuilder;
+import seedu.address.testutil.TypicalOrders;
+import seedu.address.testutil.TypicalPets;
+
+public class WatchCommandTest {
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(TypicalPets.getTypicalPetsAddressBook(), new UserPrefs());
+        for (Order order : TypicalOrders.getTypicalOrders()) {
+            model.addOrder(order);
+        }
+        model.switchToOrderList();
+    }
+
+    @Test
+    public void equals() {
+        WatchCommand firstCommand = new WatchCommand(INDEX_FIRST, 600);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same fields -> returns true
+        assertTrue(firstCommand.equals(new WatchCommand(INDEX_FIRST, 600)));
+
+        // different types -> return false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different indexes or scores -> return false
+        assertFalse(firstCommand.equals(new WatchCommand(INDEX_SECOND, 600)));
+        assertFalse(firstCommand.equals(new WatchCommand(INDEX_FIRST, 500)));
+    }
+
+    @Test
+    public void execute_pendingOrder_flagsPetsAddedLater() throws Exception {
+        CommandResult result = new WatchCommand(INDEX_FIRST, 500).execute(model);
+        assertEquals(String.format(WatchCommand.MESSAGE_SUCCESS, 500.0), result.getFeedbackToUser());
+
+        Pet pet = new PetBuilder().withName("Wanted").withSpecies("European shorthair").withPrice(300)
+                .withDateOfBirth(LocalDate.now().getYear() - 1, 1, 1).build();
+        model.addPet(pet);
+        List<StandingOrderMatch> matches = model.takeStandingOrderMatches();
+        assertEquals(1, matches.size());
+        assertEquals(TypicalOrders.ORDER_1, matches.get(0).getOrder());
+        assertEquals(pet, matches.get(0).getPet());
+        assertEquals(Collections.emptyList(), model.takeStandingOrderMatches());
+    }
+
+    @Test
+    public void execute_deliveringOrder_throwsCommandException() {
+        assertThrows(CommandException.class, StandingOrderMatcher.MESSAGE_CONSTRAINTS, () ->
+                new WatchCommand(INDEX_SECOND, 500).execute(model));
+    }
+
+    @Test
+    public void execute_largeIndex_throwsCommandException() {
+        WatchCommand command = new WatchCommand(Index.fromOneBased(Integer.MAX_VALUE), 500);
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+}
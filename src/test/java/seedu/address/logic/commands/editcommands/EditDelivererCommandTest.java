@@ -10,6 +10,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,8 @@ import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Deliverer;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
+import seedu.address.model.pet.StandingOrderMatch;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -410,6 +415,66 @@ public class EditDelivererCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void switchToMatchedPetList(List<Pet> matchedPets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPetAssignment(CompletableFuture<Map<Order, Pet>> petAssignment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<CompletableFuture<Map<Order, Pet>>> getPetAssignment() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Pet> findBestMatchingPets(PetGrader grader, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortPetsByMatch(PetGrader grader) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Order> findBestMatchingOrders(Pet pet, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void watchOrder(Order order, double minScore) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean unwatchOrder(Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<StandingOrderMatch> takeStandingOrderMatches() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
     }
 
     /**
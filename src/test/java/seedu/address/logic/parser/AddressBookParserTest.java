@@ -21,7 +21,10 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.MatchAllCommand;
 import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.UnwatchCommand;
+import seedu.address.logic.commands.WatchCommand;
 import seedu.address.logic.commands.addcommands.AddBuyerCommand;
 import seedu.address.logic.commands.addcommands.AddDelivererCommand;
 import seedu.address.logic.commands.addcommands.AddPetCommand;
@@ -317,6 +320,20 @@ public class AddressBookParserTest {
         assertEquals(result, expected);
     }
 
+    @Test
+    public void parseCommand_matchAllCommand() throws Exception {
+        assertTrue(parser.parseCommand(MatchAllCommand.COMMAND_WORD) instanceof MatchAllCommand);
+        assertTrue(parser.parseCommand(MatchAllCommand.COMMAND_WORD + " 3") instanceof MatchAllCommand);
+    }
+
+    @Test
+    public void parseCommand_watchAndUnwatchCommands() throws Exception {
+        assertEquals(new WatchCommand(INDEX_FIRST, 600),
+                parser.parseCommand(WatchCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased() + " 600"));
+        assertEquals(new UnwatchCommand(INDEX_FIRST),
+                parser.parseCommand(UnwatchCommand.COMMAND_WORD + " " + INDEX_FIRST.getOneBased()));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
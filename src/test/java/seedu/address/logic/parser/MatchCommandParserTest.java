@@ -55,4 +55,19 @@ public class MatchCommandParserTest {
         input = " " + Integer.MAX_VALUE;
         assertParseSuccess(parser, input, expectedCommand);
     }
+
+    @Test
+    public void parse_validIndexAndCount_parseSuccess() {
+        assertParseSuccess(parser, " 1 10", new MatchCommand(INDEX_FIRST, 10));
+        assertParseSuccess(parser, "  1   10  ", new MatchCommand(INDEX_FIRST, 10));
+    }
+
+    @Test
+    public void parse_invalidCount_parseFailure() {
+        String expected = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 1 0", expected);
+        assertParseFailure(parser, " 1 -5", expected);
+        assertParseFailure(parser, " 1 ten", expected);
+        assertParseFailure(parser, " 1 10 20", expected);
+    }
 }
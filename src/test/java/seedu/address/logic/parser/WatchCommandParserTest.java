@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_MISSING_INDEX;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.WatchCommand;
+
+public class WatchCommandParserTest {
+    private final WatchCommandParser parser = new WatchCommandParser();
+
+    @Test
+    public void parse_emptyString_parseFailure() {
+        String expected = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MESSAGE_MISSING_INDEX + WatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expected);
+    }
+
+    @Test
+    public void parse_invalidIndex_parseFailure() {
+        assertParseFailure(parser, " one 600", String.format(MESSAGE_INVALID_COMMAND_FORMAT, Index.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_parseSuccess() {
+        assertParseSuccess(parser, " 1 600", new WatchCommand(INDEX_FIRST, 600));
+        assertParseSuccess(parser, "  1   -12.5  ", new WatchCommand(INDEX_FIRST, -12.5));
+    }
+
+    @Test
+    public void parse_invalidMinScore_parseFailure() {
+        String expected = String.format(MESSAGE_INVALID_COMMAND_FORMAT, WatchCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 1", expected);
+        assertParseFailure(parser, " 1 high", expected);
+        assertParseFailure(parser, " 1 NaN", expected);
+        assertParseFailure(parser, " 1 600 700", expected);
+    }
+}
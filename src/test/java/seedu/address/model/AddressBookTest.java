@@ -10,30 +10,37 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderStatus;
 import seedu.address.model.order.Price;
+import seedu.address.model.order.PriceRange;
 import seedu.address.model.person.Buyer;
 import seedu.address.model.person.Deliverer;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.pet.Age;
 import seedu.address.model.pet.Color;
 import seedu.address.model.pet.ColorPattern;
 import seedu.address.model.pet.DateOfBirth;
 import seedu.address.model.pet.Height;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
 import seedu.address.model.pet.PetName;
 import seedu.address.model.pet.Species;
 import seedu.address.model.pet.VaccinationStatus;
 import seedu.address.model.pet.Weight;
 import seedu.address.testutil.OrderBuilder;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PetBuilder;
 import seedu.address.testutil.TypicalBuyers;
 import seedu.address.testutil.TypicalDeliverers;
 import seedu.address.testutil.TypicalOrders;
@@ -50,6 +57,25 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getDelivererList());
     }
 
+    @Test
+    public void getModificationCount_changesAndSorts_grows() {
+        long count = addressBook.getModificationCount();
+        addressBook.addBuyer(TypicalBuyers.ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.sortBuyer(Comparator.comparing(buyer -> buyer.getName().toString()));
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.hasBuyer(TypicalBuyers.ALICE);
+        addressBook.getBuyerList();
+        assertEquals(count, addressBook.getModificationCount());
+
+        addressBook.removeBuyer(TypicalBuyers.ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -226,6 +252,40 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getOrderList().remove(0));
     }
 
+    @Test
+    public void findBestMatchingOrders_manyOrders_sameAsScoringEveryOrder() {
+        String[] species = {"cat", "dog", "parakeet"};
+        String[] colors = {"green", "blue", "white"};
+        String[] statuses = {"Pending", "Negotiating", "Delivering"};
+        for (int i = 0; i < 90; i++) {
+            addressBook.addOrder(new OrderBuilder()
+                    .withRequestedPriceRange(i % 4 == 0 ? Price.NOT_APPLICABLE_PRICE : i % 9 * 10, i % 9 * 10 + 25)
+                    .withRequest(new Age(i % 4), new Color(colors[i % 3]), new ColorPattern("stripes"),
+                            new Species(species[i / 3 % 3]))
+                    .withStatus(statuses[i / 9 % 3])
+                    .build());
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Pet pet = new PetBuilder().withName("Pet" + i)
+                    .withSpecies(species[i % 3])
+                    .withColor(colors[i / 3 % 3])
+                    .withDateOfBirth(2018 + i % 5, 1, 1)
+                    .withPrice(i == 0 ? Price.NOT_APPLICABLE_PRICE : i * 7 % 100)
+                    .build();
+            List<Order> expected = addressBook.getOrderList().stream()
+                    .filter(order -> order.getOrderStatus() != OrderStatus.DELIVERING)
+                    .filter(order -> order.getRequest().getRequestedSpecies().equals(pet.getSpecies())
+                            || order.getRequest().getRequestedColor().equals(pet.getColor()))
+                    .filter(order -> order.getRequestedPriceRange().comparePrice(pet.getPrice())
+                            == PriceRange.WITHIN_RANGE)
+                    .sorted(Comparator.<Order>comparingDouble(order -> new PetGrader(order).evaluate(pet)).reversed())
+                    .limit(5)
+                    .collect(Collectors.toList());
+            assertEquals(expected, addressBook.findBestMatchingOrders(pet, 5));
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -262,6 +322,11 @@ public class AddressBookTest {
         public ObservableList<Pet> getPetList() {
             return pets;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,9 @@ import seedu.address.model.person.Deliverer;
 import seedu.address.model.person.Supplier;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.PetGrader;
+import seedu.address.model.pet.PetMatcher;
+import seedu.address.model.pet.exceptions.PetNotFoundException;
 import seedu.address.model.pet.predicates.PetNameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.OrderBuilder;
@@ -167,6 +171,103 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasOrder(TypicalOrders.ORDER_1));
     }
 
+    @Test
+    public void commitBatch_deletedPetsAndOrders_removedOnCommit() {
+        modelManager.addPet(TypicalPets.DOJA);
+        modelManager.addPet(TypicalPets.PLUM);
+        modelManager.addOrder(TypicalOrders.ORDER_1);
+        modelManager.beginBatch();
+        modelManager.deletePet(TypicalPets.DOJA);
+        modelManager.deletePet(TypicalPets.PLUM);
+        modelManager.deleteOrder(TypicalOrders.ORDER_1);
+        assertEquals(2, modelManager.getFilteredPetList().size());
+
+        modelManager.commitBatch();
+        assertEquals(0, modelManager.getFilteredPetList().size());
+        assertFalse(modelManager.hasOrder(TypicalOrders.ORDER_1));
+    }
+
+    @Test
+    public void rollbackBatch_afterDeletions_restoresAddressBook() {
+        modelManager.addBuyer(TypicalBuyers.ALICE);
+        modelManager.addPet(TypicalPets.DOJA);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+        modelManager.beginBatch();
+        modelManager.deleteBuyer(TypicalBuyers.ALICE);
+        modelManager.deletePet(TypicalPets.DOJA);
+
+        modelManager.rollbackBatch();
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void rollbackBatch_afterChangesInBatch_restoresPositions() {
+        modelManager.addBuyer(TypicalBuyers.ALICE);
+        modelManager.addBuyer(TypicalBuyers.BENSON);
+        modelManager.addPet(TypicalPets.DOJA);
+        modelManager.addPet(TypicalPets.PLUM);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+        modelManager.beginBatch();
+        modelManager.deleteBuyer(TypicalBuyers.ALICE);
+        modelManager.deletePet(TypicalPets.DOJA);
+        // adding a pet removes the pets deleted so far in the batch
+        modelManager.addPet(new PetBuilder().withName("Kiwi").build());
+
+        modelManager.rollbackBatch();
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void hasPet_petDeletedInBatch_returnsFalse() {
+        modelManager.addPet(TypicalPets.DOJA);
+        modelManager.addOrder(TypicalOrders.ORDER_1);
+        modelManager.beginBatch();
+        modelManager.deletePet(TypicalPets.DOJA);
+        modelManager.deleteOrder(TypicalOrders.ORDER_1);
+        assertFalse(modelManager.hasPet(TypicalPets.DOJA));
+        assertFalse(modelManager.hasOrder(TypicalOrders.ORDER_1));
+
+        modelManager.rollbackBatch();
+        assertTrue(modelManager.hasPet(TypicalPets.DOJA));
+        assertTrue(modelManager.hasOrder(TypicalOrders.ORDER_1));
+    }
+
+    @Test
+    public void hasPet_samePetWithOtherIdDeletedInBatch_returnsFalse() {
+        modelManager.addPet(TypicalPets.DOJA);
+        Pet samePet = new PetBuilder(TypicalPets.DOJA).build();
+        modelManager.beginBatch();
+        modelManager.deletePet(TypicalPets.DOJA);
+        assertFalse(modelManager.hasPet(samePet));
+
+        modelManager.rollbackBatch();
+        assertTrue(modelManager.hasPet(samePet));
+    }
+
+    @Test
+    public void commitBatch_petDoesNotExist_batchCanBeRolledBack() {
+        modelManager.addPet(TypicalPets.DOJA);
+        modelManager.beginBatch();
+        modelManager.deletePet(TypicalPets.DOJA);
+        modelManager.deletePet(TypicalPets.PLUM);
+        assertThrows(PetNotFoundException.class, () -> modelManager.commitBatch());
+
+        modelManager.rollbackBatch();
+        assertTrue(modelManager.hasPet(TypicalPets.DOJA));
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        modelManager.beginBatch();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginBatch());
+    }
+
+    @Test
+    public void commitBatch_noBatchInProgress_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitBatch());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackBatch());
+    }
+
     @Test
     public void getFilteredBuyerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager
@@ -335,6 +436,35 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasOrder(order));
     }
 
+    @Test
+    public void findBestMatchingPets_afterPetChanges_sameAsMatchingAgain() {
+        modelManager = new ModelManager(TypicalPets.getTypicalPetsAddressBook(), new UserPrefs());
+        PetGrader grader = new PetGrader(TypicalOrders.ORDER_1);
+        int limit = 3;
+        modelManager.findBestMatchingPets(grader, limit);
+
+        Pet addedPet = new PetBuilder(TypicalPets.DOJA).withName("Kitty")
+                .withSpecies(TypicalOrders.ORDER_1.getRequest().getRequestedSpecies().getValue()).build();
+        modelManager.addPet(addedPet);
+        assertSameAsMatchingAgain(grader, limit);
+
+        Pet firstPet = modelManager.getAddressBook().getPetList().get(0);
+        modelManager.setPet(firstPet, new PetBuilder(firstPet).withPrice(300).build());
+        assertSameAsMatchingAgain(grader, limit);
+
+        modelManager.deletePet(addedPet);
+        modelManager.sortPet(Comparator.comparing(pet -> pet.getName().toString()));
+        assertSameAsMatchingAgain(grader, limit);
+
+        modelManager.updateFilteredPetList(pet -> !pet.equals(firstPet));
+        assertSameAsMatchingAgain(grader, limit);
+    }
+
+    private void assertSameAsMatchingAgain(PetGrader grader, int limit) {
+        List<Pet> expected = new PetMatcher(grader).findBestMatches(modelManager.getFilteredPetList(), limit);
+        assertEquals(expected, modelManager.findBestMatchingPets(grader, limit));
+    }
+
     @Test
     public void equals_buyers_success() {
         AddressBook addressBook = new AddressBookBuilder().withBuyer(TypicalBuyers.ALICE)
@@ -1,9 +1,14 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DurabilityPolicy;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +23,35 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void resetData_compactAddressBookFile_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFileCompact(true);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isAddressBookFileCompact());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
+    @Test
+    public void resetData_addressBookFileDurability_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFileDurability(DurabilityPolicy.PERIODIC);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(DurabilityPolicy.PERIODIC, copy.getAddressBookFileDurability());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileDurability(null));
+    }
+
+    @Test
+    public void resetData_shardedAddressBookFile_copied() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFileSharded(true);
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertTrue(copy.isAddressBookFileSharded());
+        assertEquals(userPrefs, copy);
+        assertNotEquals(new UserPrefs(), copy);
+    }
+
 }
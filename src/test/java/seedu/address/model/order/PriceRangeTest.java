@@ -1,7 +1,9 @@
 package seedu.address.model.order;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -134,6 +136,17 @@ public class PriceRangeTest {
         assertNotEquals(firstPriceRange, secondPriceRange);
     }
 
+    @Test
+    public void isValidPriceRange() {
+        assertTrue(PriceRange.isValidPriceRange(new Price(19.5), new Price(79.5)));
+        assertTrue(PriceRange.isValidPriceRange(new Price(19.5), new Price(19.5)));
+        assertTrue(PriceRange.isValidPriceRange(new Price(19.5), Price.getNotApplicablePrice()));
+        assertTrue(PriceRange.isValidPriceRange(Price.getNotApplicablePrice(), new Price(19.5)));
+        assertTrue(PriceRange.isValidPriceRange(Price.getNotApplicablePrice(), Price.getNotApplicablePrice()));
+
+        assertFalse(PriceRange.isValidPriceRange(new Price(79.5), new Price(19.5)));
+    }
+
     @Test
     public void comparePrice_closedRangeAndMiddlePrice_withinRange() {
         Price upperBound = new Price(79.5);
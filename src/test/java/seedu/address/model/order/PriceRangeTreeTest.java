@@ -0,0 +1,116 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.OrderBuilder;
+
+public class PriceRangeTreeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PriceRangeTree(null));
+    }
+
+    @Test
+    public void forEachAccepting_randomRanges_sameAsComparePrice() {
+        Random random = new Random(13);
+        List<PriceRangeTree.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            entries.add(randomEntry(random, i));
+        }
+        PriceRangeTree tree = new PriceRangeTree(entries);
+
+        assertAcceptingAllPrices(new HashSet<>(entries), tree);
+    }
+
+    @Test
+    public void forEachAccepting_afterAddsAndRemoves_sameAsComparePrice() {
+        Random random = new Random(17);
+        List<PriceRangeTree.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            entries.add(randomEntry(random, i));
+        }
+        PriceRangeTree tree = new PriceRangeTree(entries);
+        Set<PriceRangeTree.Entry> expected = new HashSet<>(entries);
+
+        for (int i = 50; i < 400; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                PriceRangeTree.Entry removed = expected.iterator().next();
+                expected.remove(removed);
+                tree.remove(removed);
+            } else {
+                PriceRangeTree.Entry added = randomEntry(random, i);
+                expected.add(added);
+                tree.add(added);
+            }
+            if (i % 25 == 0) {
+                assertAcceptingAllPrices(expected, tree);
+            }
+        }
+        assertAcceptingAllPrices(expected, tree);
+    }
+
+    @Test
+    public void forEachAccepting_noOrders_acceptsNothing() {
+        PriceRangeTree tree = new PriceRangeTree();
+        List<PriceRangeTree.Entry> accepting = new ArrayList<>();
+        tree.forEachAccepting(new Price(10), accepting::add);
+        tree.forEachAccepting(Price.getNotApplicablePrice(), accepting::add);
+        assertEquals(new ArrayList<>(), accepting);
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void constructor_invertedRanges_builds() {
+        List<PriceRangeTree.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            entries.add(new PriceRangeTree.Entry(buildOrder(i + 5, i), i));
+        }
+        PriceRangeTree tree = new PriceRangeTree(entries);
+        List<PriceRangeTree.Entry> accepting = new ArrayList<>();
+        tree.forEachAccepting(Price.getNotApplicablePrice(), accepting::add);
+        assertEquals(entries.size(), accepting.size());
+    }
+
+    private static PriceRangeTree.Entry randomEntry(Random random, long rank) {
+        double lowerBound = random.nextInt(5) == 0 ? Price.NOT_APPLICABLE_PRICE : random.nextInt(50);
+        double upperBound = random.nextInt(5) == 0
+                ? Price.NOT_APPLICABLE_PRICE
+                : Math.max(lowerBound, 0) + random.nextInt(30);
+        return new PriceRangeTree.Entry(buildOrder(lowerBound, upperBound), rank);
+    }
+
+    private static Order buildOrder(double lowerBound, double upperBound) {
+        return new OrderBuilder().withRequestedPriceRange(lowerBound, upperBound).build();
+    }
+
+    private static void assertAcceptingAllPrices(Set<PriceRangeTree.Entry> entries, PriceRangeTree tree) {
+        for (double price = -0.5; price <= 90; price += 0.5) {
+            assertAccepting(entries, tree, new Price(price));
+        }
+        assertAccepting(entries, tree, Price.getNotApplicablePrice());
+    }
+
+    private static void assertAccepting(Set<PriceRangeTree.Entry> entries, PriceRangeTree tree, Price price) {
+        Set<PriceRangeTree.Entry> expected = new HashSet<>();
+        for (PriceRangeTree.Entry entry : entries) {
+            if (entry.getOrder().getRequestedPriceRange().comparePrice(price) == PriceRange.WITHIN_RANGE) {
+                expected.add(entry);
+            }
+        }
+        List<PriceRangeTree.Entry> accepting = new ArrayList<>();
+        tree.forEachAccepting(price, accepting::add);
+        assertEquals(expected, new HashSet<>(accepting));
+        assertEquals(expected.size(), accepting.size());
+    }
+}
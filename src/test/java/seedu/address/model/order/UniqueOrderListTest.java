@@ -7,12 +7,21 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.UniqueId;
 import seedu.address.model.order.exceptions.DuplicateOrderException;
 import seedu.address.model.order.exceptions.OrderNotFoundException;
+import seedu.address.model.pet.Age;
+import seedu.address.model.pet.Color;
+import seedu.address.model.pet.ColorPattern;
+import seedu.address.model.pet.Pet;
+import seedu.address.model.pet.Species;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
 import seedu.address.testutil.TypicalOrders;
 
 public class UniqueOrderListTest {
@@ -114,6 +123,38 @@ public class UniqueOrderListTest {
         assertEquals(expectedUniqueOrderList, uniqueOrderList);
     }
 
+    @Test
+    public void removeAll_existingOrders_removesOrders() {
+        uniqueOrderList.add(TypicalOrders.ORDER_1);
+        uniqueOrderList.add(TypicalOrders.ORDER_2);
+        uniqueOrderList.removeAll(Arrays.asList(TypicalOrders.ORDER_2, TypicalOrders.ORDER_1));
+        assertEquals(new UniqueOrderList(), uniqueOrderList);
+        assertFalse(uniqueOrderList.contains(TypicalOrders.ORDER_1));
+    }
+
+    @Test
+    public void removeAll_orderDoesNotExist_listUnchanged() {
+        uniqueOrderList.add(TypicalOrders.ORDER_1);
+        assertThrows(OrderNotFoundException.class, () -> uniqueOrderList
+                .removeAll(Arrays.asList(TypicalOrders.ORDER_1, TypicalOrders.ORDER_2)));
+        assertTrue(uniqueOrderList.contains(TypicalOrders.ORDER_1));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniqueOrderList.add(TypicalOrders.ORDER_1);
+        uniqueOrderList.remove(TypicalOrders.ORDER_1);
+        assertFalse(uniqueOrderList.contains(TypicalOrders.ORDER_1));
+    }
+
+    @Test
+    public void contains_afterSetOrders_tracksReplacementList() {
+        uniqueOrderList.add(TypicalOrders.ORDER_1);
+        uniqueOrderList.setOrders(Collections.singletonList(TypicalOrders.ORDER_2));
+        assertFalse(uniqueOrderList.contains(TypicalOrders.ORDER_1));
+        assertTrue(uniqueOrderList.contains(TypicalOrders.ORDER_2));
+    }
+
     @Test
     public void setOrder_nullUniqueOrderList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueOrderList.setOrders((UniqueOrderList) null));
@@ -149,10 +190,85 @@ public class UniqueOrderListTest {
         assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.setOrders(listWithDuplicateOrders));
     }
 
+    @Test
+    public void getOrdersFromId_idsInDifferentOrder_returnsOrdersInIdOrder() {
+        uniqueOrderList.add(TypicalOrders.ORDER_1);
+        uniqueOrderList.add(TypicalOrders.ORDER_2);
+        List<UniqueId> ids = Arrays.asList(TypicalOrders.ORDER_2.getId(), TypicalOrders.ORDER_1.getId());
+        assertEquals(Arrays.asList(TypicalOrders.ORDER_2, TypicalOrders.ORDER_1), uniqueOrderList.getOrdersFromId(ids));
+    }
+
+    @Test
+    public void getOrdersFromId_missingId_skipsIt() {
+        uniqueOrderList.add(TypicalOrders.ORDER_1);
+        List<UniqueId> ids = Arrays.asList(TypicalOrders.ORDER_2.getId(), TypicalOrders.ORDER_1.getId());
+        assertEquals(Collections.singletonList(TypicalOrders.ORDER_1), uniqueOrderList.getOrdersFromId(ids));
+    }
+
+    @Test
+    public void getOpenOrdersFor_afterChanges_tracksOrders() {
+        Order capybaraOrder = buildOrder("capybara", "brown", 10, 20, "Pending");
+        Order goldOrder = buildOrder("quokka", "gold", Price.NOT_APPLICABLE_PRICE, 15, "Negotiating");
+        Order expensiveOrder = buildOrder("capybara", "gold", 30, Price.NOT_APPLICABLE_PRICE, "Pending");
+        Order deliveringOrder = buildOrder("capybara", "gold", 10, 20, "Delivering");
+        Order otherOrder = buildOrder("quokka", "brown", 10, 20, "Pending");
+        uniqueOrderList.setOrders(Arrays.asList(capybaraOrder, goldOrder, expensiveOrder, deliveringOrder,
+                otherOrder));
+        Pet pet = new PetBuilder().withSpecies("capybara").withColor("gold").withPrice(12).build();
+
+        assertEquals(Arrays.asList(capybaraOrder, goldOrder), uniqueOrderList.getOpenOrdersFor(pet));
+
+        uniqueOrderList.remove(capybaraOrder);
+        uniqueOrderList.add(capybaraOrder);
+        assertEquals(Arrays.asList(goldOrder, capybaraOrder), uniqueOrderList.getOpenOrdersFor(pet));
+
+        Order editedOrder = buildOrder("capybara", "brown", 5, 11, "Pending");
+        uniqueOrderList.setOrder(goldOrder, editedOrder);
+        assertEquals(Collections.singletonList(capybaraOrder), uniqueOrderList.getOpenOrdersFor(pet));
+
+        Pet unpricedPet = new PetBuilder().withSpecies("capybara").withColor("gold")
+                .withPrice(Price.NOT_APPLICABLE_PRICE).build();
+        assertEquals(Arrays.asList(editedOrder, expensiveOrder, capybaraOrder),
+                uniqueOrderList.getOpenOrdersFor(unpricedPet));
+    }
+
+    @Test
+    public void getOpenOrdersFor_afterReordering_followsListOrder() {
+        Order firstOrder = buildOrder("capybara", "brown", 10, 20, "Pending");
+        Order secondOrder = buildOrder("capybara", "brown", 5, 15, "Negotiating");
+        Order thirdOrder = buildOrder("quokka", "gold", 0, 30, "Pending");
+        Pet pet = new PetBuilder().withSpecies("capybara").withColor("gold").withPrice(12).build();
+        uniqueOrderList.add(firstOrder);
+        uniqueOrderList.add(secondOrder);
+        assertEquals(Arrays.asList(firstOrder, secondOrder), uniqueOrderList.getOpenOrdersFor(pet));
+
+        uniqueOrderList.add(thirdOrder);
+        uniqueOrderList.removeAll(Collections.singletonList(secondOrder));
+        assertEquals(Arrays.asList(firstOrder, thirdOrder), uniqueOrderList.getOpenOrdersFor(pet));
+
+        uniqueOrderList.add(0, secondOrder);
+        assertEquals(Arrays.asList(secondOrder, firstOrder, thirdOrder), uniqueOrderList.getOpenOrdersFor(pet));
+
+        uniqueOrderList.sort(Comparator.comparing(order -> order.getRequest().getRequestedSpecies().getValue(),
+                Comparator.reverseOrder()));
+        assertEquals(Arrays.asList(thirdOrder, secondOrder, firstOrder), uniqueOrderList.getOpenOrdersFor(pet));
+
+        uniqueOrderList.remove(secondOrder);
+        uniqueOrderList.add(secondOrder);
+        assertEquals(Arrays.asList(thirdOrder, firstOrder, secondOrder), uniqueOrderList.getOpenOrdersFor(pet));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
                 -> uniqueOrderList.asUnmodifiableObservableList().remove(0));
     }
 
+    private static Order buildOrder(String species, String color, double lowerBound, double upperBound,
+            String status) {
+        return new OrderBuilder().withRequestedPriceRange(lowerBound, upperBound)
+                .withRequest(new Age(1), new Color(color), new ColorPattern("stripes"), new Species(species))
+                .withStatus(status)
+                .build();
+    }
 }
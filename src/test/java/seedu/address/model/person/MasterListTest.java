@@ -1,12 +1,17 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -14,22 +19,61 @@ import seedu.address.testutil.TypicalBuyers;
 
 public class MasterListTest {
     private Model bModel = new ModelManager(TypicalBuyers.getTypicalBuyerAddressBook(), new UserPrefs());
-    private Model bExpectedModel = new ModelManager(TypicalBuyers.getTypicalBuyerAddressBook(), new UserPrefs());
 
     @Test
-    public void clear() {
-        MasterList masterList = new MasterList();
-        masterList.addAll(new FilteredList<>(bModel.getFilteredBuyerList()));
-        masterList.clear();
-        assertEquals(masterList.getMasterList().size(), 0);
-        assertEquals(masterList.getMasterList(), new ArrayList<Object>());
+    public void getMasterList_singleSource_sameAsSource() {
+        MasterList masterList = new MasterList(bModel.getFilteredBuyerList());
+        assertEquals(masterList.getMasterList().size(), bModel.getFilteredBuyerList().size());
+        assertEquals(masterList.getMasterList(), bModel.getFilteredBuyerList());
     }
 
     @Test
-    public void addAll() {
-        MasterList masterList = new MasterList();
-        masterList.addAll(new FilteredList<>(bModel.getFilteredBuyerList()));
-        assertEquals(masterList.getMasterList().size(), bModel.getFilteredBuyerList().size());
-        assertEquals(masterList.getMasterList(), bModel.getFilteredBuyerList());
+    public void getMasterList_severalSources_concatenatesInOrder() {
+        ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+        ObservableList<String> second = FXCollections.observableArrayList();
+        ObservableList<String> third = FXCollections.observableArrayList("c");
+        MasterList masterList = new MasterList(first, second, third);
+        assertEquals(Arrays.asList("a", "b", "c"), masterList.getMasterList());
+    }
+
+    @Test
+    public void getMasterList_sourceChanged_updatesLiveWithShiftedIndices() {
+        ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+        ObservableList<String> second = FXCollections.observableArrayList("c", "d");
+        MasterList masterList = new MasterList(first, second);
+        List<Integer> addedAt = new ArrayList<>();
+        List<Integer> removedAt = new ArrayList<>();
+        masterList.getMasterList().addListener((ListChangeListener<Object>) change -> {
+            while (change.next()) {
+                if (change.wasAdded()) {
+                    addedAt.add(change.getFrom());
+                }
+                if (change.wasRemoved()) {
+                    removedAt.add(change.getFrom());
+                }
+            }
+        });
+
+        second.add(1, "x");
+        assertEquals(Arrays.asList("a", "b", "c", "x", "d"), masterList.getMasterList());
+        assertEquals(Arrays.asList(3), addedAt);
+
+        first.remove("a");
+        assertEquals(Arrays.asList("b", "c", "x", "d"), masterList.getMasterList());
+        assertEquals(Arrays.asList(0), removedAt);
+    }
+
+    @Test
+    public void getMasterList_modifyList_throwsUnsupportedOperationException() {
+        MasterList masterList = new MasterList(FXCollections.observableArrayList("a"));
+        assertThrows(UnsupportedOperationException.class, () -> masterList.getMasterList().add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> masterList.getMasterList().remove(0));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        MasterList masterList = new MasterList(FXCollections.observableArrayList("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> masterList.getMasterList().get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> masterList.getMasterList().get(-1));
     }
 }
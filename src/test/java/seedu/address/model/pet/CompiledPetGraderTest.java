@@ -0,0 +1,80 @@
+package seedu.address.model.pet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Price;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
+
+public class CompiledPetGraderTest {
+
+    private static final String[] COLORS = {"green", "blue", "white"};
+    private static final String[] SPECIES = {"cat", "dog", "parakeet", "hamster"};
+    private static final double NA = Price.NOT_APPLICABLE_PRICE;
+
+    @Test
+    public void evaluate_anyPriceRange_sameAsPetGrader() {
+        double[][] priceRanges = {{10, 50}, {NA, 50}, {10, NA}, {NA, NA}, {30, 30}};
+        for (double[] priceRange : priceRanges) {
+            Order order = new OrderBuilder().withRequestedPriceRange(priceRange[0], priceRange[1])
+                    .withRequest(new Age(2), new Color("green"), new ColorPattern("stripes"), new Species("cat"))
+                    .build();
+            assertSameScores(new PetGrader(order));
+            assertSameScores(new PetGrader(order, 1, 2, 3, 4, 5));
+        }
+    }
+
+    @Test
+    public void evaluate_equalValuesFromDifferentStrings_sameAsPetGrader() {
+        Order order = new OrderBuilder().withRequestedPriceRange(10, 50)
+                .withRequest(new Age(2), new Color(new String("green")), new ColorPattern(new String("stripes")),
+                        new Species(new String("cat")))
+                .build();
+        Pet pet = new PetBuilder().withColor(new String("green")).withColorPattern(new String("stripes"))
+                .withSpecies(new String("cat")).build();
+        PetGrader grader = new PetGrader(order);
+        assertEquals(grader.evaluate(pet), grader.compile().evaluate(pet));
+    }
+
+    @Test
+    public void evaluate_givenDate_agesPetsOnThatDate() {
+        Order order = new OrderBuilder().withRequestedPriceRange(10, 50)
+                .withRequest(new Age(2), new Color("green"), new ColorPattern("stripes"), new Species("cat"))
+                .build();
+        PetGrader grader = new PetGrader(order, 1, 0, 0, 0, 0);
+        Pet pet = new PetBuilder().withDateOfBirth(2020, 6, 1).withPrice(20).build();
+
+        // 2 years old on the given date -> full age score
+        assertEquals(1.0, grader.compile(LocalDate.of(2022, 1, 1)).evaluate(pet));
+        // 5 years old on the given date -> three years away from the requested age
+        assertEquals(-2.0, grader.compile(LocalDate.of(2025, 12, 31)).evaluate(pet));
+    }
+
+    private static void assertSameScores(PetGrader grader) {
+        CompiledPetGrader compiledGrader = grader.compile();
+        for (Pet pet : getPets()) {
+            assertEquals(grader.evaluate(pet), compiledGrader.evaluate(pet));
+        }
+    }
+
+    private static List<Pet> getPets() {
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            pets.add(new PetBuilder().withName("Pet" + i)
+                    .withColor(COLORS[i % COLORS.length])
+                    .withColorPattern(i % 2 == 0 ? "stripes" : "dots")
+                    .withSpecies(SPECIES[i % SPECIES.length])
+                    .withDateOfBirth(2015 + i % 8, 1 + i % 12, 1 + i % 28)
+                    .withPrice(i % 10 == 0 ? NA : i * 7 % 90)
+                    .build());
+        }
+        return pets;
+    }
+}
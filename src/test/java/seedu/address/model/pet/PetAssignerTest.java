@@ -0,0 +1,120 @@
+package seedu.address.model.pet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
+
+public class PetAssignerTest {
+
+    private static final String[] COLORS = {"green", "blue", "white"};
+    private static final String[] SPECIES = {"cat", "dog", "parakeet", "hamster"};
+
+    private final PetAssigner assigner = new PetAssigner(ForkJoinPool.commonPool());
+
+    @Test
+    public void constructor_nullPool_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PetAssigner(null));
+    }
+
+    @Test
+    public void assign_morePetsThanOrders_sameAsGreedyOverAllPairs() {
+        List<Order> orders = getOrders(30);
+        List<Pet> pets = getPets(60);
+        Map<Order, Pet> assignment = assigner.assign(orders, pets);
+
+        assertEquals(greedyOverAllPairs(orders, pets), assignment);
+        assertEquals(orders, new ArrayList<>(assignment.keySet()));
+        assertEquals(orders.size(), new HashSet<>(assignment.values()).size());
+    }
+
+    @Test
+    public void assign_fewerPetsThanOrders_everyPetAssignedOnce() {
+        List<Order> orders = getOrders(40);
+        List<Pet> pets = getPets(15);
+        Map<Order, Pet> assignment = assigner.assign(orders, pets);
+
+        assertEquals(greedyOverAllPairs(orders, pets), assignment);
+        assertEquals(new HashSet<>(pets), new HashSet<>(assignment.values()));
+    }
+
+    @Test
+    public void assign_noOrdersOrNoPets_returnsEmptyMap() {
+        assertEquals(Collections.emptyMap(), assigner.assign(new ArrayList<>(), getPets(5)));
+        assertEquals(Collections.emptyMap(), assigner.assign(getOrders(5), new ArrayList<>()));
+    }
+
+    /**
+     * Assigns pets by scoring every pair of an order and a pet, and taking the best remaining pair each time.
+     */
+    private static Map<Order, Pet> greedyOverAllPairs(List<Order> orders, List<Pet> pets) {
+        Map<Order, Pet> assignment = new LinkedHashMap<>();
+        Set<Pet> assignedPets = new HashSet<>();
+        while (assignment.size() < Math.min(orders.size(), pets.size())) {
+            Order bestOrder = null;
+            Pet bestPet = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Order order : orders) {
+                if (assignment.containsKey(order)) {
+                    continue;
+                }
+                PetGrader grader = new PetGrader(order);
+                for (Pet pet : pets) {
+                    double score = grader.evaluate(pet);
+                    if (!assignedPets.contains(pet) && score > bestScore) {
+                        bestOrder = order;
+                        bestPet = pet;
+                        bestScore = score;
+                    }
+                }
+            }
+            assignment.put(bestOrder, bestPet);
+            assignedPets.add(bestPet);
+        }
+
+        Map<Order, Pet> orderedAssignment = new LinkedHashMap<>();
+        for (Order order : orders) {
+            if (assignment.containsKey(order)) {
+                orderedAssignment.put(order, assignment.get(order));
+            }
+        }
+        return orderedAssignment;
+    }
+
+    private static List<Order> getOrders(int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(new OrderBuilder().withRequestedPriceRange(i % 7 * 10, i % 7 * 10 + 25)
+                    .withRequest(new Age(i % 4), new Color(COLORS[i % COLORS.length]), new ColorPattern("stripes"),
+                            new Species(SPECIES[i % SPECIES.length]))
+                    .build());
+        }
+        return orders;
+    }
+
+    private static List<Pet> getPets(int count) {
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            pets.add(new PetBuilder().withName("Pet" + i)
+                    .withColor(COLORS[i * 7 % COLORS.length])
+                    .withSpecies(SPECIES[i * 5 % SPECIES.length])
+                    .withDateOfBirth(2018 + i % 5, 1 + i % 12, 1 + i % 28)
+                    .withPrice(i * 13 % 90)
+                    .build());
+        }
+        return pets;
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.pet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
+
+/**
+ * Compares the time taken to score many pets with {@link PetGrader#evaluate(Pet)} and with a
+ * {@link CompiledPetGrader}.
+ *
+ * Run with {@code gradlew graderBenchmark}, optionally passing the number of pets with {@code --args="200000"}.
+ */
+public class PetGraderBenchmark {
+
+    private static final String[] COLORS = {"green", "blue", "white", "black", "brown"};
+    private static final String[] PATTERNS = {"stripes", "dots", "none"};
+    private static final String[] SPECIES = {"cat", "dog", "parakeet", "hamster", "rabbit", "turtle"};
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 9;
+
+    /**
+     * Runs the benchmark and prints the median time of each grader.
+     */
+    public static void main(String[] args) {
+        int petCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        List<Pet> pets = createPets(petCount);
+        Order order = new OrderBuilder().withRequestedPriceRange(10, 50)
+                .withRequest(new Age(1), new Color("green"), new ColorPattern("stripes"), new Species("cat")).build();
+        PetGrader grader = new PetGrader(order);
+
+        System.out.printf("Scoring %d pets%n", petCount);
+        double expected = sum(pets, grader::evaluate);
+        double evaluateMillis = measure(pets, grader::evaluate, expected);
+        System.out.printf("%-10s %10.2f ms%n", "evaluate", evaluateMillis);
+        // The grader is compiled once per run, as it is when matching, so compiling is part of the time measured.
+        double compiledMillis = measureCompiled(pets, grader, expected);
+        System.out.printf("%-10s %10.2f ms  speedup %.2fx%n", "compiled", compiledMillis,
+                evaluateMillis / compiledMillis);
+    }
+
+    private static double measureCompiled(List<Pet> pets, PetGrader grader, double expected) {
+        return median(() -> {
+            CompiledPetGrader compiledGrader = grader.compile();
+            return sum(pets, compiledGrader::evaluate);
+        }, expected);
+    }
+
+    private static double measure(List<Pet> pets, ToDoubleFunction<Pet> score, double expected) {
+        return median(() -> sum(pets, score), expected);
+    }
+
+    /**
+     * Returns the median time in milliseconds taken by {@code run}, checking that it sums up to {@code expected}.
+     */
+    private static double median(DoubleSupplier run, double expected) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            run.getAsDouble();
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            double result = run.getAsDouble();
+            millis[i] = (System.nanoTime() - start) / 1e6;
+            if (result != expected) {
+                throw new AssertionError("The compiled grader gave different scores from evaluate.");
+            }
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+    private static double sum(List<Pet> pets, ToDoubleFunction<Pet> score) {
+        double sum = 0;
+        for (Pet pet : pets) {
+            sum += score.applyAsDouble(pet);
+        }
+        return sum;
+    }
+
+    private static List<Pet> createPets(int count) {
+        List<Pet> pets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pets.add(new PetBuilder().withName("Pet" + i)
+                    .withColor(COLORS[i % COLORS.length])
+                    .withColorPattern(PATTERNS[i % PATTERNS.length])
+                    .withSpecies(SPECIES[i % SPECIES.length])
+                    .withDateOfBirth(2015 + i % 8, 1 + i % 12, 1 + i % 28)
+                    .withPrice(i % 97)
+                    .build());
+        }
+        return pets;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.pet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
+
+/**
+ * Measures how matching scales with the number of threads, comparing {@code PetMatcher} on one thread with
+ * {@code PetMatcher} on fork/join pools of increasing size, and with matching through the indexes of a
+ * {@code UniquePetList}, both right after the indexes are built and right after a pet was edited.
+ *
+ * Run with {@code gradlew matchBenchmark}, optionally passing the number of pets and the number of best matches
+ * with {@code --args="200000 50"}.
+ */
+public class PetMatcherBenchmark {
+
+    private static final String[] COLORS = {"green", "blue", "white", "black", "brown"};
+    private static final String[] PATTERNS = {"stripes", "dots", "none"};
+    private static final String[] SPECIES = {"cat", "dog", "parakeet", "hamster", "rabbit", "turtle"};
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+
+    /**
+     * Runs the benchmark and prints the median time of each configuration.
+     */
+    public static void main(String[] args) {
+        int petCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int limit = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        List<Pet> pets = createPets(petCount);
+        Order order = new OrderBuilder().withRequestedPriceRange(10, 50)
+                .withRequest(new Age(1), new Color("green"), new ColorPattern("stripes"), new Species("cat")).build();
+        PetMatcher matcher = new PetMatcher(new PetGrader(order));
+
+        System.out.printf("Matching the best %d of %d pets (%d processors available)%n",
+                limit, petCount, Runtime.getRuntime().availableProcessors());
+        List<Pet> expected = matcher.findBestMatches(pets, limit);
+        double sequentialMillis = measure(() -> matcher.findBestMatches(pets, limit), expected);
+        System.out.printf("%-12s %10.2f ms%n", "sequential", sequentialMillis);
+
+        UniquePetList uniquePetList = new UniquePetList();
+        uniquePetList.setPets(pets);
+        double indexedMillis = measure(() -> matcher.findBestMatches(uniquePetList, unused -> true, limit), expected);
+        System.out.printf("%-12s %10.2f ms  speedup %.2fx%n", "indexed", indexedMillis,
+                sequentialMillis / indexedMillis);
+
+        // Moving the first pet out of the list and back in before each match shifts every indexed position twice,
+        // which is the most that a change of one pet costs the indexes.
+        Pet firstPet = pets.get(0);
+        double editedMillis = measure(() -> {
+            uniquePetList.remove(firstPet);
+            uniquePetList.add(0, firstPet);
+            return matcher.findBestMatches(uniquePetList, unused -> true, limit);
+        }, expected);
+        System.out.printf("%-12s %10.2f ms  speedup %.2fx  (including the edit)%n", "edit+indexed", editedMillis,
+                sequentialMillis / editedMillis);
+
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                double millis = measure(() -> matcher.findBestMatches(pets, limit, pool,
+                        PetMatcher.DEFAULT_CHUNK_SIZE), expected);
+                System.out.printf("%-12s %10.2f ms  speedup %.2fx%n", threads + " thread(s)", millis,
+                        sequentialMillis / millis);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the median time in milliseconds taken by {@code match}, checking that it finds {@code expected}.
+     */
+    private static double measure(Supplier<List<Pet>> match, List<Pet> expected) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            match.get();
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            List<Pet> result = match.get();
+            millis[i] = (System.nanoTime() - start) / 1e6;
+            if (!result.equals(expected)) {
+                throw new AssertionError("Parallel matching gave a different ranking from sequential matching.");
+            }
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+    private static List<Pet> createPets(int count) {
+        List<Pet> pets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pets.add(new PetBuilder().withName("Pet" + i)
+                    .withColor(COLORS[i % COLORS.length])
+                    .withColorPattern(PATTERNS[i % PATTERNS.length])
+                    .withSpecies(SPECIES[i % SPECIES.length])
+                    .withDateOfBirth(2015 + i % 8, 1 + i % 12, 1 + i % 28)
+                    .withPrice(i % 97)
+                    .build());
+        }
+        return pets;
+    }
+}
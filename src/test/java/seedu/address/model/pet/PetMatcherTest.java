@@ -0,0 +1,134 @@
+package seedu.address.model.pet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
+
+public class PetMatcherTest {
+
+    private static final String[] COLORS = {"green", "blue", "white"};
+    private static final String[] SPECIES = {"cat", "dog", "parakeet", "hamster"};
+
+    private final Order order = new OrderBuilder().withRequestedPriceRange(10, 50)
+            .withRequest(new Age(1), new Color("green"), new ColorPattern("stripes"), new Species("cat")).build();
+    private final PetGrader grader = new PetGrader(order);
+    private final PetMatcher matcher = new PetMatcher(grader);
+
+    @Test
+    public void constructor_nullGrader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PetMatcher(null));
+    }
+
+    @Test
+    public void findBestMatches_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> matcher.findBestMatches(getPets(), 0));
+    }
+
+    @Test
+    public void findBestMatches_anyLimit_sameAsSortingAllPets() {
+        List<Pet> pets = getPets();
+        List<Pet> sortedPets = new ArrayList<>(pets);
+        sortedPets.sort(Comparator.comparingDouble(grader::evaluate).reversed());
+
+        for (int limit : new int[] {1, 5, 37, pets.size(), pets.size() + 10}) {
+            List<Pet> expected = sortedPets.subList(0, Math.min(limit, pets.size()));
+            assertEquals(expected, matcher.findBestMatches(pets, limit));
+        }
+    }
+
+    @Test
+    public void findBestMatches_inParallel_sameAsSequential() {
+        List<Pet> pets = getPets();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[] {1, 7, 50, pets.size()}) {
+                for (int limit : new int[] {1, 10, pets.size()}) {
+                    assertEquals(matcher.findBestMatches(pets, limit),
+                            matcher.findBestMatches(pets, limit, pool, chunkSize));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> matcher.findBestMatches(pets, 10,
+                ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    public void findBestMatches_withIndexes_sameAsFullScan() {
+        List<Pet> pets = getPets();
+        UniquePetList uniquePetList = new UniquePetList();
+        uniquePetList.setPets(pets);
+        Predicate<Pet> isCheap = pet -> pet.getPrice().getPrice() < 40;
+
+        List<PetGrader> graders = new ArrayList<>();
+        for (int i = 0; i < SPECIES.length; i++) {
+            Order order = new OrderBuilder().withRequestedPriceRange(10 * i, 10 * i + 30)
+                    .withRequest(new Age(i), new Color(COLORS[i % COLORS.length]), new ColorPattern("stripes"),
+                            new Species(SPECIES[i])).build();
+            graders.add(new PetGrader(order));
+            graders.add(new PetGrader(order, 1, 600, 0, 2, 50));
+            graders.add(new PetGrader(order, -5, 100, 100, 500, 5));
+        }
+
+        for (PetGrader petGrader : graders) {
+            PetMatcher petMatcher = new PetMatcher(petGrader);
+            for (int limit : new int[] {1, 3, 30, pets.size() + 1}) {
+                assertEquals(petMatcher.findBestMatches(pets, limit),
+                        petMatcher.findBestMatches(uniquePetList, unused -> true, limit));
+                assertEquals(petMatcher.findBestMatches(pets.stream().filter(isCheap).collect(Collectors.toList()),
+                        limit), petMatcher.findBestMatches(uniquePetList, isCheap, limit));
+            }
+        }
+    }
+
+    @Test
+    public void findBestMatches_withIndexesAfterSort_sameAsFullScan() {
+        UniquePetList uniquePetList = new UniquePetList();
+        uniquePetList.setPets(getPets());
+        uniquePetList.sort(Comparator.comparing(pet -> pet.getName().toString(), Comparator.reverseOrder()));
+        List<Pet> sortedPets = new ArrayList<>(uniquePetList.asUnmodifiableObservableList());
+
+        assertEquals(matcher.findBestMatches(sortedPets, 10), matcher.findBestMatches(uniquePetList,
+                unused -> true, 10));
+    }
+
+    @Test
+    public void findBestMatches_equalScores_keepsListOrder() {
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pets.add(new PetBuilder().withName("Pet" + (char) ('a' + i)).build());
+        }
+        assertEquals(pets.subList(0, 4), matcher.findBestMatches(pets, 4));
+    }
+
+    @Test
+    public void findBestMatches_emptyList_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), matcher.findBestMatches(new ArrayList<>(), 10));
+    }
+
+    private static List<Pet> getPets() {
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            pets.add(new PetBuilder().withName("Pet" + (char) ('a' + i % 26) + (char) ('a' + i / 26))
+                    .withColor(COLORS[i % COLORS.length])
+                    .withSpecies(SPECIES[i % SPECIES.length])
+                    .withPrice(i % 17 * 5)
+                    .build());
+        }
+        return pets;
+    }
+}
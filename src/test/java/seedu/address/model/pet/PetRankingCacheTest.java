@@ -0,0 +1,97 @@
+package seedu.address.model.pet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Order;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
+
+public class PetRankingCacheTest {
+
+    private final Order firstOrder = new OrderBuilder().withRequestedPriceRange(10, 50)
+            .withRequest(new Age(1), new Color("green"), new ColorPattern("stripes"), new Species("cat")).build();
+    private final Order secondOrder = new OrderBuilder().withRequestedPriceRange(20, 80)
+            .withRequest(new Age(2), new Color("blue"), new ColorPattern("dots"), new Species("dog")).build();
+    private final List<Pet> pets = getPets(10);
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PetRankingCache(-1));
+    }
+
+    @Test
+    public void getRanking_sameOrderAndWeights_returnsKeptRanking() {
+        PetRankingCache cache = new PetRankingCache(100);
+        PetRanking ranking = cache.getRanking(new PetGrader(firstOrder), pets).get();
+        assertSame(ranking, cache.getRanking(new PetGrader(firstOrder), pets).get());
+        assertNotSame(ranking, cache.getRanking(new PetGrader(firstOrder, 1, 2, 3, 4, 5), pets).get());
+        assertEquals(2 * pets.size(), cache.getRankedPetCount());
+    }
+
+    @Test
+    public void getRanking_tooManyPets_returnsEmpty() {
+        PetRankingCache cache = new PetRankingCache(pets.size() - 1);
+        assertTrue(cache.getRanking(new PetGrader(firstOrder), pets).isEmpty());
+        assertEquals(0, cache.getRankedPetCount());
+    }
+
+    @Test
+    public void getRanking_overBudget_dropsLeastRecentlyUsed() {
+        PetRankingCache cache = new PetRankingCache(2 * pets.size());
+        PetRanking firstRanking = cache.getRanking(new PetGrader(firstOrder), pets).get();
+        PetRanking secondRanking = cache.getRanking(new PetGrader(secondOrder), pets).get();
+        assertSame(firstRanking, cache.getRanking(new PetGrader(firstOrder), pets).get());
+
+        // the second ranking was used least recently, so it is dropped when a pet is added
+        Pet addedPet = new PetBuilder().withName("Added").build();
+        pets.add(addedPet);
+        cache.addPet(addedPet);
+        assertEquals(pets.size(), cache.getRankedPetCount());
+        assertSame(firstRanking, cache.getRanking(new PetGrader(firstOrder), pets).get());
+        assertNotSame(secondRanking, cache.getRanking(new PetGrader(secondOrder), pets).get());
+    }
+
+    @Test
+    public void setOrder_differentRequest_dropsRanking() {
+        PetRankingCache cache = new PetRankingCache(100);
+        PetRanking ranking = cache.getRanking(new PetGrader(firstOrder), pets).get();
+
+        cache.setOrder(firstOrder, firstOrder);
+        assertSame(ranking, cache.getRanking(new PetGrader(firstOrder), pets).get());
+
+        Order editedOrder = new OrderBuilder(firstOrder).withRequestedPriceRange(10, 60).build();
+        cache.setOrder(firstOrder, editedOrder);
+        assertEquals(0, cache.getRankedPetCount());
+    }
+
+    @Test
+    public void removePetAndOrder_rankedPetCountUpdated() {
+        PetRankingCache cache = new PetRankingCache(100);
+        cache.getRanking(new PetGrader(firstOrder), pets);
+        cache.getRanking(new PetGrader(secondOrder), pets);
+
+        cache.removePet(pets.get(0));
+        assertEquals(2 * (pets.size() - 1), cache.getRankedPetCount());
+        cache.removeOrder(secondOrder);
+        assertEquals(pets.size() - 1, cache.getRankedPetCount());
+        cache.clear();
+        assertEquals(0, cache.getRankedPetCount());
+    }
+
+    private static List<Pet> getPets(int count) {
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            pets.add(new PetBuilder().withName("Pet" + i).withPrice(i * 10).build());
+        }
+        return pets;
+    }
+}
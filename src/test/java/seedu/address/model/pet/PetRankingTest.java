@@ -0,0 +1,101 @@
+package seedu.address.model.pet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Order;
+import seedu.address.model.pet.exceptions.PetNotFoundException;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PetBuilder;
+
+public class PetRankingTest {
+
+    private static final String[] COLORS = {"green", "blue", "white"};
+    private static final String[] SPECIES = {"cat", "dog", "parakeet", "hamster"};
+
+    private final Order order = new OrderBuilder().withRequestedPriceRange(10, 50)
+            .withRequest(new Age(1), new Color("green"), new ColorPattern("stripes"), new Species("cat")).build();
+    private final PetGrader grader = new PetGrader(order);
+
+    @Test
+    public void getBestMatches_newRanking_sameAsPetMatcher() {
+        List<Pet> pets = getPets(80);
+        PetRanking ranking = new PetRanking(grader.compile(), pets);
+        assertSameAsPetMatcher(pets, ranking);
+        assertEquals(pets.size(), ranking.size());
+    }
+
+    @Test
+    public void getBestMatches_afterAddSetAndRemove_sameAsPetMatcher() {
+        List<Pet> pets = getPets(80);
+        PetRanking ranking = new PetRanking(grader.compile(), pets);
+
+        Pet addedPet = new PetBuilder().withName("Added").withColor("green").withSpecies("cat").withPrice(20).build();
+        pets.add(addedPet);
+        ranking.add(addedPet);
+        assertSameAsPetMatcher(pets, ranking);
+
+        Pet editedPet = new PetBuilder(pets.get(3)).withSpecies("cat").withColor("green").build();
+        ranking.set(pets.get(3), editedPet);
+        pets.set(3, editedPet);
+        assertSameAsPetMatcher(pets, ranking);
+
+        ranking.remove(pets.get(10));
+        pets.remove(10);
+        ranking.remove(addedPet);
+        pets.remove(addedPet);
+        assertSameAsPetMatcher(pets, ranking);
+        assertThrows(PetNotFoundException.class, () -> ranking.remove(addedPet));
+    }
+
+    @Test
+    public void getBestMatches_afterReorder_sameAsPetMatcher() {
+        List<Pet> pets = getPets(80);
+        PetRanking ranking = new PetRanking(grader.compile(), pets);
+
+        pets.sort(Comparator.comparing(pet -> pet.getName().toString(), Comparator.reverseOrder()));
+        ranking.reorder(pets);
+        assertSameAsPetMatcher(pets, ranking);
+        assertThrows(IllegalArgumentException.class, () -> ranking.reorder(pets.subList(0, 5)));
+    }
+
+    @Test
+    public void getScore_rankedPet_returnsScore() {
+        List<Pet> pets = getPets(10);
+        PetRanking ranking = new PetRanking(grader.compile(), pets);
+        for (Pet pet : pets) {
+            assertEquals(grader.evaluate(pet), ranking.getScore(pet));
+        }
+        assertThrows(PetNotFoundException.class, () -> ranking.getScore(new PetBuilder().withName("Other").build()));
+    }
+
+    private void assertSameAsPetMatcher(List<Pet> pets, PetRanking ranking) {
+        PetMatcher matcher = new PetMatcher(grader);
+        Predicate<Pet> isCheap = pet -> pet.getPrice().getPrice() < 40;
+        for (int limit : new int[] {1, 7, pets.size() + 1}) {
+            assertEquals(matcher.findBestMatches(pets, limit), ranking.getBestMatches(limit, unused -> true));
+            assertEquals(matcher.findBestMatches(pets.stream().filter(isCheap).collect(Collectors.toList()), limit),
+                    ranking.getBestMatches(limit, isCheap));
+        }
+    }
+
+    private static List<Pet> getPets(int count) {
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            pets.add(new PetBuilder().withName("Pet" + i)
+                    .withColor(COLORS[i % COLORS.length])
+                    .withSpecies(SPECIES[i % SPECIES.length])
+                    .withPrice(i % 17 * 5)
+                    .build());
+        }
+        return pets;
+    }
+}
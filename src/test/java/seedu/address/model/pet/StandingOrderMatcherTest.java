@@ -0,0 +1,156 @@
+package seedu.address.model.pet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderStatus;
+import seedu.address.model.order.Price;
+import seedu.address.model.order.UniqueOrderList;
+import seedu.address.testutil.PetBuilder;
+import seedu.address.testutil.TypicalOrders;
+
+public class StandingOrderMatcherTest {
+
+    // A pet of the requested species and age, within the price range but of other colors, scores 535.
+    private static final double MIN_SCORE = 500;
+
+    private final UniquePetList pets = new UniquePetList();
+    private final UniqueOrderList orders = new UniqueOrderList();
+    private StandingOrderMatcher matcher;
+
+    @BeforeEach
+    public void setUp() {
+        orders.setOrders(TypicalOrders.getTypicalOrders());
+        matcher = new StandingOrderMatcher(pets.asUnmodifiableObservableList(), orders.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StandingOrderMatcher(null,
+                orders.asUnmodifiableObservableList()));
+        assertThrows(NullPointerException.class, () -> new StandingOrderMatcher(pets.asUnmodifiableObservableList(),
+                null));
+    }
+
+    @Test
+    public void watch_orderNotOpen_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, StandingOrderMatcher.MESSAGE_CONSTRAINTS, () ->
+                matcher.watch(TypicalOrders.ORDER_2, MIN_SCORE));
+    }
+
+    @Test
+    public void addPet_scoresEnough_flagsPet() {
+        matcher.watch(TypicalOrders.ORDER_1, MIN_SCORE);
+        Pet wantedPet = buildPet("Wanted", "European shorthair", 300);
+        Pet otherPet = buildPet("Other", "Corgi", 300);
+        pets.add(wantedPet);
+        pets.add(otherPet);
+
+        List<StandingOrderMatch> matches = matcher.takeNewMatches();
+        assertEquals(1, matches.size());
+        assertEquals(TypicalOrders.ORDER_1, matches.get(0).getOrder());
+        assertEquals(wantedPet, matches.get(0).getPet());
+        assertEquals(new PetGrader(TypicalOrders.ORDER_1).evaluate(wantedPet), matches.get(0).getScore());
+        assertEquals(Collections.emptyList(), matcher.takeNewMatches());
+    }
+
+    @Test
+    public void setPet_scoreRisesAboveMinScore_flagsPetOnce() {
+        Pet pet = buildPet("Pricey", "European shorthair", 10_000);
+        pets.add(pet);
+        matcher.watch(TypicalOrders.ORDER_1, MIN_SCORE);
+
+        Pet repricedPet = withPrice(pet, 300);
+        pets.setPet(pet, repricedPet);
+        List<StandingOrderMatch> matches = matcher.takeNewMatches();
+        assertEquals(1, matches.size());
+        assertEquals(repricedPet, matches.get(0).getPet());
+
+        Pet repricedAgain = withPrice(repricedPet, 350);
+        pets.setPet(repricedPet, repricedAgain);
+        assertEquals(Collections.emptyList(), matcher.takeNewMatches());
+    }
+
+    @Test
+    public void sortOrRemovePets_flagsNothing() {
+        pets.setPets(Arrays.asList(buildPet("A", "European shorthair", 300), buildPet("B", "Calico", 500)));
+        matcher.watch(TypicalOrders.ORDER_1, MIN_SCORE);
+        matcher.watch(TypicalOrders.ORDER_3, MIN_SCORE);
+
+        pets.sort(Comparator.comparing(pet -> pet.getName().toString()));
+        pets.sort(Comparator.comparing(pet -> pet.getName().toString(), Comparator.reverseOrder()));
+        pets.remove(pets.asUnmodifiableObservableList().get(0));
+        assertEquals(Collections.emptyList(), matcher.takeNewMatches());
+    }
+
+    @Test
+    public void runWithoutMatching_replacePets_flagsNothing() {
+        matcher.watch(TypicalOrders.ORDER_1, MIN_SCORE);
+        matcher.runWithoutMatching(() -> pets.setPets(
+                Collections.singletonList(buildPet("Wanted", "European shorthair", 300))));
+        assertEquals(Collections.emptyList(), matcher.takeNewMatches());
+
+        pets.add(buildPet("Later", "European shorthair", 300));
+        assertEquals(1, matcher.takeNewMatches().size());
+    }
+
+    @Test
+    public void orderChanges_updateStandingOrders() {
+        matcher.watch(TypicalOrders.ORDER_1, MIN_SCORE);
+        matcher.watch(TypicalOrders.ORDER_3, MIN_SCORE);
+
+        orders.remove(TypicalOrders.ORDER_1);
+        assertFalse(matcher.isWatching(TypicalOrders.ORDER_1));
+
+        Order order = TypicalOrders.ORDER_3;
+        Order editedOrder = new Order(order.getBuyer(), order.getRequestedPriceRange(), order.getRequest(),
+                order.getAdditionalRequests(), order.getByDate(), new Price(600), order.getOrderStatus(),
+                order.getId());
+        orders.setOrder(order, editedOrder);
+        assertTrue(matcher.isWatching(editedOrder));
+
+        Order deliveringOrder = new Order(order.getBuyer(), order.getRequestedPriceRange(), order.getRequest(),
+                order.getAdditionalRequests(), order.getByDate(), new Price(600), OrderStatus.DELIVERING,
+                order.getId());
+        orders.setOrder(editedOrder, deliveringOrder);
+        assertFalse(matcher.isWatching(deliveringOrder));
+
+        pets.add(buildPet("Wanted", "European shorthair", 300));
+        pets.add(buildPet("Calico", "Calico", 500));
+        assertEquals(Collections.emptyList(), matcher.takeNewMatches());
+    }
+
+    @Test
+    public void unwatch_standingOrder_stopsFlagging() {
+        matcher.watch(TypicalOrders.ORDER_1, MIN_SCORE);
+        assertTrue(matcher.isWatching(TypicalOrders.ORDER_1));
+        assertTrue(matcher.unwatch(TypicalOrders.ORDER_1));
+        assertFalse(matcher.unwatch(TypicalOrders.ORDER_1));
+
+        pets.add(buildPet("Wanted", "European shorthair", 300));
+        assertEquals(Collections.emptyList(), matcher.takeNewMatches());
+    }
+
+    private static Pet buildPet(String name, String species, double price) {
+        return new PetBuilder().withName(name).withSpecies(species).withPrice(price)
+                .withDateOfBirth(LocalDate.now().getYear() - 1, 1, 1).build();
+    }
+
+    private static Pet withPrice(Pet pet, double price) {
+        return new Pet(pet.getId(), pet.getName(), pet.getSupplier(), pet.getColor(), pet.getColorPattern(),
+                pet.getDateOfBirth(), pet.getSpecies(), pet.getWeight(), pet.getHeight(), pet.getVaccinationStatus(),
+                new Price(price), pet.getCertificates());
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.pet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.pet.exceptions.DuplicatePetException;
+import seedu.address.testutil.PetBuilder;
+
+/**
+ * Measures how replacing the pets of a {@code UniquePetList} at once with {@link UniquePetList#setPets(List)}
+ * scales with the number of pets, both when the pets are accepted and when every thousandth pet is repeated at the
+ * end of the list and all of the repeats are reported. The time per pet should stay about the same as the list
+ * grows, since the duplicates are found by hashing each pet once.
+ *
+ * Run with {@code gradlew setPetsBenchmark}, optionally passing the largest number of pets with
+ * {@code --args="1000000"}. The lists grow tenfold from a thousand pets up to that number.
+ */
+public class UniquePetListBenchmark {
+
+    private static final String[] COLORS = {"green", "blue", "white", "black", "brown"};
+    private static final String[] PATTERNS = {"stripes", "dots", "none"};
+    private static final String[] SPECIES = {"cat", "dog", "parakeet", "hamster", "rabbit", "turtle"};
+    private static final int MIN_PET_COUNT = 1_000;
+    private static final int DUPLICATE_SPACING = 1_000;
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 7;
+
+    /**
+     * Runs the benchmark and prints the median time for each number of pets.
+     */
+    public static void main(String[] args) {
+        int maxPetCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        List<Pet> allPets = createPets(maxPetCount);
+        System.out.printf("%10s %14s %12s %14s %12s%n", "pets", "accepted", "per pet", "rejected", "per pet");
+        for (int petCount = MIN_PET_COUNT; petCount <= maxPetCount; petCount *= 10) {
+            List<Pet> pets = allPets.subList(0, petCount);
+            List<Pet> petsWithDuplicates = new ArrayList<>(pets);
+            for (int i = 0; i < petCount; i += DUPLICATE_SPACING) {
+                petsWithDuplicates.add(pets.get(i));
+            }
+
+            double acceptedMillis = measure(pets, 0);
+            double rejectedMillis = measure(petsWithDuplicates, petsWithDuplicates.size() - petCount);
+            System.out.printf("%10d %11.2f ms %9.1f ns %11.2f ms %9.1f ns%n", petCount,
+                    acceptedMillis, acceptedMillis * 1e6 / petCount,
+                    rejectedMillis, rejectedMillis * 1e6 / petsWithDuplicates.size());
+        }
+    }
+
+    /**
+     * Returns the median time in milliseconds taken to set {@code pets} as the pets of a new list, checking that
+     * exactly {@code expectedDuplicates} of them are reported as duplicates.
+     */
+    private static double measure(List<Pet> pets, int expectedDuplicates) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            setPets(pets, expectedDuplicates);
+        }
+        double[] millis = new double[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            setPets(pets, expectedDuplicates);
+            millis[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(millis);
+        return millis[MEASURED_RUNS / 2];
+    }
+
+    private static void setPets(List<Pet> pets, int expectedDuplicates) {
+        int duplicateCount = 0;
+        try {
+            new UniquePetList().setPets(pets);
+        } catch (DuplicatePetException e) {
+            duplicateCount = e.getDuplicates().size();
+        }
+        if (duplicateCount != expectedDuplicates) {
+            throw new AssertionError(String.format("Expected %d duplicate pets but %d were reported.",
+                    expectedDuplicates, duplicateCount));
+        }
+    }
+
+    private static List<Pet> createPets(int count) {
+        List<Pet> pets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            pets.add(new PetBuilder().withName("Pet" + i)
+                    .withColor(COLORS[i % COLORS.length])
+                    .withColorPattern(PATTERNS[i % PATTERNS.length])
+                    .withSpecies(SPECIES[i % SPECIES.length])
+                    .withDateOfBirth(2015 + i % 8, 1 + i % 12, 1 + i % 28)
+                    .withPrice(i % 97)
+                    .build());
+        }
+        return pets;
+    }
+}
@@ -1,18 +1,23 @@
 package seedu.address.model.pet;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.UniqueId;
 import seedu.address.model.pet.exceptions.DuplicatePetException;
 import seedu.address.model.pet.exceptions.PetNotFoundException;
+import seedu.address.testutil.PetBuilder;
 import seedu.address.testutil.TypicalPets;
 
 public class UniquePetListTest {
@@ -34,6 +39,13 @@ public class UniquePetListTest {
         assertTrue(uniquePetList.contains(TypicalPets.DOJA));
     }
 
+    @Test
+    public void getSamePet_petWithSameIdentityInList_returnsPetInList() {
+        uniquePetList.add(TypicalPets.DOJA);
+        assertSame(TypicalPets.DOJA, uniquePetList.getSamePet(new PetBuilder(TypicalPets.DOJA).build()).get());
+        assertFalse(uniquePetList.getSamePet(TypicalPets.PLUM).isPresent());
+    }
+
     //    @Test
     //    public void contains_petWithSameIdentityFieldsInList_returnsTrue() {
     //        uniquePetList.add(TypicalPets.DOJA);
@@ -124,6 +136,78 @@ public class UniquePetListTest {
         assertEquals(expectedUniquePetList, uniquePetList);
     }
 
+    @Test
+    public void removeAll_existingPets_removesPets() {
+        uniquePetList.add(TypicalPets.DOJA);
+        uniquePetList.add(TypicalPets.PLUM);
+        uniquePetList.removeAll(Arrays.asList(TypicalPets.PLUM, TypicalPets.DOJA));
+        assertEquals(new UniquePetList(), uniquePetList);
+        assertFalse(uniquePetList.contains(TypicalPets.DOJA));
+    }
+
+    @Test
+    public void removeAll_petDoesNotExist_listUnchanged() {
+        uniquePetList.add(TypicalPets.DOJA);
+        assertThrows(PetNotFoundException.class, () -> uniquePetList
+                .removeAll(Arrays.asList(TypicalPets.DOJA, TypicalPets.PLUM)));
+        assertTrue(uniquePetList.contains(TypicalPets.DOJA));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePetList.add(TypicalPets.DOJA);
+        uniquePetList.remove(TypicalPets.DOJA);
+        assertFalse(uniquePetList.contains(TypicalPets.DOJA));
+    }
+
+    @Test
+    public void contains_afterSortAndSetPet_tracksEditedPet() {
+        uniquePetList.add(TypicalPets.DOJA);
+        uniquePetList.add(TypicalPets.PLUM);
+        uniquePetList.sort(Pet::compareTo);
+        uniquePetList.remove(TypicalPets.PLUM);
+        uniquePetList.setPet(TypicalPets.DOJA, TypicalPets.PLUM);
+        assertFalse(uniquePetList.contains(TypicalPets.DOJA));
+        assertTrue(uniquePetList.contains(TypicalPets.PLUM));
+    }
+
+    @Test
+    public void getPositionsWithSpecies_afterChanges_tracksPositions() {
+        Pet dojaAsCapybara = new PetBuilder(TypicalPets.DOJA).withSpecies("capybara").build();
+        String plumColor = TypicalPets.PLUM.getColor().getValue();
+        uniquePetList.add(TypicalPets.DOJA);
+        uniquePetList.add(TypicalPets.PLUM);
+        assertArrayEquals(new int[] {1}, toArray(uniquePetList.getPositionsWithColor(plumColor)));
+
+        uniquePetList.remove(TypicalPets.DOJA);
+        assertArrayEquals(new int[] {0}, toArray(uniquePetList.getPositionsWithColor(plumColor)));
+
+        uniquePetList.add(TypicalPets.DOJA);
+        uniquePetList.setPet(TypicalPets.DOJA, dojaAsCapybara);
+        assertArrayEquals(new int[] {1}, toArray(uniquePetList.getPositionsWithSpecies("capybara")));
+
+        uniquePetList.sort(Comparator.comparing(pet -> pet.getName().toString()));
+        assertArrayEquals(new int[] {0}, toArray(uniquePetList.getPositionsWithSpecies("capybara")));
+        assertArrayEquals(new int[] {1}, toArray(uniquePetList.getPositionsWithColorPattern(
+                TypicalPets.PLUM.getColorPattern().getValue())));
+
+        uniquePetList.removeAll(Arrays.asList(dojaAsCapybara, TypicalPets.PLUM));
+        assertArrayEquals(new int[0], toArray(uniquePetList.getPositionsWithSpecies("capybara")));
+    }
+
+    @Test
+    public void getPositionsWithColor_afterInsertAndRemoveInMiddle_shiftsLaterPositions() {
+        Pet kiwi = new PetBuilder(TypicalPets.PLUM).withName("Kiwi").build();
+        String plumColor = TypicalPets.PLUM.getColor().getValue();
+        uniquePetList.add(TypicalPets.DOJA);
+        uniquePetList.add(TypicalPets.PLUM);
+        uniquePetList.add(0, kiwi);
+        assertArrayEquals(new int[] {0, 2}, toArray(uniquePetList.getPositionsWithColor(plumColor)));
+
+        uniquePetList.remove(TypicalPets.DOJA);
+        assertArrayEquals(new int[] {0, 1}, toArray(uniquePetList.getPositionsWithColor(plumColor)));
+    }
+
     @Test
     public void setPet_nullUniquePetList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePetList.setPets((UniquePetList) null));
@@ -159,10 +243,43 @@ public class UniquePetListTest {
         assertThrows(DuplicatePetException.class, () -> uniquePetList.setPets(listWithDuplicatePets));
     }
 
+    @Test
+    public void setPets_listWithSeveralDuplicatePets_reportsAllDuplicates() {
+        List<Pet> listWithDuplicatePets = Arrays.asList(TypicalPets.DOJA, TypicalPets.PLUM, TypicalPets.DOJA,
+                TypicalPets.PLUM);
+        String expectedMessage = new DuplicatePetException(Arrays.asList(TypicalPets.DOJA, TypicalPets.PLUM))
+                .getMessage();
+        assertThrows(DuplicatePetException.class, expectedMessage, () -> uniquePetList.setPets(listWithDuplicatePets));
+        assertTrue(uniquePetList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void getPetsFromId_idsInDifferentOrder_returnsPetsInIdOrder() {
+        uniquePetList.add(TypicalPets.DOJA);
+        uniquePetList.add(TypicalPets.PLUM);
+        List<UniqueId> ids = Arrays.asList(TypicalPets.PLUM.getId(), TypicalPets.DOJA.getId());
+        assertEquals(Arrays.asList(TypicalPets.PLUM, TypicalPets.DOJA), uniquePetList.getPetsFromId(ids));
+    }
+
+    @Test
+    public void getPetsFromId_missingAndRepeatedIds_skipsThem() {
+        uniquePetList.add(TypicalPets.DOJA);
+        List<UniqueId> ids = Arrays.asList(TypicalPets.PLUM.getId(), TypicalPets.DOJA.getId(),
+                TypicalPets.DOJA.getId());
+        assertEquals(Collections.singletonList(TypicalPets.DOJA), uniquePetList.getPetsFromId(ids));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
                 -> uniquePetList.asUnmodifiableObservableList().remove(0));
     }
 
+    private static int[] toArray(UniquePetList.Positions positions) {
+        int[] array = new int[positions.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = positions.get(i);
+        }
+        return array;
+    }
 }
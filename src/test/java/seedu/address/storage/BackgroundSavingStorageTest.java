@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalBuyers;
+
+public class BackgroundSavingStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundSavingStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterSave_flushedChangesReadBack() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        BackgroundSavingStorage storage = createStorage(new JournaledAddressBookStorage(filePath));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setBuyers(TypicalBuyers.getTypicalBuyers());
+        storage.saveAddressBook(addressBook);
+
+        // Changes made after a save is made are not in that save
+        addressBook.addBuyer(new PersonBuilder().withName("Hoon Meier").buildBuyer());
+        storage.saveAddressBook(addressBook);
+        addressBook.removeBuyer(TypicalBuyers.ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(Optional.empty(), storage.takeSaveError());
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_writesLastWholeSaveOnly() throws Exception {
+        RecordingAddressBookStorage addressBookStorage =
+                new RecordingAddressBookStorage(testFolder.resolve("ab.json"));
+        BackgroundSavingStorage storage = createStorage(addressBookStorage);
+
+        storage.saveAddressBook(new AddressBook());
+        addressBookStorage.isFirstWriteStarted.await();
+        for (int i = 0; i < 4; i++) {
+            storage.saveAddressBook(new AddressBook());
+        }
+        addressBookStorage.isFirstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(Arrays.asList(0, 4), addressBookStorage.writtenSaves);
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_errorTakenOnce() throws Exception {
+        IOException error = new IOException("dummy exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) {
+                return new AddressBookSave(getAddressBookFilePath(), true, () -> {
+                    throw error;
+                });
+            }
+        };
+        BackgroundSavingStorage storage = createStorage(addressBookStorage);
+
+        storage.saveAddressBook(new AddressBook());
+        storage.flush();
+        assertEquals(Optional.of(error), storage.takeSaveError());
+        assertFalse(storage.takeSaveError().isPresent());
+    }
+
+    private BackgroundSavingStorage createStorage(AddressBookStorage addressBookStorage) {
+        return new BackgroundSavingStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+    }
+
+    /**
+     * An {@code AddressBookStorage} whose saves record their number instead of being written, and whose first save
+     * waits until it is released.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch isFirstWriteStarted = new CountDownLatch(1);
+        private final CountDownLatch isFirstWriteReleased = new CountDownLatch(1);
+        private final List<Integer> writtenSaves = Collections.synchronizedList(new ArrayList<>());
+        private int preparedSaveCount;
+
+        RecordingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook) {
+            int saveNumber = preparedSaveCount++;
+            return new AddressBookSave(getAddressBookFilePath(), true, () -> {
+                isFirstWriteStarted.countDown();
+                try {
+                    isFirstWriteReleased.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                writtenSaves.add(saveNumber);
+            });
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Supplier;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PetBuilder;
+import seedu.address.testutil.TypicalBuyers;
+import seedu.address.testutil.TypicalDeliverers;
+import seedu.address.testutil.TypicalSuppliers;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder.resolve("ab.bin"))
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_readBackSame() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        AddressBook original = getAddressBook();
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertSame(readBack.getBuyerList().get(1), readBack.getOrderList().get(0).getBuyer());
+        Supplier supplier = readBack.getPetList().get(0).getSupplier();
+        assertSame(readBack.getSupplierList().get(readBack.getSupplierList().indexOf(supplier)), supplier);
+    }
+
+    @Test
+    public void saveAddressBook_orderOfUnknownBuyer_throwsIoException() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addOrder(new OrderBuilder().withBuyer(TypicalBuyers.ALICE).build());
+        assertThrows(IOException.class, JsonAdaptedOrder.MESSAGE_UNKNOWN_BUYER.replace("%s",
+                OwnerKey.of(TypicalBuyers.ALICE)), () -> new BinaryAddressBookStorage(testFolder.resolve("ab.bin"))
+                .saveAddressBook(addressBook));
+    }
+
+    @Test
+    public void readAddressBook_cutOffOrChangedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getAddressBook());
+        byte[] data = Files.readAllBytes(filePath);
+
+        Files.write(filePath, Arrays.copyOf(data, data.length - 1));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        byte[] changedData = data.clone();
+        changedData[data.length / 2]++;
+        Files.write(filePath, changedData);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+
+        FileUtil.writeToFile(filePath, "{ \"buyers\" : [] }");
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_otherVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getAddressBook());
+        byte[] data = Files.readAllBytes(filePath);
+        data[7] = BinaryAddressBookStorage.FORMAT_VERSION + 1;
+        Files.write(filePath, data);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_sourceFileChanged_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        Path sourceFilePath = testFolder.resolve("ab.json");
+        FileUtil.writeToFile(sourceFilePath, "source");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBook();
+        storage.prepareSave(original, filePath, sourceFilePath).write();
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath, sourceFilePath).get()));
+
+        FileUtil.writeToFile(sourceFilePath, "changed source");
+        assertFalse(storage.readAddressBook(filePath, sourceFilePath).isPresent());
+        Files.delete(sourceFilePath);
+        assertFalse(storage.readAddressBook(filePath, sourceFilePath).isPresent());
+    }
+
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setBuyers(TypicalBuyers.getTypicalBuyers());
+        addressBook.setSuppliers(TypicalSuppliers.getTypicalSuppliers());
+        addressBook.setDeliverers(TypicalDeliverers.getTypicalDeliverers());
+        Buyer buyer = addressBook.getBuyerList().get(1);
+        Order order = new OrderBuilder().withBuyer(buyer).withAdditionalRequests("Free shipping", "Vaccinated")
+                .build();
+        addressBook.addOrder(order);
+        addressBook.addPet(new PetBuilder().withName("Doja").withCertificates("Noble blood").build());
+        addressBook.addPet(new PetBuilder().withName("Plum").withSpecies("cat").build());
+        addressBook.addBuyer(new PersonBuilder().withName("Zoe Buyer").withAddress("Café Straße 5, 東京")
+                .buildBuyer());
+        return addressBook;
+    }
+}
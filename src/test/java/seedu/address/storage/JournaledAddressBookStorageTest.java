@@ -0,0 +1,355 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Supplier;
+import seedu.address.model.pet.Pet;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PetBuilder;
+import seedu.address.testutil.TypicalSuppliers;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(testFolder.resolve("ab.json"))
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_onlyAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Buyer buyer = buildBuyer("Benson Meier");
+        addressBook.addBuyer(buyer);
+        addOrder(addressBook, buyer);
+        addressBook.setBuyer(addressBook.getBuyerList().get(0), buildBuyer("Alice Renamed"));
+        Pet pet = addressBook.getPetList().get(0);
+        addressBook.setPet(pet, new Pet(pet.getId(), pet.getName(), pet.getSupplier(), pet.getColor(),
+                pet.getColorPattern(), pet.getDateOfBirth(), pet.getSpecies(), pet.getWeight(), pet.getHeight(),
+                pet.getVaccinationStatus(), pet.getPrice(), pet.getCertificates()));
+        addressBook.removePet(addressBook.getPetList().get(1));
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_buyerOfOrdersRenamed_ordersReadBackWithRenamedBuyer() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        ModelManager model = new ModelManager(getAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+
+        Buyer buyer = model.getAddressBook().getBuyerList().get(0);
+        Order order = new OrderBuilder().withBuyer(buyer).build();
+        buyer.addOrders(Collections.singletonList(order.getId()));
+        model.addOrder(order);
+        storage.saveAddressBook(model.getAddressBook());
+        Buyer renamedBuyer = new PersonBuilder(buyer).withName("Alice Renamed").buildBuyer();
+        renamedBuyer.addOrders(buyer.getOrderIds());
+        model.setBuyer(buyer, renamedBuyer);
+        storage.saveAddressBook(model.getAddressBook());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(model.getAddressBook(), new AddressBook(readBack));
+        assertSame(readBack.getBuyerList().get(0), readBack.getOrderList().get(0).getBuyer());
+        assertEquals(renamedBuyer.getName(), readBack.getOrderList().get(0).getBuyer().getName());
+    }
+
+    @Test
+    public void saveAddressBook_ownersOfOrdersAndPetsAddedAndRenamed_readBackWithTheirOwners() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        for (int i = 0; i < 20; i++) {
+            Buyer buyer = buildBuyer("Buyer " + i);
+            addressBook.addBuyer(buyer);
+            addOrder(addressBook, buyer);
+            Supplier supplier = new PersonBuilder().withName("Supplier " + i).buildSupplier();
+            addressBook.addSupplier(supplier);
+            Pet pet = new PetBuilder().withName("Pet " + i).withSupplier(supplier).build();
+            supplier.addPets(Collections.singletonList(pet.getId()));
+            addressBook.addPet(pet);
+        }
+        for (int i = 0; i < 20; i += 2) {
+            Buyer buyer = addressBook.getBuyerList().get(i + 1);
+            Buyer renamedBuyer = new PersonBuilder(buyer).withName("Renamed buyer " + i).buildBuyer();
+            renamedBuyer.addOrders(buyer.getOrderIds());
+            addressBook.setBuyer(buyer, renamedBuyer);
+            Supplier supplier = addressBook.getSupplierList().get(addressBook.getSupplierList().size() - 1 - i);
+            Supplier renamedSupplier = new PersonBuilder(supplier).withName("Renamed supplier " + i).buildSupplier();
+            renamedSupplier.addPets(supplier.getPetIds());
+            addressBook.setSupplier(supplier, renamedSupplier);
+        }
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(readBack));
+        for (Order order : readBack.getOrderList()) {
+            assertSame(readBack.getBuyerList().get(readBack.getBuyerList().indexOf(order.getBuyer())),
+                    order.getBuyer());
+        }
+        for (Pet pet : readBack.getPetList()) {
+            assertSame(readBack.getSupplierList().get(readBack.getSupplierList().indexOf(pet.getSupplier())),
+                    pet.getSupplier());
+        }
+    }
+
+    @Test
+    public void readAddressBook_snapshotUnchanged_readsBinaryCopy() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook addressBook = getAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getBinarySnapshotFilePath(filePath)));
+
+        // The snapshot is replaced by one that cannot be read, but looks unchanged, so only the binary copy is read.
+        FileTime lastModified = Files.getLastModifiedTime(filePath);
+        byte[] unreadableSnapshot = new byte[(int) Files.size(filePath)];
+        Arrays.fill(unreadableSnapshot, (byte) '!');
+        Files.write(filePath, unreadableSnapshot);
+        Files.setLastModifiedTime(filePath, lastModified);
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotEditedByHand_readsSnapshotAndWritesBinaryCopy() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = JournaledAddressBookStorage.getBinarySnapshotFilePath(filePath);
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getAddressBook());
+        byte[] binaryCopy = Files.readAllBytes(binaryFilePath);
+
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath).replace("Alice Pauline", "Alice Edited"));
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals("Alice Edited", readBack.getBuyerList().get(0).getName().fullName);
+        assertFalse(Arrays.equals(binaryCopy, Files.readAllBytes(binaryFilePath)));
+        assertEquals(new AddressBook(readBack),
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook(binaryFilePath, filePath)
+                        .get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_sortedOrTooManyRecords_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, true, 2);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addBuyer(buildBuyer("Benson Meier"));
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+        addressBook.sortBuyer(Comparator.comparing(buyer -> buyer.getName().toString(), Comparator.reverseOrder()));
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalFilePath));
+
+        addressBook.addBuyer(buildBuyer("Carl Kurz"));
+        storage.saveAddressBook(addressBook);
+        addressBook.addBuyer(buildBuyer("Daniel Meier"));
+        addressBook.addBuyer(buildBuyer("Elle Meyer"));
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_cutOffLastRecord_ignoresRecord() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addBuyer(buildBuyer("Benson Meier"));
+        storage.saveAddressBook(addressBook);
+
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        Files.write(journalFilePath, "{\"type\":\"buyer\",\"key\":\"Carl".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        Files.write(journalFilePath, "\n{\"type\":\"buyer\",\"key\":\"Carl\"}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_journalOfEarlierSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePet(addressBook.getPetList().get(0));
+        storage.saveAddressBook(addressBook);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        // As if the application stopped after writing the next snapshot, but before deleting the journal.
+        AddressBook nextAddressBook = getAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(nextAddressBook);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(nextAddressBook,
+                new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void trackAddressBook_copyOfAddressBookRead_changesAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getAddressBook());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackAddressBook(addressBook);
+        addressBook.addBuyer(buildBuyer("Benson Meier"));
+        storage.saveAddressBook(addressBook);
+        addressBook.addBuyer(buildBuyer("Carl Kurz"));
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+
+        // A later start appends to the same journal.
+        storage = new JournaledAddressBookStorage(filePath);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackAddressBook(addressBook);
+        addressBook.removeBuyer(addressBook.getBuyerList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void trackAddressBook_journalCutOff_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addBuyer(buildBuyer("Benson Meier"));
+        storage.saveAddressBook(addressBook);
+        Files.write(journalFilePath, "{\"type\":\"buyer\"".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        storage = new JournaledAddressBookStorage(filePath);
+        addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.trackAddressBook(addressBook);
+        addressBook.addBuyer(buildBuyer("Carl Kurz"));
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_randomChanges_readBackSame() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // Names are reused, so that buyers are renamed to, and added with, the names of other buyers.
+        Random random = new Random(15);
+        List<String> names = new ArrayList<>();
+        for (char letter = 'A'; letter <= 'H'; letter++) {
+            names.add("Buyer " + letter);
+        }
+        for (int i = 0; i < 300; i++) {
+            List<Buyer> buyers = addressBook.getBuyerList();
+            Buyer buyer = buildBuyer(names.get(random.nextInt(names.size())));
+            int operation = random.nextInt(5);
+            if (operation == 0 && !addressBook.hasBuyer(buyer)) {
+                addressBook.addBuyer(buyer);
+            } else if (operation == 1 && !buyers.isEmpty() && !addressBook.hasBuyer(buyer)) {
+                addressBook.setBuyer(buyers.get(random.nextInt(buyers.size())), buyer);
+            } else if (operation == 2 && !buyers.isEmpty()) {
+                addressBook.removeBuyer(buyers.get(random.nextInt(buyers.size())));
+            } else if (operation == 3 && !buyers.isEmpty()) {
+                addOrder(addressBook, buyers.get(random.nextInt(buyers.size())));
+            } else if (operation == 4) {
+                List<Order> orders = new ArrayList<>(addressBook.getOrderList());
+                Collections.shuffle(orders, random);
+                addressBook.removeOrders(orders.subList(0, Math.min(orders.size(), 3)));
+            }
+
+            if (random.nextInt(3) == 0) {
+                storage.saveAddressBook(addressBook);
+                assertEquals(addressBook,
+                        new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+            }
+        }
+    }
+
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addBuyer(buildBuyer("Alice Pauline"));
+        addressBook.setSuppliers(TypicalSuppliers.getTypicalSuppliers());
+        addressBook.addPet(new PetBuilder().withName("Doja").build());
+        addressBook.addPet(new PetBuilder().withName("Plum").withSpecies("cat").build());
+        return addressBook;
+    }
+
+    private static Buyer buildBuyer(String name) {
+        return new PersonBuilder().withName(name).buildBuyer();
+    }
+
+    /**
+     * Adds an order of {@code buyer} to {@code addressBook} the way the add order command does.
+     */
+    private static void addOrder(AddressBook addressBook, Buyer buyer) {
+        Order order = new OrderBuilder().withBuyer(buyer).build();
+        buyer.addOrders(Collections.singletonList(order.getId()));
+        addressBook.addOrder(order);
+    }
+}
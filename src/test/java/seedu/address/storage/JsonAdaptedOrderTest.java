@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.UniqueId;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.order.Order;
 import seedu.address.model.order.OrderStatus;
 import seedu.address.model.order.Price;
 import seedu.address.model.order.PriceRange;
@@ -39,7 +41,27 @@ public class JsonAdaptedOrderTest {
     @Test
     public void toModelType_validOrderDetails_returnsOrder() throws Exception {
         JsonAdaptedOrder order = new JsonAdaptedOrder(TypicalOrders.ORDER_1);
-        assertEquals(TypicalOrders.ORDER_1, order.toModelType());
+        Buyer buyer = TypicalOrders.ORDER_1.getBuyer();
+        Order modelOrder = order.toModelType(key -> key.equals(OwnerKey.of(buyer)) ? buyer : null);
+        assertEquals(TypicalOrders.ORDER_1, modelOrder);
+        assertSame(buyer, modelOrder.getBuyer());
+    }
+
+    @Test
+    public void toModelType_unknownBuyerKey_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(TypicalOrders.ORDER_1);
+        String expectedMessage = String.format(JsonAdaptedOrder.MESSAGE_UNKNOWN_BUYER,
+                OwnerKey.of(TypicalOrders.ORDER_1.getBuyer()));
+        assertThrows(IllegalValueException.class, expectedMessage, order::toModelType);
+    }
+
+    @Test
+    public void toModelType_copiedBuyer_returnsKnownBuyer() throws Exception {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(VALID_BUYER, VALID_PRICE_RANGE, VALID_REQUEST,
+                VALID_ADDITIONAL_REQUEST, VALID_BY_DATE, VALID_SETTLED_PRICE, VALID_ORDER_STATUS, VALID_UNIQUE_ID);
+        Buyer buyer = TypicalOrders.ORDER_1.getBuyer();
+        assertEquals(buyer, order.toModelType().getBuyer());
+        assertSame(buyer, order.toModelType(key -> buyer).getBuyer());
     }
 
     @Test
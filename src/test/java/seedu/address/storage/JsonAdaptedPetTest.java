@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -60,9 +63,18 @@ public class JsonAdaptedPetTest {
     @Test
     public void toModelType_validPetDetails_returnsPet() throws Exception {
         JsonAdaptedPet pet = new JsonAdaptedPet(TypicalPets.DOJA);
-        Pet temp = TypicalPets.DOJA;
-        Pet modelPet = pet.toModelType();
+        Supplier supplier = TypicalPets.DOJA.getSupplier();
+        Pet modelPet = pet.toModelType(key -> key.equals(OwnerKey.of(supplier)) ? supplier : null);
         assertEquals(TypicalPets.DOJA, modelPet);
+        assertSame(supplier, modelPet.getSupplier());
+    }
+
+    @Test
+    public void toModelType_unknownSupplierKey_throwsIllegalValueException() {
+        JsonAdaptedPet pet = new JsonAdaptedPet(TypicalPets.DOJA);
+        String expectedMessage = String.format(JsonAdaptedPet.MESSAGE_UNKNOWN_SUPPLIER,
+                OwnerKey.of(TypicalPets.DOJA.getSupplier()));
+        assertThrows(IllegalValueException.class, expectedMessage, pet::toModelType);
     }
 
     @Test
@@ -327,14 +339,19 @@ public class JsonAdaptedPetTest {
     }
 
     @Test
-    public void toModelType_invalidUniqueId_throwsIllegalValueException() {
-        UniqueId invalidId = PET_ID_GENERATOR.next();
-        UniqueIdGenerator.addToStoredIdPet(invalidId);
+    public void toModelType_repeatedUniqueId_throwsIllegalValueException() {
+        String repeatedId = PET_ID_GENERATOR.next().getIdToString();
         JsonAdaptedPet pet = new JsonAdaptedPet(VALID_PET_NAME, VALID_SUPPLIER, VALID_COLOR, VALID_COLOR_PATTERN,
                 VALID_DATE_OF_BIRTH, VALID_SPECIES, VALID_WEIGHT, VALID_HEIGHT, VALID_VACCINATION_STATUS, VALID_PRICE,
-                VALID_CERTIFICATES, invalidId.getIdToString());
-        String expectedMessage = "Repeated unique id for pet";
-        assertThrows(IllegalValueException.class, expectedMessage, pet::toModelType);
+                VALID_CERTIFICATES, repeatedId);
+        JsonAdaptedPet otherPet = new JsonAdaptedPet("Plum", VALID_SUPPLIER, VALID_COLOR, VALID_COLOR_PATTERN,
+                VALID_DATE_OF_BIRTH, VALID_SPECIES, VALID_WEIGHT, VALID_HEIGHT, VALID_VACCINATION_STATUS, VALID_PRICE,
+                VALID_CERTIFICATES, repeatedId);
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                Arrays.asList(pet, otherPet));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PET_ID,
+                addressBook::toModelType);
     }
 
     @Test
@@ -55,6 +55,21 @@ public class JsonAdaptedPriceRangeTest {
         assertThrows(IllegalValueException.class, expectedMessage, priceRange::toModelType);
     }
 
+    @Test
+    public void toModelType_lowerBoundAboveUpperBound_throwsIllegalValueException() {
+        JsonAdaptedPriceRange priceRange = new JsonAdaptedPriceRange(VALID_LOWER_BOUND, VALID_UPPER_BOUND);
+        String expectedMessage = PriceRange.MESSAGE_USAGE;
+        assertThrows(IllegalValueException.class, expectedMessage, priceRange::toModelType);
+    }
+
+    @Test
+    public void toModelType_notApplicableUpperBound_returnsPriceRange() throws Exception {
+        PriceRange expected = new PriceRange(new Price(VALID_LOWER_BOUND), Price.getNotApplicablePrice());
+
+        JsonAdaptedPriceRange priceRange = new JsonAdaptedPriceRange(Price.NOT_APPLICABLE_PRICE, VALID_LOWER_BOUND);
+        assertEquals(priceRange.toModelType(), expected);
+    }
+
     @Test
     public void toModelType_nullUpperBound_throwsIllegalValueException() {
         JsonAdaptedPriceRange priceRange = new JsonAdaptedPriceRange(null, VALID_LOWER_BOUND);
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Supplier;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PetBuilder;
+import seedu.address.testutil.TypicalBuyers;
+import seedu.address.testutil.TypicalDeliverers;
+import seedu.address.testutil.TypicalSuppliers;
+
+public class JsonAddressBookReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookReader.read(null, progress -> { }));
+    }
+
+    @Test
+    public void read_savedAddressBook_sameAsReadWhole() throws Exception {
+        AddressBook original = getAddressBook();
+        Path filePath = saveAddressBook(original);
+
+        AddressBook addressBook = JsonAddressBookReader.read(filePath, progress -> { });
+        assertEquals(original, addressBook);
+        assertEquals(JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType(),
+                addressBook);
+        assertSame(addressBook.getBuyerList().get(0), addressBook.getOrderList().get(0).getBuyer());
+    }
+
+    @Test
+    public void read_arraysLongerThanBatch_sameAsReadWhole() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < JsonAddressBookReader.BATCH_SIZE + 1; i++) {
+            Buyer buyer = new PersonBuilder().withName("Buyer " + i).buildBuyer();
+            Order order = new OrderBuilder().withBuyer(buyer).build();
+            buyer.addOrders(Collections.singletonList(order.getId()));
+            original.addBuyer(buyer);
+            original.addOrder(order);
+        }
+        Path filePath = saveAddressBook(original);
+
+        AddressBook addressBook = JsonAddressBookReader.read(filePath, progress -> { });
+        assertEquals(original, addressBook);
+        assertSame(addressBook.getBuyerList().get(JsonAddressBookReader.BATCH_SIZE),
+                addressBook.getOrderList().get(JsonAddressBookReader.BATCH_SIZE).getBuyer());
+    }
+
+    @Test
+    public void read_ordersAndPetsBeforeOwners_ownersGiven() throws Exception {
+        AddressBook original = getAddressBook();
+        Path filePath = saveAddressBook(original);
+        Map<?, ?> fields = JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), LinkedHashMap.class);
+        List<Map.Entry<?, ?>> entries = new ArrayList<>(fields.entrySet());
+        Collections.reverse(entries);
+        Map<Object, Object> reversedFields = new LinkedHashMap<>();
+        entries.forEach(entry -> reversedFields.put(entry.getKey(), entry.getValue()));
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(reversedFields));
+
+        AddressBook addressBook = JsonAddressBookReader.read(filePath, progress -> { });
+        assertEquals(original, addressBook);
+        assertSame(addressBook.getBuyerList().get(0), addressBook.getOrderList().get(0).getBuyer());
+        Supplier supplier = addressBook.getPetList().get(0).getSupplier();
+        assertSame(addressBook.getSupplierList().get(addressBook.getSupplierList().indexOf(supplier)), supplier);
+    }
+
+    @Test
+    public void read_largeFile_progressReported() throws Exception {
+        Path filePath = saveAddressBook(getAddressBook());
+        StringBuilder padding = new StringBuilder();
+        while (padding.length() < JsonAddressBookReader.PROGRESS_MIN_FILE_SIZE) {
+            padding.append("padding ");
+        }
+        // The unknown field is skipped, but makes the file large enough for its progress to be reported.
+        FileUtil.writeToFile(filePath, FileUtil.readFromFile(filePath)
+                .replaceFirst("\\{", "{ \"padding\" : \"" + padding + "\","));
+
+        List<Double> reportedProgress = new ArrayList<>();
+        JsonAddressBookReader.read(filePath, reportedProgress::add);
+        assertTrue(reportedProgress.size() >= 2);
+        for (int i = 1; i < reportedProgress.size(); i++) {
+            assertTrue(reportedProgress.get(i) >= reportedProgress.get(i - 1));
+        }
+        assertEquals(1.0, (double) reportedProgress.get(reportedProgress.size() - 1));
+    }
+
+    @Test
+    public void read_smallFile_noProgressReported() throws Exception {
+        Path filePath = saveAddressBook(getAddressBook());
+        JsonAddressBookReader.read(filePath, progress -> {
+            throw new AssertionError("Progress should not be reported for a small file");
+        });
+    }
+
+    @Test
+    public void read_missingArray_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        FileUtil.writeToFile(filePath, "{ \"buyers\" : [], \"suppliers\" : [], \"deliverers\" : [], \"orders\" : [] }");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(filePath, progress -> { }));
+    }
+
+    @Test
+    public void read_duplicateBuyers_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addBuyer(TypicalBuyers.ALICE);
+        Path filePath = saveAddressBook(addressBook);
+        String json = FileUtil.readFromFile(filePath);
+        String buyer = json.substring(json.indexOf('{', json.indexOf("\"buyers\"")), json.indexOf("} ]") + 1);
+        FileUtil.writeToFile(filePath, json.replace(buyer, buyer + ", " + buyer));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_BUYER, () ->
+                JsonAddressBookReader.read(filePath, progress -> { }));
+    }
+
+    private Path saveAddressBook(AddressBook addressBook) throws IOException {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return filePath;
+    }
+
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setBuyers(TypicalBuyers.getTypicalBuyers());
+        addressBook.setSuppliers(TypicalSuppliers.getTypicalSuppliers());
+        addressBook.setDeliverers(TypicalDeliverers.getTypicalDeliverers());
+        Buyer buyer = addressBook.getBuyerList().get(0);
+        Order order = new OrderBuilder().withBuyer(buyer).build();
+        addressBook.addOrder(order);
+        addressBook.addPet(new PetBuilder().withName("Doja").build());
+        return addressBook;
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
 //import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 //import static seedu.address.testutil.TypicalPersons.ALICE;
 //import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +12,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 //import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -60,6 +66,60 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_version1AddressBook_ownersResolvedAndSavedByKey() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("version1AddressBook.json").get();
+        assertSame(addressBook.getBuyerList().get(0), addressBook.getOrderList().get(0).getBuyer());
+        assertSame(addressBook.getSupplierList().get(0), addressBook.getPetList().get(0).getSupplier());
+
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        String json = FileUtil.readFromFile(filePath);
+        assertTrue(json.contains("\"buyerKey\" : \"Alice Pauline <alice@example.com>\""));
+        assertFalse(json.contains("\"buyer\" :"));
+        assertFalse(json.contains("\"supplier\" :"));
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(addressBook), new AddressBook(readBack));
+        assertSame(readBack.getBuyerList().get(0), readBack.getOrderList().get(0).getBuyer());
+        assertSame(readBack.getSupplierList().get(0), readBack.getPetList().get(0).getSupplier());
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : " + (JsonSerializableAddressBook.VERSION + 1) + " }");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_compact_writtenOnSingleLineAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        ReadOnlyAddressBook original = readAddressBook("version1AddressBook.json").get();
+        new JsonAddressBookStorage(filePath, true).saveAddressBook(original);
+
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        assertEquals(new AddressBook(original),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressedFileName_compressedAndReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        ReadOnlyAddressBook original = readAddressBook("version1AddressBook.json").get();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        byte[] data = Files.readAllBytes(filePath);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (data[0] & 0xff) | (data[1] & 0xff) << 8);
+        assertEquals(new AddressBook(original),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // A compressed file is read whatever its name
+        Path renamedFilePath = Files.move(filePath, testFolder.resolve("Renamed.json"));
+        assertEquals(new AddressBook(original),
+                new AddressBook(new JsonAddressBookStorage(renamedFilePath).readAddressBook().get()));
+    }
+
     //TODO Uncomment this
     //    @Test
     //    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonSerializableAddressBookTest {
+
+    private static final int BUYER_COUNT = JsonAddressBookBuilder.PARALLEL_CONVERSION_THRESHOLD * 2;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void toModelType_longLists_sameAsConvertedOneAtATime() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            Buyer buyer = new PersonBuilder().withName("Buyer " + i).buildBuyer();
+            Order order = new OrderBuilder().withBuyer(buyer).build();
+            buyer.addOrders(Collections.singletonList(order.getId()));
+            addressBook.addBuyer(buyer);
+            addressBook.addOrder(order);
+        }
+        JsonSerializableAddressBook serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+
+        AddressBook convertedInParallel = addTo(new JsonAddressBookBuilder(pool), serializableAddressBook);
+        assertEquals(serializableAddressBook.toModelType(), convertedInParallel);
+        assertEquals(addressBook, convertedInParallel);
+    }
+
+    @Test
+    public void toModelType_invalidBuyerBeforeDuplicateBuyer_invalidBuyerReported() {
+        List<JsonAdaptedBuyer> buyers = getJsonAdaptedBuyers();
+        buyers.set(BUYER_COUNT / 2, getJsonAdaptedBuyer("R@chel"));
+        buyers.set(BUYER_COUNT - 1, buyers.get(0));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> toModelType(buyers));
+    }
+
+    @Test
+    public void toModelType_duplicateBuyerBeforeInvalidBuyer_duplicateBuyerReported() {
+        List<JsonAdaptedBuyer> buyers = getJsonAdaptedBuyers();
+        buyers.set(BUYER_COUNT / 2, buyers.get(0));
+        buyers.set(BUYER_COUNT - 1, getJsonAdaptedBuyer("R@chel"));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_BUYER, () ->
+                toModelType(buyers));
+    }
+
+    private AddressBook toModelType(List<JsonAdaptedBuyer> buyers) throws IllegalValueException {
+        return addTo(new JsonAddressBookBuilder(pool), new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.VERSION, buyers, List.of(), List.of(), List.of(), List.of()));
+    }
+
+    private static AddressBook addTo(JsonAddressBookBuilder builder,
+            JsonSerializableAddressBook serializableAddressBook) throws IllegalValueException {
+        serializableAddressBook.addTo(builder);
+        return builder.build();
+    }
+
+    private static List<JsonAdaptedBuyer> getJsonAdaptedBuyers() {
+        List<JsonAdaptedBuyer> buyers = new ArrayList<>();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            buyers.add(getJsonAdaptedBuyer("Buyer " + i));
+        }
+        return buyers;
+    }
+
+    private static JsonAdaptedBuyer getJsonAdaptedBuyer(String name) {
+        Buyer buyer = new PersonBuilder().buildBuyer();
+        return new JsonAdaptedBuyer(buyer.getPersonCategory().toString(), name, buyer.getPhone().toString(),
+                buyer.getEmail().toString(), buyer.getAddress().toString(), buyer.getLocation().toString(),
+                List.of());
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.person.Buyer;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PetBuilder;
+import seedu.address.testutil.TypicalSuppliers;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveShardSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ShardedAddressBookStorage(testFolder.resolve("ab.json"), false, 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_oneEntityEdited_onlyItsShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> shardFileNames = getShardFileNames(filePath);
+
+        addressBook.setBuyer(addressBook.getBuyerList().get(2), buildBuyer("Carl Renamed"));
+        storage.saveAddressBook(addressBook);
+
+        List<String> expectedFileNames = new ArrayList<>(shardFileNames);
+        expectedFileNames.remove("buyers-1-1.json");
+        expectedFileNames.add("buyers-1-2.json");
+        Collections.sort(expectedFileNames);
+        assertEquals(expectedFileNames, getShardFileNames(filePath));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_orderOfBuyerAdded_orderAndBuyerShardsWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addOrder(addressBook, addressBook.getBuyerList().get(4));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(List.of("buyers-2-2.json", "orders-0-2.json"), getShardFileNames(filePath).stream()
+                .filter(fileName -> fileName.endsWith("-2.json")).collect(Collectors.toList()));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+        byte[] manifest = Files.readAllBytes(filePath);
+        List<String> shardFileNames = getShardFileNames(filePath);
+
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(manifest, Files.readAllBytes(filePath));
+        assertEquals(shardFileNames, getShardFileNames(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyChangedShardsWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new ShardedAddressBookStorage(filePath, false, SHARD_SIZE).saveAddressBook(getAddressBook());
+        List<String> shardFileNames = getShardFileNames(filePath);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.removePet(addressBook.getPetList().get(1));
+        storage.saveAddressBook(addressBook);
+
+        List<String> expectedFileNames = new ArrayList<>(shardFileNames);
+        expectedFileNames.remove("pets-0-1.json");
+        expectedFileNames.add("pets-0-2.json");
+        Collections.sort(expectedFileNames);
+        assertEquals(expectedFileNames, getShardFileNames(filePath));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_wholeDataFile_readAndSplitWhenSaved() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        AddressBook addressBook = getAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        storage.saveAddressBook(readBack);
+
+        assertTrue(Files.isDirectory(ShardedAddressBookStorage.getShardDirectoryPath(filePath)));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new ShardedAddressBookStorage(filePath, false, SHARD_SIZE).saveAddressBook(getAddressBook());
+        Files.delete(ShardedAddressBookStorage.getShardDirectoryPath(filePath).resolve("pets-0-1.json"));
+
+        assertThrows(DataConversionException.class, () -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_toOtherFile_allShardsWritten() throws Exception {
+        ShardedAddressBookStorage storage =
+                new ShardedAddressBookStorage(testFolder.resolve("ab.json"), false, SHARD_SIZE);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressedManifest_shardsCompressed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json.gz");
+        AddressBook addressBook = getAddressBook();
+        new ShardedAddressBookStorage(filePath, false, SHARD_SIZE).saveAddressBook(addressBook);
+
+        assertTrue(getShardFileNames(filePath).stream().allMatch(fileName -> fileName.endsWith(".json.gz")));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_randomChanges_readBackSame() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+        AddressBook addressBook = getAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Random random = new Random(22);
+        for (int i = 0; i < 200; i++) {
+            List<Buyer> buyers = addressBook.getBuyerList();
+            Buyer buyer = buildBuyer("Buyer " + random.nextInt(20));
+            int operation = random.nextInt(5);
+            if (operation == 0 && !addressBook.hasBuyer(buyer)) {
+                addressBook.addBuyer(buyer);
+            } else if (operation == 1 && !buyers.isEmpty() && !addressBook.hasBuyer(buyer)) {
+                // Edits the buyer the way the model does, which gives the orders of the buyer to the edited one
+                Buyer target = buyers.get(random.nextInt(buyers.size()));
+                buyer.addOrders(target.getOrderIds());
+                addressBook.setBuyer(target, buyer);
+                addressBook.getOrderList().stream().filter(order -> order.getBuyer() == target)
+                        .forEach(order -> order.setBuyer(buyer));
+            } else if (operation == 2 && !buyers.isEmpty()) {
+                Buyer removedBuyer = buyers.get(random.nextInt(buyers.size()));
+                addressBook.removeOrders(addressBook.getOrderList().stream()
+                        .filter(order -> order.getBuyer() == removedBuyer).collect(Collectors.toList()));
+                addressBook.removeBuyer(removedBuyer);
+            } else if (operation == 3 && !buyers.isEmpty()) {
+                addOrder(addressBook, buyers.get(random.nextInt(buyers.size())));
+            } else if (operation == 4) {
+                List<Order> orders = new ArrayList<>(addressBook.getOrderList());
+                Collections.shuffle(orders, random);
+                addressBook.removeOrders(orders.subList(0, Math.min(orders.size(), 3)));
+            }
+
+            if (random.nextInt(3) == 0) {
+                storage.saveAddressBook(addressBook);
+                assertEquals(addressBook,
+                        new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+            }
+        }
+    }
+
+    private static List<String> getShardFileNames(Path filePath) throws IOException {
+        try (Stream<Path> shardFiles = Files.list(ShardedAddressBookStorage.getShardDirectoryPath(filePath))) {
+            return shardFiles.map(shardFile -> shardFile.getFileName().toString()).sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (String name : List.of("Alice Pauline", "Benson Meier", "Carl Kurz", "Daniel Meier", "Elle Meyer")) {
+            addressBook.addBuyer(buildBuyer(name));
+        }
+        addressBook.setSuppliers(TypicalSuppliers.getTypicalSuppliers());
+        addressBook.addPet(new PetBuilder().withName("Doja").build());
+        addressBook.addPet(new PetBuilder().withName("Plum").withSpecies("cat").build());
+        return addressBook;
+    }
+
+    private static Buyer buildBuyer(String name) {
+        return new PersonBuilder().withName(name).buildBuyer();
+    }
+
+    /**
+     * Adds an order of {@code buyer} to {@code addressBook} the way the add order command does.
+     */
+    private static void addOrder(AddressBook addressBook, Buyer buyer) {
+        Order order = new OrderBuilder().withBuyer(buyer).build();
+        buyer.addOrders(Collections.singletonList(order.getId()));
+        addressBook.addOrder(order);
+    }
+}
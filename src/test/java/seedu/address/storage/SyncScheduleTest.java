@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DurabilityPolicy;
+
+public class SyncScheduleTest {
+
+    private static final long INTERVAL = DurabilityPolicy.PERIODIC_SYNC_INTERVAL.toNanos();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SyncSchedule(null));
+    }
+
+    @Test
+    public void shouldSync_always_everyWrite() {
+        SyncSchedule schedule = new SyncSchedule(DurabilityPolicy.ALWAYS);
+        assertTrue(schedule.shouldSync());
+        assertTrue(schedule.shouldSync());
+    }
+
+    @Test
+    public void shouldSync_never_noWrite() {
+        SyncSchedule schedule = new SyncSchedule(DurabilityPolicy.NEVER);
+        assertFalse(schedule.shouldSync());
+        assertFalse(schedule.shouldSync());
+    }
+
+    @Test
+    public void shouldSync_periodic_firstWriteAndOncePerInterval() {
+        long[] now = {-INTERVAL / 2};
+        SyncSchedule schedule = new SyncSchedule(DurabilityPolicy.PERIODIC, () -> now[0]);
+
+        // The first write is forced whatever the time
+        assertTrue(schedule.shouldSync());
+        now[0] += INTERVAL - 1;
+        assertFalse(schedule.shouldSync());
+        now[0] += 1;
+        assertTrue(schedule.shouldSync());
+        assertFalse(schedule.shouldSync());
+    }
+
+    @Test
+    public void syncLater_periodic_syncsOnceIntervalPassed() {
+        long[] now = {0};
+        List<Runnable> tasks = new ArrayList<>();
+        List<Long> delays = new ArrayList<>();
+        SyncSchedule schedule = new SyncSchedule(DurabilityPolicy.PERIODIC, () -> now[0], (task, delayNanos) -> {
+            tasks.add(task);
+            delays.add(delayNanos);
+        });
+        assertTrue(schedule.shouldSync());
+
+        now[0] += INTERVAL / 5;
+        assertFalse(schedule.shouldSync());
+        schedule.syncLater(List.of(testFolder.resolve("missing.json")));
+        now[0] += INTERVAL / 5;
+        assertFalse(schedule.shouldSync());
+        schedule.syncLater(List.of(testFolder.resolve("missing.json")));
+        assertEquals(List.of(INTERVAL - INTERVAL / 5), delays);
+
+        now[0] += INTERVAL;
+        tasks.get(0).run();
+        assertFalse(schedule.shouldSync());
+        schedule.syncLater(List.of(testFolder.resolve("missing.json")));
+        assertEquals(List.of(INTERVAL - INTERVAL / 5, INTERVAL), delays);
+    }
+
+    @Test
+    public void syncLater_alwaysOrNever_schedulesNothing() {
+        List<Runnable> tasks = new ArrayList<>();
+        for (DurabilityPolicy policy : List.of(DurabilityPolicy.ALWAYS, DurabilityPolicy.NEVER)) {
+            SyncSchedule schedule = new SyncSchedule(policy, () -> 0, (task, delayNanos) -> tasks.add(task));
+            schedule.syncLater(List.of(testFolder.resolve("missing.json")));
+        }
+        assertEquals(new ArrayList<>(), tasks);
+    }
+}